@@ -0,0 +1,9 @@
+#!/bin/bash
+# Replicates the primary service "mysql" from its first transaction on. The
+# database is created up front in case its creation on the primary is not logged.
+mysql -uroot -p"$MYSQL_ROOT_PASSWORD" <<-EOSQL
+	CREATE DATABASE IF NOT EXISTS mydatabase;
+	CHANGE REPLICATION SOURCE TO SOURCE_HOST='mysql', SOURCE_PORT=3306, SOURCE_USER='root',
+		SOURCE_PASSWORD='$MYSQL_ROOT_PASSWORD', SOURCE_AUTO_POSITION=1, GET_SOURCE_PUBLIC_KEY=1;
+	START REPLICA;
+EOSQL
\ No newline at end of file
@@ -0,0 +1,39 @@
+package io.github.neiroukh.gratitudejournal;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Helper for benchmarks of the representation layer. HAL links are built from
+ * the current request, so benchmarks bind a request to the benchmark thread,
+ * just like the servlet container does for a real request.
+ * 
+ * @author Afeef Neiroukh
+ */
+public final class BenchmarkRequests {
+	/**
+	 * Private constructor, as this class only provides static methods.
+	 */
+	private BenchmarkRequests() {
+	}
+
+	/**
+	 * Binds a GET-Request to the calling thread.
+	 * 
+	 * @param path The path of the request.
+	 */
+	public static void bind(String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.setServerName("journal.example.com");
+		request.setServerPort(8080);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	/**
+	 * Removes the request bound to the calling thread.
+	 */
+	public static void unbind() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+}
\ No newline at end of file
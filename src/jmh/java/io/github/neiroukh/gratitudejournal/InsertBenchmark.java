@@ -0,0 +1,160 @@
+package io.github.neiroukh.gratitudejournal;
+
+import io.github.neiroukh.gratitudejournal.journal.JournalService;
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+import io.github.neiroukh.gratitudejournal.user.User;
+import io.github.neiroukh.gratitudejournal.user.UserService;
+import io.github.neiroukh.gratitudejournal.user.dto.SimpleUserDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Benchmark of the insert throughput of users and journal entries for
+ * different id allocation and JDBC batch sizes.
+ *
+ * An id allocation size of 1 with a JDBC batch size of 0 reproduces the
+ * behaviour before the introduction of pooled id allocation: one round trip to
+ * the id table and one INSERT statement per row. The service connects to a
+ * MySQL container provided by {@link TestcontainersConfiguration}, which
+ * requires Docker.
+ *
+ * @author Afeef Neiroukh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class InsertBenchmark {
+	/**
+	 * Number of entries imported per invocation of {@link #importEntries()}.
+	 */
+	private static final int IMPORTED_ENTRIES = 1000;
+
+	/**
+	 * Number of ids allocated per round trip to the id table.
+	 */
+	@Param({ "1", "50" })
+	public int idAllocationSize;
+
+	/**
+	 * Number of statements grouped into a JDBC batch, 0 disables batching.
+	 */
+	@Param({ "0", "500" })
+	public int jdbcBatchSize;
+
+	/**
+	 * Application context of the service under test.
+	 */
+	private ConfigurableApplicationContext context;
+
+	/**
+	 * UserService of the service under test.
+	 */
+	private UserService userService;
+
+	/**
+	 * JournalService of the service under test.
+	 */
+	private JournalService journalService;
+
+	/**
+	 * Counter used to create unique user names.
+	 */
+	private final AtomicLong userCounter = new AtomicLong();
+
+	/**
+	 * Entries imported by {@link #importEntries()}, one per day before today.
+	 */
+	private List<DatedJournalEntryDTO> entries;
+
+	/**
+	 * Default constructor.
+	 */
+	public InsertBenchmark() {
+	}
+
+	/**
+	 * Starts the service with the configured id allocation and JDBC batch sizes.
+	 */
+	@Setup(Level.Trial)
+	public void startService() {
+		context = SpringApplication.from(GratitudeJournalApplication::main)
+				.with(TestcontainersConfiguration.class)
+				.run("--spring.main.web-application-type=none",
+						"--spring.jpa.properties.gratitudejournal.id.allocation_size=" + idAllocationSize,
+						"--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize)
+				.getApplicationContext();
+		userService = context.getBean(UserService.class);
+		journalService = context.getBean(JournalService.class);
+
+		LocalDate today = LocalDate.now();
+		entries = new ArrayList<>();
+		for (int i = 1; i <= IMPORTED_ENTRIES; i++)
+			entries.add(new DatedJournalEntryDTO(today.minusDays(i), JournalEntry.WellBeing.GOOD, "A", "AAA", "B",
+					"BBB"));
+	}
+
+	/**
+	 * Stops the service and its database container.
+	 */
+	@TearDown(Level.Trial)
+	public void stopService() {
+		context.close();
+	}
+
+	/**
+	 * Creates a new user with a unique user name.
+	 *
+	 * @return The created user.
+	 */
+	private User createNewUser() {
+		return userService.createUser("benchmarkUser" + userCounter.incrementAndGet(),
+				new SimpleUserDTO("benchmarkFirstName", "benchmarkLastName"));
+	}
+
+	/**
+	 * Measures the creation of users, each inserting a user and its journal.
+	 *
+	 * @return The created user.
+	 */
+	@Benchmark
+	public User createUser() {
+		return createNewUser();
+	}
+
+	/**
+	 * Measures the import of entries into the journal of a new user. The score is
+	 * reported per imported entry.
+	 *
+	 * @return The number of imported entries.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(IMPORTED_ENTRIES)
+	public int importEntries() {
+		return journalService.importEntries(createNewUser().getUserName(), entries.iterator());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package io.github.neiroukh.gratitudejournal;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Benchmark comparing the request throughput of the service running on
+ * platform threads against the virtual-thread execution mode at high
+ * concurrency.
+ *
+ * Both variants start the service with the "virtual-threads" profile, so they
+ * share the same JDBC pool configuration and only differ in the value of
+ * spring.threads.virtual.enabled. The service connects to a MySQL container
+ * provided by {@link TestcontainersConfiguration}, which requires Docker.
+ *
+ * @author Afeef Neiroukh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(512)
+public class RequestExecutionBenchmark {
+	/**
+	 * Whether the service handles requests on virtual threads.
+	 */
+	@Param({ "false", "true" })
+	public boolean virtualThreads;
+
+	/**
+	 * Application context of the service under test.
+	 */
+	private ConfigurableApplicationContext context;
+
+	/**
+	 * HTTP-Client shared by all benchmark threads.
+	 */
+	private HttpClient client;
+
+	/**
+	 * GET-Request on the journal of a preloaded user.
+	 */
+	private HttpRequest getEntriesRequest;
+
+	/**
+	 * GET-Request on a preloaded user.
+	 */
+	private HttpRequest getUserRequest;
+
+	/**
+	 * Default constructor.
+	 */
+	public RequestExecutionBenchmark() {
+	}
+
+	/**
+	 * Starts the service on a random port in the configured execution mode.
+	 */
+	@Setup(Level.Trial)
+	public void startService() {
+		context = SpringApplication.from(GratitudeJournalApplication::main)
+				.with(TestcontainersConfiguration.class)
+				.run("--server.port=0", "--spring.profiles.active=virtual-threads",
+						"--spring.threads.virtual.enabled=" + virtualThreads)
+				.getApplicationContext();
+
+		String baseUri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+		client = HttpClient.newHttpClient();
+		getEntriesRequest = HttpRequest.newBuilder(URI.create(baseUri + "/journal/test1UserNameJournal")).build();
+		getUserRequest = HttpRequest.newBuilder(URI.create(baseUri + "/user/test1UserName")).build();
+	}
+
+	/**
+	 * Stops the service and its database container.
+	 */
+	@TearDown(Level.Trial)
+	public void stopService() {
+		client.close();
+		context.close();
+	}
+
+	/**
+	 * Helper method to check that a request succeeded, so failed requests, such as
+	 * requests that timed out waiting for a JDBC connection, are not counted as
+	 * throughput.
+	 *
+	 * @param response The response of the request.
+	 * @return The HTTP status code of the response.
+	 * @throws IllegalStateException The request did not succeed.
+	 */
+	private static int checkStatus(HttpResponse<Void> response) {
+		if (response.statusCode() != 200)
+			throw new IllegalStateException("Request failed with status " + response.statusCode());
+		return response.statusCode();
+	}
+
+	/**
+	 * Measures GET-Requests on a user's journal.
+	 *
+	 * @return The HTTP status code of the response.
+	 * @throws IOException          The request failed.
+	 * @throws InterruptedException The benchmark thread was interrupted.
+	 */
+	@Benchmark
+	public int getEntries() throws IOException, InterruptedException {
+		return checkStatus(client.send(getEntriesRequest, BodyHandlers.discarding()));
+	}
+
+	/**
+	 * Measures GET-Requests on a user.
+	 *
+	 * @return The HTTP status code of the response.
+	 * @throws IOException          The request failed.
+	 * @throws InterruptedException The benchmark thread was interrupted.
+	 */
+	@Benchmark
+	public int getUser() throws IOException, InterruptedException {
+		return checkStatus(client.send(getUserRequest, BodyHandlers.discarding()));
+	}
+}
\ No newline at end of file
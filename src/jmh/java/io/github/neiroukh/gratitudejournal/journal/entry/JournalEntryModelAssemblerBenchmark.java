@@ -0,0 +1,95 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+import io.github.neiroukh.gratitudejournal.BenchmarkRequests;
+import io.github.neiroukh.gratitudejournal.hal.LinkStrategy;
+import io.github.neiroukh.gratitudejournal.journal.Journal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmark of {@link JournalEntryModelAssembler}, measuring the creation of
+ * the HAL representation of a single journal entry. Run with "-prof gc" to
+ * report the allocations per operation. Every benchmark is run for each
+ * {@link LinkStrategy}.
+ * 
+ * @author Afeef Neiroukh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JournalEntryModelAssemblerBenchmark {
+	/**
+	 * The strategy the assembler uses to create links.
+	 */
+	@Param({ "METHOD_ON", "TEMPLATE" })
+	public LinkStrategy linkStrategy;
+
+	/**
+	 * The assembler under test.
+	 */
+	private JournalEntryModelAssembler assembler;
+
+	/**
+	 * The journal entry to create the representation of.
+	 */
+	private JournalEntry journalEntry;
+
+	/**
+	 * Default constructor.
+	 */
+	public JournalEntryModelAssemblerBenchmark() {
+	}
+
+	/**
+	 * Creates the assembler and the journal entry and binds a request to the
+	 * benchmark thread.
+	 */
+	@Setup
+	public void setUp() {
+		assembler = new JournalEntryModelAssembler(linkStrategy);
+		journalEntry = new JournalEntry(new Journal());
+		ReflectionTestUtils.setField(journalEntry, "journalEntryId", 4711L);
+		journalEntry.setWellBeing(JournalEntry.WellBeing.GOOD);
+		journalEntry.setGratefulForToday("Cake");
+		journalEntry.setGratefulForTodayDescription("Cake is tasty.");
+		journalEntry.setGratefulForInLife("Computers");
+		journalEntry.setGratefulForInLifeDescription("They empower me to do awesome things.");
+		BenchmarkRequests.bind("/journal/entry/4711");
+	}
+
+	/**
+	 * Removes the request bound to the benchmark thread.
+	 */
+	@TearDown
+	public void tearDown() {
+		BenchmarkRequests.unbind();
+	}
+
+	/**
+	 * Measures {@link JournalEntryModelAssembler#toModel(JournalEntry)}.
+	 * 
+	 * @return The created representation.
+	 */
+	@Benchmark
+	public EntityModel<JournalEntry> toModel() {
+		return assembler.toModel(journalEntry);
+	}
+}
\ No newline at end of file
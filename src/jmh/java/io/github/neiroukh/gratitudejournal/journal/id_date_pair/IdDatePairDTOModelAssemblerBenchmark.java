@@ -0,0 +1,124 @@
+package io.github.neiroukh.gratitudejournal.journal.id_date_pair;
+
+import io.github.neiroukh.gratitudejournal.BenchmarkRequests;
+import io.github.neiroukh.gratitudejournal.hal.LinkStrategy;
+import io.github.neiroukh.gratitudejournal.journal.JournalController;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Benchmark of {@link IdDatePairDTOModelAssembler}, measuring the creation of
+ * the HAL representation of a single id-date pair and of a full
+ * {@code CollectionModel} of N id-date pairs, as created by
+ * {@link io.github.neiroukh.gratitudejournal.journal.JournalController#getEntries(String, String, String, Integer, LocalDate, LocalDate, JournalEntry.WellBeing, WebRequest)}.
+ * Run with "-prof gc" to report the allocations per operation. Every benchmark
+ * is run for each {@link LinkStrategy}.
+ * 
+ * @author Afeef Neiroukh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdDatePairDTOModelAssemblerBenchmark {
+	/**
+	 * Number of id-date pairs in the collection.
+	 */
+	@Param({ "10", "50", "200" })
+	public int entries;
+
+	/**
+	 * The strategy the assembler uses to create links.
+	 */
+	@Param({ "METHOD_ON", "TEMPLATE" })
+	public LinkStrategy linkStrategy;
+
+	/**
+	 * The assembler under test.
+	 */
+	private IdDatePairDTOModelAssembler assembler;
+
+	/**
+	 * The id-date pairs to create the representation of.
+	 */
+	private List<IdDatePairDTO> idDatePairs;
+
+	/**
+	 * Default constructor.
+	 */
+	public IdDatePairDTOModelAssemblerBenchmark() {
+	}
+
+	/**
+	 * Creates the assembler and the id-date pairs and binds a request to the
+	 * benchmark thread.
+	 */
+	@Setup
+	public void setUp() {
+		assembler = new IdDatePairDTOModelAssembler(linkStrategy);
+		idDatePairs = new ArrayList<>();
+		LocalDate today = LocalDate.now();
+		for (int i = 0; i < entries; i++)
+			idDatePairs.add(new IdDatePairDTO(100_000L + i, today.minusDays(i)));
+		BenchmarkRequests.bind("/journal/benchmarkUserName");
+	}
+
+	/**
+	 * Removes the request bound to the benchmark thread.
+	 */
+	@TearDown
+	public void tearDown() {
+		BenchmarkRequests.unbind();
+	}
+
+	/**
+	 * Measures {@link IdDatePairDTOModelAssembler#toModel(IdDatePairDTO)}.
+	 * 
+	 * @return The created representation.
+	 */
+	@Benchmark
+	public EntityModel<IdDatePairDTO> toModel() {
+		return assembler.toModel(idDatePairs.getFirst());
+	}
+
+	/**
+	 * Measures the creation of the {@code CollectionModel} of all id-date pairs,
+	 * including the links of the collection itself.
+	 * 
+	 * @return The created representation.
+	 */
+	@Benchmark
+	public CollectionModel<EntityModel<IdDatePairDTO>> toCollectionModel() {
+		List<EntityModel<IdDatePairDTO>> models = idDatePairs.stream().map(assembler::toModel).toList();
+		return CollectionModel.of(models,
+				linkTo(methodOn(JournalController.class).getEntries("benchmarkUserName", null, null, null, null, null,
+						null, null)).withSelfRel(),
+				linkTo(methodOn(JournalController.class).addEntry("benchmarkUserName", null)).withRel("create"),
+				linkTo(methodOn(JournalController.class).getStreak("benchmarkUserName")).withRel("streak"));
+	}
+}
\ No newline at end of file
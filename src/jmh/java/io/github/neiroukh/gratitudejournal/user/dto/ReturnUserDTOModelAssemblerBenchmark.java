@@ -0,0 +1,87 @@
+package io.github.neiroukh.gratitudejournal.user.dto;
+
+import io.github.neiroukh.gratitudejournal.BenchmarkRequests;
+import io.github.neiroukh.gratitudejournal.hal.LinkStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.EntityModel;
+
+/**
+ * Benchmark of {@link ReturnUserDTOModelAssembler}, measuring the creation of
+ * the HAL representation of a user. Run with "-prof gc" to report the
+ * allocations per operation. Every benchmark is run for each
+ * {@link LinkStrategy}.
+ * 
+ * @author Afeef Neiroukh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReturnUserDTOModelAssemblerBenchmark {
+	/**
+	 * The strategy the assembler uses to create links.
+	 */
+	@Param({ "METHOD_ON", "TEMPLATE" })
+	public LinkStrategy linkStrategy;
+
+	/**
+	 * The assembler under test.
+	 */
+	private ReturnUserDTOModelAssembler assembler;
+
+	/**
+	 * The user to create the representation of.
+	 */
+	private ReturnUserDTO returnUserDTO;
+
+	/**
+	 * Default constructor.
+	 */
+	public ReturnUserDTOModelAssemblerBenchmark() {
+	}
+
+	/**
+	 * Creates the assembler and the user and binds a request to the benchmark
+	 * thread.
+	 */
+	@Setup
+	public void setUp() {
+		assembler = new ReturnUserDTOModelAssembler(linkStrategy);
+		returnUserDTO = new ReturnUserDTO(4711L, "benchmarkUserName", "benchmarkFirstName", "benchmarkLastName");
+		BenchmarkRequests.bind("/user/benchmarkUserName");
+	}
+
+	/**
+	 * Removes the request bound to the benchmark thread.
+	 */
+	@TearDown
+	public void tearDown() {
+		BenchmarkRequests.unbind();
+	}
+
+	/**
+	 * Measures {@link ReturnUserDTOModelAssembler#toModel(ReturnUserDTO)}.
+	 * 
+	 * @return The created representation.
+	 */
+	@Benchmark
+	public EntityModel<ReturnUserDTO> toModel() {
+		return assembler.toModel(returnUserDTO);
+	}
+}
\ No newline at end of file
@@ -2,6 +2,9 @@ package io.github.neiroukh.gratitudejournal;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * GratitudeJournal Application.
@@ -9,6 +12,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author Afeef Neiroukh
  */
 @SpringBootApplication
+@EnableCaching
+@EnableAsync
+@EnableScheduling
 public class GratitudeJournalApplication {
 	/**
 	 * Default constructor.
@@ -2,6 +2,7 @@ package io.github.neiroukh.gratitudejournal;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -15,8 +16,9 @@ public class WebConfig {
             public void addCorsMappings(CorsRegistry registry) {
                 registry.addMapping("/**")
                         .allowedOrigins("*")
-                        .allowedMethods("GET", "POST", "DELETE", "PUT")
-                        .allowedHeaders("*");
+                        .allowedMethods("GET", "POST", "DELETE", "PUT", "PATCH")
+                        .allowedHeaders("*")
+                        .exposedHeaders(HttpHeaders.ETAG);
             }
         };
     }
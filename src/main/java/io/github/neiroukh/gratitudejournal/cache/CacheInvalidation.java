@@ -0,0 +1,182 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * JPA-Entity to represent the invalidation of a cached value, published by the
+ * node writing the value to all nodes of the service.
+ * 
+ * Invalidations are inserted by the {@link CacheInvalidationPublisher} at the
+ * end of the transaction of the write, so only committed writes are published.
+ * Their ids are taken from a counter of every database that the transaction
+ * locks until it completes, so the ids of committed invalidations increase in
+ * the order of the commits without gaps, unlike ids allocated in blocks per
+ * node. Nodes read the invalidations in order of their ids and detect missed
+ * invalidations as gaps, see {@link CacheInvalidationPoller}.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Entity
+@Table(indexes = { @Index(name = "idx_cache_invalidation_created_at", columnList = "createdAt") })
+public class CacheInvalidation {
+    /**
+     * Enum containing the kinds of caches an invalidation applies to.
+     */
+    public enum Kind {
+        /** A cache of the Spring cache abstraction, keyed by a String. */
+        CACHE,
+        /** An entity region of the Hibernate second-level cache, keyed by id. */
+        ENTITY,
+        /** A query region of the Hibernate second-level cache, never keyed. */
+        QUERY
+    }
+
+    /**
+     * The primary key of the invalidation, increasing in the order of the
+     * commits.
+     */
+    @Id
+    private Long invalidationId;
+
+    /**
+     * The kind of cache the invalidation applies to.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 8)
+    private Kind kind;
+
+    /**
+     * The name of the Spring cache, of the entity or of the query region.
+     */
+    @Column(nullable = false, updatable = false, length = 64)
+    private String region;
+
+    /**
+     * The key of the invalidated value, or null if the whole cache is
+     * invalidated.
+     */
+    @Column(updatable = false)
+    private String cacheKey;
+
+    /**
+     * The point in time the invalidation was published.
+     */
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * Protected empty constructor for JPA.
+     */
+    protected CacheInvalidation() {
+    }
+
+    /**
+     * Constructs an invalidation without an id, which is allocated when it is
+     * inserted.
+     * 
+     * @param kind     The kind of cache the invalidation applies to.
+     * @param region   The name of the Spring cache, of the entity or of the
+     *                 query region.
+     * @param cacheKey The key of the invalidated value, or null to invalidate the
+     *                 whole cache.
+     */
+    public CacheInvalidation(Kind kind, String region, String cacheKey) {
+        this.kind = kind;
+        this.region = region;
+        this.cacheKey = cacheKey;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Getter for the invalidationId (primary key) of the invalidation.
+     * 
+     * @return The invalidationId (primary key) of the invalidation.
+     */
+    public Long getInvalidationId() {
+        return invalidationId;
+    }
+
+    /**
+     * Getter for the kind of cache the invalidation applies to.
+     * 
+     * @return The kind of cache the invalidation applies to.
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Getter for the name of the Spring cache, of the entity or of the query
+     * region.
+     * 
+     * @return The name of the Spring cache, of the entity or of the query region.
+     */
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Getter for the key of the invalidated value.
+     * 
+     * @return The key of the invalidated value, or null if the whole cache is
+     *         invalidated.
+     */
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    /**
+     * Getter for the point in time the invalidation was published.
+     * 
+     * @return The point in time the invalidation was published.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Compares two invalidations based on their primary keys.
+     * 
+     * @param o The object to compare the invalidation to.
+     * @return true if objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof CacheInvalidation))
+            return false;
+        CacheInvalidation invalidation = (CacheInvalidation) o;
+        return Objects.equals(this.invalidationId, invalidation.invalidationId);
+    }
+
+    /**
+     * Generates a hash code based on the primary key of the invalidation.
+     * 
+     * @return The generated hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.invalidationId);
+    }
+
+    /**
+     * Generates a String representation of the invalidation.
+     * 
+     * @return The String representation of the invalidation.
+     */
+    @Override
+    public String toString() {
+        return "CacheInvalidation{invalidationId=" + this.invalidationId + ", kind=" + this.kind + ", region='"
+                + this.region + "', cacheKey='" + this.cacheKey + "'}";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import io.github.neiroukh.gratitudejournal.lease.LeaseJobRunner;
+import io.github.neiroukh.gratitudejournal.shard.ShardContext;
+import io.github.neiroukh.gratitudejournal.shard.ShardRing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Spring Component applying the invalidations published by all nodes to the
+ * local caches. Only active if the property
+ * "gratitudejournal.cache.invalidation.enabled" is true.
+ * 
+ * Every shard is polled for new invalidations in a fixed interval, so a value
+ * written on another node is evicted locally within about one interval. Each
+ * shard has its own {@link InvalidationCursor}, which detects missed
+ * invalidations as gaps in the ids and flushes all local caches if a gap is not
+ * filled within the gap timeout. A node starts reading at the last
+ * invalidation, as its caches are empty. Invalidations older than the
+ * retention are deleted by one node per interval; a node reading them later
+ * detects the gap as well.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Component
+@ConditionalOnProperty(name = "gratitudejournal.cache.invalidation.enabled", havingValue = "true")
+public class CacheInvalidationPoller {
+    /**
+     * Number of invalidations read per query.
+     */
+    private static final int PAGE_SIZE = 1000;
+
+    /**
+     * Logger to log flushes of the caches.
+     */
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationPoller.class);
+
+    private final CacheInvalidationRepository repository;
+
+    private final CacheManager cacheManager;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ShardRing shardRing;
+
+    private final LeaseJobRunner jobRunner;
+
+    /**
+     * The time after which a gap in the ids is skipped.
+     */
+    private final Duration gapTimeout;
+
+    /**
+     * The time after which invalidations are deleted.
+     */
+    private final Duration retention;
+
+    /**
+     * The interval in which invalidations are deleted.
+     */
+    private final Duration purgeInterval;
+
+    /**
+     * The cursors of the shards.
+     */
+    private final Map<Integer, InvalidationCursor> cursors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor of the CacheInvalidationPoller class.
+     * 
+     * @param repository           CacheInvalidationRepository injected by Spring.
+     * @param cacheManager         CacheManager injected by Spring.
+     * @param entityManagerFactory EntityManagerFactory injected by Spring. Used to
+     *                             evict entities from the second-level cache.
+     * @param transactionTemplate  TransactionTemplate injected by Spring. Used to
+     *                             read and delete the invalidations on the
+     *                             primary.
+     * @param shardRing            ShardRing injected by Spring.
+     * @param jobRunner            LeaseJobRunner injected by Spring. Used to
+     *                             delete old invalidations on one node only.
+     * @param gapTimeout           The time after which a gap in the ids is
+     *                             skipped. Configured by the property
+     *                             "gratitudejournal.cache.invalidation.gap-timeout".
+     * @param retention            The time after which invalidations are deleted.
+     *                             Configured by the property
+     *                             "gratitudejournal.cache.invalidation.retention".
+     * @param purgeInterval        The interval in which invalidations are deleted.
+     *                             Configured by the property
+     *                             "gratitudejournal.cache.invalidation.purge-interval".
+     */
+    public CacheInvalidationPoller(CacheInvalidationRepository repository, CacheManager cacheManager,
+            EntityManagerFactory entityManagerFactory, TransactionTemplate transactionTemplate,
+            ShardRing shardRing, LeaseJobRunner jobRunner,
+            @Value("${gratitudejournal.cache.invalidation.gap-timeout:30s}") Duration gapTimeout,
+            @Value("${gratitudejournal.cache.invalidation.retention:1h}") Duration retention,
+            @Value("${gratitudejournal.cache.invalidation.purge-interval:10m}") Duration purgeInterval) {
+        this.repository = repository;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRing = shardRing;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.jobRunner = jobRunner;
+        this.purgeInterval = purgeInterval;
+    }
+
+    /**
+     * Applies the new invalidations of every shard.
+     */
+    @Scheduled(fixedDelayString = "${gratitudejournal.cache.invalidation.poll-interval:1s}")
+    public void poll() {
+        shardRing.forEachShard(this::pollShard);
+    }
+
+    /**
+     * Deletes the invalidations older than the retention on every shard, unless
+     * another node did within the purge interval.
+     */
+    @Scheduled(fixedDelayString = "${gratitudejournal.cache.invalidation.purge-interval:10m}")
+    public void purge() {
+        Instant createdBefore = Instant.now().minus(retention);
+        jobRunner.runExclusively("cache-invalidation-purge", purgeInterval,
+                lease -> transactionTemplate.executeWithoutResult(status -> {
+                    lease.fence();
+                    repository.deleteCreatedBefore(createdBefore);
+                }));
+    }
+
+    /**
+     * Applies the new invalidations of the shard bound to the current thread.
+     * The invalidations are read in read-write transactions, so they are read
+     * from the primary even if a read replica is configured.
+     */
+    private void pollShard() {
+        InvalidationCursor cursor = cursors.computeIfAbsent(ShardContext.current(), shard -> new InvalidationCursor(
+                transactionTemplate.execute(status -> repository.getLastInvalidationId())));
+
+        long lastInvalidationId = cursor.getPosition();
+        List<CacheInvalidation> invalidations;
+        do {
+            long after = lastInvalidationId;
+            invalidations = transactionTemplate
+                    .execute(status -> repository.getInvalidationsAfter(after, Limit.of(PAGE_SIZE)));
+            for (CacheInvalidation invalidation : invalidations)
+                if (cursor.accept(invalidation.getInvalidationId()))
+                    apply(invalidation);
+            if (!invalidations.isEmpty())
+                lastInvalidationId = invalidations.getLast().getInvalidationId();
+        } while (invalidations.size() == PAGE_SIZE);
+
+        if (cursor.skipExpiredGap(Instant.now(), gapTimeout)) {
+            log.warn("Missed invalidations before id " + cursor.getPosition() + " on shard "
+                    + ShardContext.current() + ", flushing all caches");
+            flush();
+        }
+    }
+
+    /**
+     * Helper method to evict the value of an invalidation from the local caches.
+     * 
+     * @param invalidation The invalidation to apply.
+     */
+    private void apply(CacheInvalidation invalidation) {
+        String key = invalidation.getCacheKey();
+        switch (invalidation.getKind()) {
+            case CACHE -> {
+                Cache cache = cacheManager.getCache(invalidation.getRegion());
+                if (cache != null && key == null)
+                    cache.clear();
+                else if (cache != null)
+                    cache.evict(key);
+            }
+            case ENTITY -> {
+                Class<?> entityClass = entityManagerFactory.getMetamodel().entity(invalidation.getRegion())
+                        .getJavaType();
+                if (key == null) {
+                    secondLevelCache().evictEntityData(entityClass);
+                    secondLevelCache().evictNaturalIdData(entityClass);
+                } else
+                    secondLevelCache().evictEntityData(entityClass, Long.valueOf(key));
+            }
+            case QUERY -> secondLevelCache().evictQueryRegion(invalidation.getRegion());
+        }
+    }
+
+    /**
+     * Helper method to clear all local caches.
+     */
+    private void flush() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null)
+                cache.clear();
+        }
+        secondLevelCache().evictAllRegions();
+    }
+
+    /**
+     * Helper method to access the Hibernate second-level cache, which exposes its
+     * natural-id and query regions as well.
+     * 
+     * @return The second-level cache.
+     */
+    private org.hibernate.Cache secondLevelCache() {
+        return entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+    }
+}
\ No newline at end of file
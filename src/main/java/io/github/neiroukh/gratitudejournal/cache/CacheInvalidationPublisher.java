@@ -0,0 +1,148 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Spring Component publishing the invalidations of cached values to all nodes
+ * of the service. Every write of a cached value has to publish its
+ * invalidation within its transaction.
+ * 
+ * The invalidations of a transaction are collected and only inserted right
+ * before its commit, after its pending writes were flushed successfully. Their
+ * ids are allocated from the counter of the database at that point, so the
+ * counter is only locked from the end of the transaction to its commit, and a
+ * transaction failing before cannot leave a gap in the ids.
+ * 
+ * Only publishes if the property "gratitudejournal.cache.invalidation.enabled"
+ * is true, which is needed as soon as more than one node serves the same
+ * databases.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Component
+public class CacheInvalidationPublisher {
+    private final CacheInvalidationRepository repository;
+
+    /**
+     * Whether invalidations are published.
+     */
+    private final boolean enabled;
+
+    /**
+     * Constructor of the CacheInvalidationPublisher class.
+     * 
+     * @param repository CacheInvalidationRepository injected by Spring.
+     * @param enabled    Whether invalidations are published. Configured by the
+     *                   property "gratitudejournal.cache.invalidation.enabled".
+     */
+    public CacheInvalidationPublisher(CacheInvalidationRepository repository,
+            @Value("${gratitudejournal.cache.invalidation.enabled:false}") boolean enabled) {
+        this.repository = repository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Publish the invalidation of a value of a Spring cache.
+     * 
+     * @param cacheName The name of the cache.
+     * @param key       The key of the value.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void evictCache(String cacheName, String key) {
+        publish(CacheInvalidation.Kind.CACHE, cacheName, key);
+    }
+
+    /**
+     * Publish the invalidation of a cached entity.
+     * 
+     * @param entityClass The class of the entity.
+     * @param id          The id of the entity.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void evictEntity(Class<?> entityClass, Long id) {
+        publish(CacheInvalidation.Kind.ENTITY, entityClass.getSimpleName(), id.toString());
+    }
+
+    /**
+     * Publish the invalidation of all cached entities of a class and of their
+     * cached natural ids, after they were changed by bulk statements.
+     * 
+     * @param entityClass The class of the entities.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void evictEntities(Class<?> entityClass) {
+        publish(CacheInvalidation.Kind.ENTITY, entityClass.getSimpleName(), null);
+    }
+
+    /**
+     * Publish the invalidation of all cached results of a query region, after an
+     * entity the queries read was written.
+     * 
+     * @param region The name of the query region.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void evictQueries(String region) {
+        publish(CacheInvalidation.Kind.QUERY, region, null);
+    }
+
+    /**
+     * Helper method to add an invalidation to the ones inserted before the commit
+     * of the current transaction, if publishing is enabled.
+     * 
+     * @param kind     The kind of cache the invalidation applies to.
+     * @param region   The name of the Spring cache, of the entity or of the
+     *                 query region.
+     * @param cacheKey The key of the invalidated value, or null to invalidate the
+     *                 whole cache.
+     */
+    private void publish(CacheInvalidation.Kind kind, String region, String cacheKey) {
+        if (!enabled)
+            return;
+
+        PendingInvalidations pending = null;
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations())
+            if (synchronization instanceof PendingInvalidations transactionPending)
+                pending = transactionPending;
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.invalidations.add(new CacheInvalidation(kind, region, cacheKey));
+    }
+
+    /**
+     * The invalidations published by a transaction, inserted right before its
+     * commit. Registered as a synchronization of the transaction, so a suspended
+     * transaction keeps its own.
+     */
+    private class PendingInvalidations implements TransactionSynchronization {
+        /**
+         * The invalidations in the order of their publication.
+         */
+        private final List<CacheInvalidation> invalidations = new ArrayList<>();
+
+        /**
+         * Flushes the pending writes of the transaction, allocates a contiguous
+         * block of ids and inserts the invalidations.
+         * 
+         * @param readOnly Whether the transaction is read-only.
+         */
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            repository.flush();
+            repository.allocateInvalidationIds(invalidations.size());
+            long invalidationId = repository.getLastAllocatedInvalidationId() - invalidations.size();
+            for (CacheInvalidation invalidation : invalidations)
+                repository.insert(++invalidationId, invalidation.getKind().name(), invalidation.getRegion(),
+                        invalidation.getCacheKey(), invalidation.getCreatedAt());
+        }
+    }
+}
\ No newline at end of file
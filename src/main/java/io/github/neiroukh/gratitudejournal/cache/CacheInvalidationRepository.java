@@ -0,0 +1,90 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * JpaRepository for the CacheInvalidation Entity. The native statements name
+ * the table they write, so they do not evict the second-level cache.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+    /**
+     * Retrieves the greatest id of all invalidations, where a node starts to read
+     * the invalidations.
+     * 
+     * @return The greatest id of all invalidations, 0 if there are none.
+     */
+    @Query("SELECT COALESCE(MAX(invalidation.invalidationId), 0) FROM CacheInvalidation invalidation")
+    long getLastInvalidationId();
+
+    /**
+     * Allocates a block of invalidation ids by incrementing the counter of the
+     * database. The counter stays locked until the current transaction completes.
+     * 
+     * @param count The number of ids to allocate.
+     * @return The number of updated counters, always 1.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cache_invalidation_seq"))
+    @Query(value = "UPDATE cache_invalidation_seq SET last_id = last_id + ?1", nativeQuery = true)
+    int allocateInvalidationIds(int count);
+
+    /**
+     * Retrieves the last allocated invalidation id, which includes the ids
+     * allocated by the current transaction.
+     * 
+     * @return The last allocated invalidation id.
+     */
+    @Query(value = "SELECT last_id FROM cache_invalidation_seq", nativeQuery = true)
+    long getLastAllocatedInvalidationId();
+
+    /**
+     * Inserts an invalidation with an allocated id.
+     * 
+     * @param invalidationId The allocated id of the invalidation.
+     * @param kind           The kind of cache the invalidation applies to.
+     * @param region         The name of the Spring cache, of the entity or of the
+     *                       query region.
+     * @param cacheKey       The key of the invalidated value, or null to
+     *                       invalidate the whole cache.
+     * @param createdAt      The point in time the invalidation was published.
+     * @return The number of inserted invalidations, always 1.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cache_invalidation"))
+    @Query(value = "INSERT INTO cache_invalidation (invalidation_id, kind, region, cache_key, created_at) VALUES (?1, ?2, ?3, ?4, ?5)", nativeQuery = true)
+    int insert(long invalidationId, String kind, String region, String cacheKey, Instant createdAt);
+
+    /**
+     * Retrieves the invalidations following a certain id, ordered by id.
+     * 
+     * @param invalidationId The id to retrieve the following invalidations of.
+     * @param limit          The maximum number of invalidations to retrieve.
+     * @return A list containing the invalidations with a greater id, in ascending
+     *         order.
+     */
+    @Query("SELECT invalidation FROM CacheInvalidation invalidation WHERE invalidation.invalidationId > ?1 ORDER BY invalidation.invalidationId")
+    List<CacheInvalidation> getInvalidationsAfter(Long invalidationId, Limit limit);
+
+    /**
+     * Deletes all invalidations published before a point in time with a single
+     * DELETE statement.
+     * 
+     * @param createdAt The point in time to delete the earlier invalidations of.
+     * @return The number of deleted invalidations.
+     */
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation invalidation WHERE invalidation.createdAt < ?1")
+    int deleteCreatedBefore(Instant createdAt);
+}
\ No newline at end of file
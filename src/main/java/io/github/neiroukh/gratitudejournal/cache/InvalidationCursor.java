@@ -0,0 +1,102 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.TreeSet;
+
+/**
+ * Position of a node in the invalidations of one database, detecting gaps.
+ * 
+ * Ids are allocated in the order of the commits and a rolled back transaction
+ * releases its ids, so the committed invalidations have contiguous ids. The
+ * cursor still applies every invalidation once as soon as it is read and only
+ * advances its position over contiguous ids. A gap below applied ids is an
+ * invalidation that was deleted before this node read it, for example after
+ * the node was paused for longer than the retention. A gap that persists for
+ * the gap timeout is skipped, and the node has to flush its caches, as it
+ * missed an invalidation.
+ * 
+ * @author Afeef Neiroukh
+ */
+final class InvalidationCursor {
+    /**
+     * The id up to which every invalidation was applied or skipped.
+     */
+    private long position;
+
+    /**
+     * The applied ids greater than the position, all behind a gap.
+     */
+    private final TreeSet<Long> applied = new TreeSet<>();
+
+    /**
+     * The position at which the current gap was detected, or -1 if there is none.
+     */
+    private long gapPosition = -1;
+
+    /**
+     * The point in time the current gap was detected.
+     */
+    private Instant gapDetectedAt;
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param position The id up to which the invalidations are not relevant.
+     */
+    InvalidationCursor(long position) {
+        this.position = position;
+    }
+
+    /**
+     * Get the id up to which every invalidation was applied or skipped.
+     * 
+     * @return The position of the cursor.
+     */
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Record an invalidation that was read.
+     * 
+     * @param invalidationId The id of the invalidation.
+     * @return true if the invalidation has to be applied, false if it was applied
+     *         or skipped before.
+     */
+    boolean accept(long invalidationId) {
+        if (invalidationId <= position || !applied.add(invalidationId))
+            return false;
+
+        while (!applied.isEmpty() && applied.first() == position + 1)
+            position = applied.pollFirst();
+        return true;
+    }
+
+    /**
+     * Check for a gap below the applied invalidations and skip it if it persisted
+     * for the gap timeout.
+     * 
+     * @param now        The current point in time.
+     * @param gapTimeout The time after which a gap is skipped.
+     * @return true if a gap was skipped and the caches have to be flushed, false
+     *         otherwise.
+     */
+    boolean skipExpiredGap(Instant now, Duration gapTimeout) {
+        if (applied.isEmpty()) {
+            gapPosition = -1;
+            return false;
+        }
+        if (gapPosition != position) {
+            gapPosition = position;
+            gapDetectedAt = now;
+        }
+        if (Duration.between(gapDetectedAt, now).compareTo(gapTimeout) < 0)
+            return false;
+
+        position = applied.last();
+        applied.clear();
+        gapPosition = -1;
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryRepository;
+import io.github.neiroukh.gratitudejournal.user.User;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Configuration of the regions of the Hibernate second-level cache, which
+ * holds users, journal entries, the ids of users by user name and the results
+ * of the listing query.
+ * 
+ * Every region is a Caffeine JCache bounded by the property
+ * "gratitudejournal.cache.second-level.maximum-size" and expiring its values
+ * after the property "gratitudejournal.cache.second-level.time-to-live". Both
+ * can be overridden per region, for example by
+ * "gratitudejournal.cache.second-level.journal-entry.maximum-size". The region
+ * of the update timestamps, which decides whether cached query results are
+ * stale, is never evicted. Regions not configured here fail the startup, so
+ * no region grows without bound.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Configuration(proxyBeanMethods = false)
+public class SecondLevelCacheConfiguration {
+    /**
+     * The regions bounded by size and time to live.
+     */
+    static final List<String> REGIONS = List.of(User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION,
+            JournalEntry.CACHE_REGION, JournalEntryRepository.ENTRIES_QUERY_REGION,
+            RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    /**
+     * Prefix of the properties configuring the regions.
+     */
+    private static final String PROPERTY_PREFIX = "gratitudejournal.cache.second-level.";
+
+    /**
+     * Default constructor.
+     */
+    SecondLevelCacheConfiguration() {
+    }
+
+    /**
+     * Bean creating the JCache CacheManager holding the regions of the
+     * second-level cache. Every application context gets its own CacheManager,
+     * so contexts sharing a class loader, as in tests, do not share regions.
+     * 
+     * @param environment The environment providing the settings of single
+     *                    regions.
+     * @param maximumSize The default maximum number of values per region.
+     *                    Configured by the property
+     *                    "gratitudejournal.cache.second-level.maximum-size".
+     * @param timeToLive  The default time after which a value expires.
+     *                    Configured by the property
+     *                    "gratitudejournal.cache.second-level.time-to-live".
+     * @return The CacheManager holding all regions.
+     */
+    @Bean(destroyMethod = "close")
+    CacheManager secondLevelCacheManager(Environment environment,
+            @Value("${gratitudejournal.cache.second-level.maximum-size:10000}") long maximumSize,
+            @Value("${gratitudejournal.cache.second-level.time-to-live:10m}") Duration timeToLive) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("gratitudejournal:" + UUID.randomUUID()), getClass().getClassLoader());
+        Binder binder = Binder.get(environment);
+        for (String region : REGIONS) {
+            long regionSize = binder.bind(PROPERTY_PREFIX + region + ".maximum-size", Long.class)
+                    .orElse(maximumSize);
+            Duration regionTimeToLive = binder.bind(PROPERTY_PREFIX + region + ".time-to-live", Duration.class)
+                    .orElse(timeToLive);
+            cacheManager.createCache(region, configuration(OptionalLong.of(regionSize),
+                    OptionalLong.of(regionTimeToLive.toNanos())));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                configuration(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    /**
+     * Helper method to create the configuration of a region. Values are stored by
+     * reference, as Hibernate caches disassembled, immutable states.
+     * 
+     * @param maximumSize      The maximum number of values, or empty if unbounded.
+     * @param expireAfterWrite The time in nanoseconds after which a value
+     *                         expires, or empty if values do not expire.
+     * @return The configuration of the region.
+     */
+    private static CaffeineConfiguration<Object, Object> configuration(OptionalLong maximumSize,
+            OptionalLong expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(expireAfterWrite);
+        return configuration;
+    }
+
+    /**
+     * Bean passing the CacheManager of the regions to Hibernate.
+     * 
+     * @param secondLevelCacheManager The CacheManager holding all regions.
+     * @return The customizer adding the CacheManager to the Hibernate
+     *         properties.
+     */
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(
+            CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Spring Component publishing the hit ratio of every region of the Hibernate
+ * second-level cache as the gauge "hibernate.cache.hit.ratio", tagged by the
+ * region. The ratio is computed from the Hibernate statistics, which are
+ * disabled by default and enabled by the property
+ * "gratitudejournal.cache.second-level.statistics".
+ * 
+ * @author Afeef Neiroukh
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructor of the SecondLevelCacheMetrics class.
+     * 
+     * @param entityManagerFactory EntityManagerFactory injected by Spring.
+     */
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Registers a hit ratio gauge for every bounded region.
+     * 
+     * @param registry The registry to register the gauges in.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : SecondLevelCacheConfiguration.REGIONS)
+            Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                    .tag("region", region)
+                    .description("Share of the lookups of the second-level cache region served from the cache")
+                    .register(registry);
+    }
+
+    /**
+     * Helper method to compute the hit ratio of a region.
+     * 
+     * @param statistics The Hibernate statistics.
+     * @param region     The name of the region.
+     * @return The share of hits among all lookups of the region, or NaN if
+     *         statistics are disabled or the region was not looked up yet.
+     */
+    private static double hitRatio(Statistics statistics, String region) {
+        if (!statistics.isStatisticsEnabled())
+            return Double.NaN;
+
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null)
+            return Double.NaN;
+
+        long hits = regionStatistics.getHitCount();
+        long lookups = hits + regionStatistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+}
\ No newline at end of file
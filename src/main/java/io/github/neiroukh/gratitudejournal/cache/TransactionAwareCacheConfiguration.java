@@ -0,0 +1,48 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration synchronizing the Spring caches, such as the ids of users by
+ * user name, with the transactions writing the cached values.
+ * 
+ * Caffeine is not aware of transactions, so an eviction by a writing
+ * transaction would take effect before its commit, and a concurrent read could
+ * cache the previous state again until the cache entry expires. The
+ * CacheManager configured by Spring Boot is therefore wrapped into a
+ * {@link TransactionAwareCacheManagerProxy}, which defers evictions and puts
+ * within a transaction until after its commit.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Configuration(proxyBeanMethods = false)
+public class TransactionAwareCacheConfiguration {
+    /**
+     * Default constructor.
+     */
+    TransactionAwareCacheConfiguration() {
+    }
+
+    /**
+     * Bean wrapping the Spring CacheManager into a
+     * {@link TransactionAwareCacheManagerProxy}.
+     * 
+     * @return The post processor of the CacheManager bean.
+     */
+    @Bean
+    static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager
+                        && !(bean instanceof TransactionAwareCacheManagerProxy))
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                return bean;
+            }
+        };
+    }
+}
\ No newline at end of file
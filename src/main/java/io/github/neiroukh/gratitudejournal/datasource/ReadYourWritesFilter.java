@@ -0,0 +1,98 @@
+package io.github.neiroukh.gratitudejournal.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter pinning the requests of a client to the primary database for a window
+ * after the client's last write, so the client reads its own writes although
+ * the replica lags behind.
+ * 
+ * Every request with a method other than GET, HEAD, OPTIONS or TRACE is pinned
+ * and sets a cookie expiring after the window. The following requests carrying
+ * the cookie are pinned as well, on every node of the service. Pinning the
+ * writing request itself also routes the reads it performs before or after its
+ * writes to the primary.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    /**
+     * Name of the cookie marking a client that has written within the window.
+     */
+    public static final String COOKIE_NAME = "gj-primary";
+
+    /**
+     * Name of the request attribute marking a request as pinned to the primary.
+     */
+    private static final String PINNED_ATTRIBUTE = ReadYourWritesFilter.class.getName() + ".PINNED";
+
+    /**
+     * The request methods that never write.
+     */
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    /**
+     * The time after a write during which the client is pinned to the primary.
+     */
+    private final Duration window;
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param window The time after a write during which the client is pinned to
+     *               the primary. Should exceed the usual replication lag.
+     */
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * Pins writing requests and requests of clients that wrote within the window
+     * to the primary, and starts the window on writes.
+     * 
+     * @param request     The current request.
+     * @param response    The current response.
+     * @param filterChain The chain of the remaining filters.
+     * @throws ServletException Thrown by the remaining filters.
+     * @throws IOException      Thrown by the remaining filters.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write)
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME, "1").path("/")
+                    .maxAge(window).httpOnly(true).sameSite("Lax").build().toString());
+        if (write || WebUtils.getCookie(request, COOKIE_NAME) != null)
+            request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE);
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Check whether the request bound to the current thread is pinned to the
+     * primary.
+     * 
+     * @return true if the current request is pinned, false if it is not or no
+     *         request is bound to the current thread.
+     */
+    public static boolean isPinnedToPrimary() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package io.github.neiroukh.gratitudejournal.datasource;
+
+import java.sql.SQLException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * JpaDialect keeping the values read from the replica out of the second-level
+ * cache. The sessions of transactions routed to the replica by the
+ * {@link ReplicaRoutingDataSource} only read from the second-level cache and
+ * the query cache, but never put entities or query results into them.
+ * 
+ * Otherwise a read on the lagging replica would cache the state before a write
+ * right after its eviction, and the writer's requests pinned to the primary by
+ * the {@link ReadYourWritesFilter} would read that state from the cache until
+ * it expires.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+    /**
+     * Begins the transaction and sets the cache mode of its session.
+     * 
+     * @param entityManager The EntityManager of the transaction.
+     * @param definition    The definition of the transaction.
+     * @return The transaction data of the {@link HibernateJpaDialect}.
+     * @throws SQLException Thrown when preparing the connection fails.
+     */
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        entityManager.unwrap(Session.class).setCacheMode(cacheModeOf(definition));
+        return transactionData;
+    }
+
+    /**
+     * Determine the cache mode of the session of a new transaction, following
+     * the routing of the {@link ReplicaRoutingDataSource}.
+     * 
+     * @param definition The definition of the transaction.
+     * @return {@link CacheMode#GET} for a read-only transaction of a request that
+     *         is not pinned to the primary, {@link CacheMode#NORMAL} otherwise.
+     */
+    static CacheMode cacheModeOf(TransactionDefinition definition) {
+        return definition.isReadOnly() && !ReadYourWritesFilter.isPinnedToPrimary() ? CacheMode.GET
+                : CacheMode.NORMAL;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package io.github.neiroukh.gratitudejournal.datasource;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuration routing read-only transactions to a read replica. Only active
+ * if the property "gratitudejournal.datasource.replica.url" is set, otherwise
+ * the single DataSource configured by Spring Boot is used.
+ * 
+ * The primary connection pool is configured like the default one, by the
+ * "spring.datasource" properties or the connection details of Docker Compose
+ * and Testcontainers. The replica pool uses the credentials of the primary
+ * unless "gratitudejournal.datasource.replica.username" and
+ * "gratitudejournal.datasource.replica.password" are set and is tuned by the
+ * "gratitudejournal.datasource.replica.hikari" properties.
+ * 
+ * Transactions routed to the replica do not put values into the second-level
+ * cache, see {@link ReplicaCacheModeJpaDialect}.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("gratitudejournal.datasource.replica.url")
+public class ReplicaDataSourceConfiguration {
+    /**
+     * Default constructor.
+     */
+    ReplicaDataSourceConfiguration() {
+    }
+
+    /**
+     * Bean creating the connection pool of the primary database.
+     * 
+     * @param properties        The "spring.datasource" properties.
+     * @param connectionDetails The connection details provided by Docker Compose
+     *                          or Testcontainers, if any.
+     * @return The connection pool of the primary database.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        HikariDataSource dataSource = details == null
+                ? properties.initializeDataSourceBuilder().type(HikariDataSource.class).build()
+                : DataSourceBuilder.create(properties.getClassLoader()).type(HikariDataSource.class)
+                        .driverClassName(details.getDriverClassName()).url(details.getJdbcUrl())
+                        .username(details.getUsername()).password(details.getPassword()).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Bean creating the connection pool of the replica.
+     * 
+     * @param primaryDataSource The connection pool of the primary database,
+     *                          providing the default credentials.
+     * @param url               The JDBC URL of the replica.
+     * @param username          The user name of the replica, or an empty String
+     *                          to use the one of the primary.
+     * @param password          The password of the replica, or an empty String to
+     *                          use the one of the primary.
+     * @return The connection pool of the replica.
+     */
+    @Bean
+    @ConfigurationProperties("gratitudejournal.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Value("${gratitudejournal.datasource.replica.url}") String url,
+            @Value("${gratitudejournal.datasource.replica.username:}") String username,
+            @Value("${gratitudejournal.datasource.replica.password:}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .driverClassName(primaryDataSource.getDriverClassName()).url(url)
+                .username(username.isEmpty() ? primaryDataSource.getUsername() : username)
+                .password(password.isEmpty() ? primaryDataSource.getPassword() : password).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Bean creating the DataSource used by JPA, which routes the connections of
+     * read-only transactions to the replica and all others to the primary.
+     * 
+     * @param primaryDataSource The connection pool of the primary database.
+     * @param replicaDataSource The connection pool of the replica.
+     * @return The routing DataSource, obtaining its connections lazily.
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    /**
+     * Bean installing the {@link ReplicaCacheModeJpaDialect} into the
+     * EntityManagerFactory, from which the transaction manager takes it.
+     * 
+     * @return The post processor of the EntityManagerFactory bean.
+     */
+    @Bean
+    static BeanPostProcessor replicaCacheModeJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory)
+                    entityManagerFactory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Bean registering the {@link ReadYourWritesFilter} ahead of all other
+     * filters.
+     * 
+     * @param window The time after a write during which a client reads from the
+     *               primary. Configured by the property
+     *               "gratitudejournal.datasource.replica.read-your-writes-window".
+     * @return The registration of the filter.
+     */
+    @Bean
+    FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${gratitudejournal.datasource.replica.read-your-writes-window:5s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(window));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package io.github.neiroukh.gratitudejournal.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DataSource routing the connections of read-only transactions to a replica and
+ * all other connections to the primary database.
+ * 
+ * The target is determined when a connection is obtained, so the DataSource has
+ * to be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which defers obtaining the connection to the first statement, after the
+ * transaction has been marked read-only. Read-only transactions of requests
+ * pinned by the {@link ReadYourWritesFilter} are routed to the primary as well,
+ * so a client reads its own writes regardless of the replication lag.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    /**
+     * The lookup keys of the target DataSources.
+     */
+    enum Target {
+        /** The primary database, receiving all writes. */
+        PRIMARY,
+        /** The replica, receiving the reads of read-only transactions. */
+        REPLICA
+    }
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param primary The DataSource of the primary database.
+     * @param replica The DataSource of the replica.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Determine the target of the connection being obtained.
+     * 
+     * @return {@link Target#REPLICA} within a read-only transaction of a request
+     *         that is not pinned to the primary, {@link Target#PRIMARY} otherwise.
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesFilter.isPinnedToPrimary() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
\ No newline at end of file
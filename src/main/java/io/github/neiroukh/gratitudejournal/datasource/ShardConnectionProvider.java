@@ -0,0 +1,91 @@
+package io.github.neiroukh.gratitudejournal.datasource;
+
+import io.github.neiroukh.gratitudejournal.shard.ShardContext;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.engine.jdbc.connections.spi.AbstractDataSourceBasedMultiTenantConnectionProviderImpl;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Hibernate connection provider handing out the connections of the shard a
+ * session was opened for. Every shard is a Hibernate tenant, identified by
+ * {@link ShardContext#tenantOf(int)}.
+ * 
+ * Shard 0 is the DataSource configured by Spring Boot, including the routing to
+ * a read replica if one is configured. The connection pools of the additional
+ * shards are owned by the provider and closed with it.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class ShardConnectionProvider extends AbstractDataSourceBasedMultiTenantConnectionProviderImpl<String>
+        implements DisposableBean {
+    /**
+     * The DataSources of all shards, indexed by shard.
+     */
+    private final List<DataSource> shards;
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param shards The DataSources of all shards, indexed by shard.
+     */
+    public ShardConnectionProvider(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    /**
+     * Get the DataSource of a shard.
+     * 
+     * @param shard The shard.
+     * @return The DataSource of the shard.
+     */
+    public DataSource getDataSource(int shard) {
+        return shards.get(shard);
+    }
+
+    /**
+     * Get the number of shards.
+     * 
+     * @return The number of shards, including shard 0.
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Select the DataSource of the shard bound to the current thread, used for
+     * connections outside of sessions such as the schema validation.
+     * 
+     * @return The DataSource of the bound shard, shard 0 if none is bound.
+     */
+    @Override
+    protected DataSource selectAnyDataSource() {
+        return shards.get(ShardContext.current());
+    }
+
+    /**
+     * Select the DataSource of a shard.
+     * 
+     * @param tenantIdentifier The tenant identifier of the shard.
+     * @return The DataSource of the shard.
+     */
+    @Override
+    protected DataSource selectDataSource(String tenantIdentifier) {
+        return shards.get(ShardContext.shardOf(tenantIdentifier));
+    }
+
+    /**
+     * Closes the connection pools of the additional shards.
+     */
+    @Override
+    public void destroy() {
+        for (DataSource shard : shards.subList(1, shards.size()))
+            if (shard instanceof HikariDataSource pool)
+                pool.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+package io.github.neiroukh.gratitudejournal.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.MultiTenancySettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuration spreading the users and their journals over several databases.
+ * Only active if the property "gratitudejournal.shards.urls" lists the JDBC
+ * URLs of the additional shards 1 to N, otherwise all data is stored in the
+ * DataSource configured by Spring Boot.
+ * 
+ * Shard 0 is the DataSource configured by Spring Boot. The additional shards use
+ * its credentials unless "gratitudejournal.shards.username" and
+ * "gratitudejournal.shards.password" are set. Their connection pools are
+ * configured by the "spring.datasource.hikari" properties, overridden by the
+ * "gratitudejournal.shards.hikari" properties. They are not exposed as beans,
+ * as Spring Boot only configures its DataSource if there is no other.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("gratitudejournal.shards.urls")
+public class ShardDataSourceConfiguration {
+    /**
+     * Default constructor.
+     */
+    ShardDataSourceConfiguration() {
+    }
+
+    /**
+     * Bean creating the connection provider of all shards.
+     * 
+     * @param dataSource        The DataSource configured by Spring Boot, used as
+     *                          shard 0.
+     * @param properties        The "spring.datasource" properties.
+     * @param connectionDetails The connection details provided by Docker Compose
+     *                          or Testcontainers, if any.
+     * @param environment       The environment to bind the pool properties from.
+     * @param urls              The JDBC URLs of the shards 1 to N.
+     * @param username          The user name of the shards 1 to N, or an empty
+     *                          String to use the one of shard 0.
+     * @param password          The password of the shards 1 to N, or an empty
+     *                          String to use the one of shard 0.
+     * @return The connection provider.
+     */
+    @Bean
+    ShardConnectionProvider shardConnectionProvider(DataSource dataSource, DataSourceProperties properties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails, Environment environment,
+            @Value("${gratitudejournal.shards.urls}") List<String> urls,
+            @Value("${gratitudejournal.shards.username:}") String username,
+            @Value("${gratitudejournal.shards.password:}") String password) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        String driverClassName = details == null ? properties.determineDriverClassName()
+                : details.getDriverClassName();
+        String defaultUsername = details == null ? properties.determineUsername() : details.getUsername();
+        String defaultPassword = details == null ? properties.determinePassword() : details.getPassword();
+
+        Binder binder = Binder.get(environment);
+        List<DataSource> shards = new ArrayList<>(urls.size() + 1);
+        shards.add(dataSource);
+        for (String url : urls) {
+            HikariDataSource shard = DataSourceBuilder.create(properties.getClassLoader())
+                    .type(HikariDataSource.class).driverClassName(driverClassName).url(url)
+                    .username(username.isEmpty() ? defaultUsername : username)
+                    .password(password.isEmpty() ? defaultPassword : password).build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(shard));
+            binder.bind("gratitudejournal.shards.hikari", Bindable.ofInstance(shard));
+            shard.setPoolName("shard-" + shards.size());
+            shards.add(shard);
+        }
+        return new ShardConnectionProvider(shards);
+    }
+
+    /**
+     * Bean configuring Hibernate to open every session on the shard bound to the
+     * current thread.
+     * 
+     * @param connectionProvider The connection provider of all shards.
+     * @return The customizer of the Hibernate properties.
+     */
+    @Bean
+    HibernatePropertiesCustomizer shardHibernatePropertiesCustomizer(ShardConnectionProvider connectionProvider) {
+        return hibernateProperties -> {
+            hibernateProperties.put(MultiTenancySettings.MULTI_TENANT_CONNECTION_PROVIDER, connectionProvider);
+            hibernateProperties.put(MultiTenancySettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new ShardTenantResolver());
+        };
+    }
+
+    /**
+     * Bean applying the schema migrations to all shards. Spring Boot migrates
+     * shard 0 with the Flyway configured by the "spring.flyway" properties, the
+     * shards 1 to N are migrated with the same configuration afterwards. All
+     * shards are migrated before Hibernate validates the schema.
+     * 
+     * @param connectionProvider The connection provider of all shards.
+     * @return The strategy migrating all shards.
+     */
+    @Bean
+    FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardConnectionProvider connectionProvider) {
+        return flyway -> {
+            flyway.migrate();
+            for (int shard = 1; shard < connectionProvider.getShardCount(); shard++)
+                Flyway.configure().configuration(flyway.getConfiguration())
+                        .dataSource(connectionProvider.getDataSource(shard)).load().migrate();
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package io.github.neiroukh.gratitudejournal.datasource;
+
+import io.github.neiroukh.gratitudejournal.shard.ShardContext;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Resolver of the tenant of new Hibernate sessions, which is the shard bound
+ * to the current thread by {@link ShardContext}, or shard 0 if none is bound.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class ShardTenantResolver implements CurrentTenantIdentifierResolver<String> {
+    /**
+     * Resolve the tenant of a new session.
+     * 
+     * @return The tenant identifier of the shard bound to the current thread.
+     */
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        return ShardContext.tenantOf(ShardContext.current());
+    }
+
+    /**
+     * Sessions are only bound to a transaction, never to the thread, so there
+     * are no existing sessions to validate.
+     * 
+     * @return false.
+     */
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+}
\ No newline at end of file
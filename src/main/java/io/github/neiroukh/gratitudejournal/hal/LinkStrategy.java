@@ -0,0 +1,23 @@
+package io.github.neiroukh.gratitudejournal.hal;
+
+/**
+ * Enum containing the strategies the model assemblers can use to create HAL
+ * links. The strategy is configured by the property
+ * "gratitudejournal.hal.link-strategy".
+ * 
+ * @author Afeef Neiroukh
+ */
+public enum LinkStrategy {
+    /**
+     * Links are created by invoking the controller method on a proxy created by
+     * {@code WebMvcLinkBuilder.methodOn}, which inspects the method on every
+     * call.
+     */
+    METHOD_ON,
+    /**
+     * Links are expanded from {@link LinkTemplate} objects, which are resolved
+     * from the controller mappings once at startup. Creates the same links as
+     * {@link #METHOD_ON} without creating a proxy per link.
+     */
+    TEMPLATE
+}
\ No newline at end of file
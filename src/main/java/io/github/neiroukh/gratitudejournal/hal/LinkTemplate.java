@@ -0,0 +1,144 @@
+package io.github.neiroukh.gratitudejournal.hal;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * URI template of a controller mapping, used to create HAL links without
+ * inspecting the controller method for every link.
+ * 
+ * The mapping is resolved once when the template is created. A link is created
+ * by expanding the template with the path variables and prefixing it with the
+ * base URI of the current request, which is computed once per request. Request
+ * parameters of the method are appended as template variables. The result is
+ * the same link as created by {@code linkTo(methodOn(controller).method(...))}
+ * with null passed for all request parameters.
+ * 
+ * @author Afeef Neiroukh
+ */
+public final class LinkTemplate {
+    /**
+     * Name of the request attribute caching the base URI of the current request.
+     */
+    private static final String BASE_URI_ATTRIBUTE = LinkTemplate.class.getName() + ".BASE_URI";
+
+    /**
+     * The URI template of the mapped path.
+     */
+    private final UriComponents uriTemplate;
+
+    /**
+     * The template variables of the request parameters, e.g. "{?before,size}", or
+     * an empty String if the method has no request parameters.
+     */
+    private final String requestParameters;
+
+    /**
+     * Private constructor. Use {@link #of(Class, String, Class...)} to create a
+     * template.
+     * 
+     * @param path              The mapped path including its path variables.
+     * @param requestParameters The template variables of the request parameters.
+     */
+    private LinkTemplate(String path, String requestParameters) {
+        this.uriTemplate = UriComponentsBuilder.fromPath(path).build();
+        this.requestParameters = requestParameters;
+    }
+
+    /**
+     * Resolve the mapping of a controller method to a template.
+     * 
+     * @param controller     The controller class declaring the method.
+     * @param methodName     The name of the mapped method.
+     * @param parameterTypes The parameter types of the mapped method.
+     * @return The template of the path the method is mapped to.
+     * @throws IllegalArgumentException The method does not exist or is not
+     *                                  mapped to a path.
+     */
+    public static LinkTemplate of(Class<?> controller, String methodName, Class<?>... parameterTypes) {
+        Method method = ReflectionUtils.findMethod(controller, methodName, parameterTypes);
+        if (method == null)
+            throw new IllegalArgumentException("No method " + methodName + " found on " + controller.getName());
+
+        RequestMapping methodMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        if (methodMapping == null || methodMapping.path().length == 0)
+            throw new IllegalArgumentException("The method " + methodName + " is not mapped to a path.");
+
+        RequestMapping typeMapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+        String typePath = typeMapping == null || typeMapping.path().length == 0 ? "" : typeMapping.path()[0];
+
+        StringJoiner requestParameters = new StringJoiner(",", "{?", "}").setEmptyValue("");
+        for (Parameter parameter : method.getParameters()) {
+            RequestParam requestParam = AnnotatedElementUtils.findMergedAnnotation(parameter, RequestParam.class);
+            if (requestParam != null)
+                requestParameters.add(requestParam.name().isEmpty() ? parameter.getName() : requestParam.name());
+        }
+
+        return new LinkTemplate(typePath + methodMapping.path()[0], requestParameters.toString());
+    }
+
+    /**
+     * Create a link by expanding this template. The values are encoded as path
+     * segments, like the path variables of links created by
+     * {@code linkTo(methodOn(...))}.
+     * 
+     * @param relation     The relation of the link.
+     * @param uriVariables The values of the path variables in the order of their
+     *                     appearance in the template.
+     * @return The created link.
+     */
+    public Link toLink(LinkRelation relation, Object... uriVariables) {
+        Object[] encodedVariables = new Object[uriVariables.length];
+        for (int i = 0; i < uriVariables.length; i++)
+            encodedVariables[i] = UriUtils.encode(String.valueOf(uriVariables[i]), StandardCharsets.UTF_8);
+
+        return Link.of(currentBaseUri() + uriTemplate.expand(encodedVariables).toUriString() + requestParameters,
+                relation);
+    }
+
+    /**
+     * Create a link by expanding this template.
+     * 
+     * @param relation     The relation of the link.
+     * @param uriVariables The values of the path variables in the order of their
+     *                     appearance in the template.
+     * @return The created link.
+     */
+    public Link toLink(String relation, Object... uriVariables) {
+        return toLink(LinkRelation.of(relation), uriVariables);
+    }
+
+    /**
+     * Get the base URI of the current request, which is cached as a request
+     * attribute. Links are relative if there is no current request.
+     * 
+     * @return The base URI of the current request or an empty String.
+     */
+    private static String currentBaseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null)
+            return "";
+
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+}
\ No newline at end of file
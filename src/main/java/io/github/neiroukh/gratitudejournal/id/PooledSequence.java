@@ -0,0 +1,28 @@
+package io.github.neiroukh.gratitudejournal.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marks an id to be generated by a {@link PooledSequenceGenerator}. Ids are
+ * allocated in blocks from a sequence, so only one round trip to the database
+ * is needed per block and inserts can be grouped into JDBC batches.
+ * 
+ * @author Afeef Neiroukh
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface PooledSequence {
+    /**
+     * The name of the sequence. Databases without sequences, like MySQL, use a
+     * table of this name instead.
+     * 
+     * @return The name of the sequence.
+     */
+    String name();
+}
\ No newline at end of file
@@ -1,18 +1,19 @@
 package io.github.neiroukh.gratitudejournal.journal;
 
+import io.github.neiroukh.gratitudejournal.id.PooledSequence;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
-import io.github.neiroukh.gratitudejournal.journal.exception.*;
 
-import java.util.Objects;
 import java.time.LocalDate;
+import java.util.Objects;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 
@@ -23,16 +24,26 @@ import jakarta.persistence.OneToMany;
  * Every journal is uniquely identified by its primary key journalId, which is
  * assigned automatically. Furthermore a journal includes a Set of
  * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry} objects.
+ * The entriesVersion is incremented whenever an entry is added to or removed from
+ * the journal and serves as validator for conditional requests on the listing.
+ * The streak fields hold the current and the longest run of consecutive days
+ * with an entry. They are maintained on every write of an entry, so the streak
+ * can be read without reading the entries.
+ * 
+ * Journals are not held in the second-level cache. Their streaks and versions
+ * are written by bulk updates, which would evict all cached journals, and they
+ * are only read by projections.
  * 
  * @author Afeef Neiroukh
  */
 @Entity
 public class Journal {
     /**
-     * The private primary key of the journal.
+     * The private primary key of the journal. Allocated in blocks from the
+     * journal_seq sequence.
      */
     @Column(name = "journal_id")
-    private @Id @GeneratedValue Long journalId;
+    private @Id @PooledSequence(name = "journal_seq") Long journalId;
 
     /**
      * The private set of
@@ -42,6 +53,41 @@ public class Journal {
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "journal", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<JournalEntry> journalEntries = new HashSet<JournalEntry>();
 
+    /**
+     * The version of the set of entries. Incremented by a bulk update whenever an
+     * entry is added or removed, so the journal does not have to be loaded.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long entriesVersion;
+
+    /**
+     * The date of the newest entry, which is the last day of the current streak.
+     * Null if the journal has no entries.
+     */
+    private LocalDate streakEnd;
+
+    /**
+     * The number of consecutive days with an entry ending at streakEnd.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int streakLength;
+
+    /**
+     * The number of days of the longest run of consecutive days with an entry.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int longestStreak;
+
+    /**
+     * The last day of the longest run of consecutive days with an entry. If
+     * several runs are the longest, the earliest of them. Null if the journal has
+     * no entries.
+     */
+    private LocalDate longestStreakEnd;
+
     /**
      * Public empty constructor.
      */
@@ -49,49 +95,59 @@ public class Journal {
     }
 
     /**
-     * Adds a new entry to {@link #journalEntries}.
+     * Getter for this object's journalEntries set.
      * 
-     * @param newEntry The new
-     *                 {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
-     *                 object to add. The entry must be from today.
-     * @throws EntryAlreadyExistsException An entry already exists for today.
-     * @throws RuntimeException            The date of the entry is not today.
-     * @throws IllegalArgumentException    The passed object is null.
-     */
-    public void addEntry(JournalEntry newEntry) {
-        if (newEntry == null)
-            throw new IllegalArgumentException("Entry is null.");
-
-        LocalDate today = LocalDate.now();
-        if (!today.equals(newEntry.getDate()))
-            throw new RuntimeException("Entry is not from today.");
-
-        if (this.hasEntryForToday())
-            throw new EntryAlreadyExistsException(newEntry.getDate());
-
-        newEntry.setJournal(this);
-        journalEntries.add(newEntry);
+     * @return The set of journal entries.
+     */
+    public Set<JournalEntry> getJournalEntries() {
+        return journalEntries;
     }
 
     /**
-     * Private helper method to check if an entry already exists for today.
+     * Getter for this object's entriesVersion.
      * 
-     * @return True if the journal includes an entry from today, false otherwise.
+     * @return The version of the set of entries.
      */
-    private boolean hasEntryForToday() {
-        LocalDate today = LocalDate.now();
-        // While this is inefficient, it is also simple and safe. It could however be
-        // done in constant time in the future.
-        return journalEntries.stream().anyMatch(entry -> today.equals(entry.getDate()));
+    public long getEntriesVersion() {
+        return entriesVersion;
     }
 
     /**
-     * Getter for this object's journalEntries set.
+     * Getter for this object's streakEnd.
      * 
-     * @return The set of journal entries.
+     * @return The date of the newest entry, or null if the journal has no entries.
      */
-    public Set<JournalEntry> getJournalEntries() {
-        return journalEntries;
+    public LocalDate getStreakEnd() {
+        return streakEnd;
+    }
+
+    /**
+     * Getter for this object's streakLength.
+     * 
+     * @return The number of consecutive days with an entry ending at the newest
+     *         entry.
+     */
+    public int getStreakLength() {
+        return streakLength;
+    }
+
+    /**
+     * Getter for this object's longestStreak.
+     * 
+     * @return The number of days of the longest streak.
+     */
+    public int getLongestStreak() {
+        return longestStreak;
+    }
+
+    /**
+     * Getter for this object's longestStreakEnd.
+     * 
+     * @return The last day of the longest streak, or null if the journal has no
+     *         entries.
+     */
+    public LocalDate getLongestStreakEnd() {
+        return longestStreakEnd;
     }
 
     /**
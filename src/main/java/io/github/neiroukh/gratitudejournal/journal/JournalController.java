@@ -1,29 +1,71 @@
 package io.github.neiroukh.gratitudejournal.journal;
 
+import io.github.neiroukh.gratitudejournal.journal.calendar.CalendarDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.ImportResultDTO;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryDTO;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryModelAssembler;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryPatchDTO;
+import io.github.neiroukh.gratitudejournal.journal.exception.EntryVersionMismatchException;
+import io.github.neiroukh.gratitudejournal.journal.exception.ImportInvalidException;
+import io.github.neiroukh.gratitudejournal.journal.exception.PreconditionMissingException;
+import io.github.neiroukh.gratitudejournal.journal.export.EntryExportWriter;
+import io.github.neiroukh.gratitudejournal.journal.export.ExportFormat;
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.EntryCursor;
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.EntryFilter;
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.EntryPage;
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.EntryPageModel;
 import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO;
 import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTOModelAssembler;
+import io.github.neiroukh.gratitudejournal.journal.search.SearchPage;
+import io.github.neiroukh.gratitudejournal.journal.stats.StatsGranularity;
+import io.github.neiroukh.gratitudejournal.journal.stats.WellBeingStatsDTO;
+import io.github.neiroukh.gratitudejournal.journal.streak.StreakDTO;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Rest-Controller exposing the Journal-API. Part of the presentation layer of
@@ -33,12 +75,26 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 public class JournalController {
+    /**
+     * Media type of newline delimited JSON, in which every line holds one entry.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * Pattern of the tag of an entry's ETag, which is its version.
+     */
+    private static final Pattern VERSION_TAG = Pattern.compile("\\d{1,18}");
+
     private final JournalService journalService;
 
     private final JournalEntryModelAssembler journalEntryModelAssembler;
 
     private final IdDatePairDTOModelAssembler idPairDTOModelAssembler;
 
+    private final ObjectReader datedEntryReader;
+
+    private final ObjectWriter datedEntryWriter;
+
     /**
      * Public constructor of the class.
      * 
@@ -48,30 +104,120 @@ public class JournalController {
      *                                   responses.
      * @param idPairDTOModelAssembler    IdPairDTOModelAssembler object injected by
      *                                   Spring. Used to add HAL links to responses.
+     * @param jsonMapper                 JsonMapper object injected by Spring. Used
+     *                                   to read imports and write exports in NDJSON
+     *                                   format.
      */
     public JournalController(JournalService journalService, JournalEntryModelAssembler journalEntryModelAssembler,
-            IdDatePairDTOModelAssembler idPairDTOModelAssembler) {
+            IdDatePairDTOModelAssembler idPairDTOModelAssembler, JsonMapper jsonMapper) {
         this.journalService = journalService;
         this.journalEntryModelAssembler = journalEntryModelAssembler;
         this.idPairDTOModelAssembler = idPairDTOModelAssembler;
+        this.datedEntryReader = jsonMapper.readerFor(DatedJournalEntryDTO.class);
+        this.datedEntryWriter = jsonMapper.writerFor(DatedJournalEntryDTO.class);
     }
 
     /**
-     * Retrieves a list containing an id-date pair for every journal entry belonging
-     * to the user.
+     * Retrieves a page of id-date pairs of the journal entries belonging to the
+     * user, ordered by date in descending order, optionally filtered by a range of
+     * dates and a well-being.
      * 
-     * @param userName The name of the user to retrieve the journal entries from.
-     * @return A {@code CollectionModel<EntityModel<IdDatePairDTO>>} object
-     *         containing a list of id-date pairs of the user's journal entries,
-     *         links to valid actions and HTTP-Code 200-OK.
+     * The page is addressed by an opaque cursor taken from the "next" or "prev"
+     * link of another page. Without a cursor the page of the newest entries is
+     * returned. The links to the neighbouring pages keep the filters and are
+     * expanded, so clients follow them as they are. Every page holds the streaks
+     * of the journal in its "streak" property.
+     * 
+     * The response carries the version of the journal's entries and the current
+     * date as strong ETag. The streaks only change with the version, except for
+     * the current streak, which ends when a day passes without an entry. If the
+     * ETag matches the If-None-Match header, the page is neither read nor
+     * rendered. Listings filtered by well-being carry no ETag, as the well-being
+     * of an entry changes without changing the version.
+     * 
+     * @param userName  The name of the user to retrieve the journal entries from.
+     * @param before    Optional cursor to retrieve the entries older than.
+     * @param after     Optional cursor to retrieve the entries newer than.
+     * @param size      Optional maximum number of entries on the page.
+     * @param from      Optional first date to include.
+     * @param to        Optional last date to include.
+     * @param wellBeing Optional well-being the entries must have.
+     * @param request   The current request, used to evaluate conditional headers.
+     * @return An {@link EntryPageModel} object containing a page of id-date pairs
+     *         of the user's journal entries, the streaks of the journal, links to
+     *         valid actions, the streak resource and neighbouring pages and HTTP-Code
+     *         200-OK.
+     *         Empty response and HTTP-Code 304-NOT-MODIFIED if the page is
+     *         unchanged.
      */
     @GetMapping("/journal/{userName}")
-    public CollectionModel<EntityModel<IdDatePairDTO>> getEntries(@PathVariable String userName) {
-        List<EntityModel<IdDatePairDTO>> entries = journalService.getEntries(userName).stream()
+    public EntryPageModel getEntries(@PathVariable String userName,
+            @RequestParam(required = false) String before, @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) JournalEntry.WellBeing wellBeing, WebRequest request) {
+        if (request != null && wellBeing == null
+                && request.checkNotModified(
+                        eTag(journalService.getEntriesVersion(userName) + "-" + LocalDate.now())))
+            return null;
+
+        EntryPage page = journalService.getEntries(userName, EntryCursor.parse(before), EntryCursor.parse(after),
+                size, new EntryFilter(from, to, wellBeing));
+        List<EntityModel<IdDatePairDTO>> entries = page.entries().stream()
                 .map(idPairDTOModelAssembler::toModel).collect(Collectors.toList());
 
-        return CollectionModel.of(entries, linkTo(methodOn(JournalController.class).getEntries(userName)).withSelfRel(),
-                linkTo(methodOn(JournalController.class).addEntry(userName, null)).withRel("create"));
+        EntryPageModel collectionModel = new EntryPageModel(entries, page.streak(),
+                linkTo(methodOn(JournalController.class).getEntries(userName, before, after, size, from, to,
+                        wellBeing, null)).withSelfRel().expand(),
+                linkTo(methodOn(JournalController.class).addEntry(userName, null)).withRel("create"),
+                linkTo(methodOn(JournalController.class).getStreak(userName)).withRel("streak"));
+        if (page.next() != null)
+            collectionModel.add(linkTo(methodOn(JournalController.class).getEntries(userName,
+                    page.next().encode(), null, size, from, to, wellBeing, null)).withRel(IanaLinkRelations.NEXT)
+                    .expand());
+        if (page.previous() != null)
+            collectionModel.add(linkTo(methodOn(JournalController.class).getEntries(userName, null,
+                    page.previous().encode(), size, from, to, wellBeing, null)).withRel(IanaLinkRelations.PREV)
+                    .expand());
+
+        return collectionModel;
+    }
+
+    /**
+     * Searches the gratitude fields of the journal entries belonging to the user
+     * and retrieves a page of id-date pairs of the matching entries, ordered by
+     * relevance in descending order.
+     * 
+     * @param userName The name of the user to search the journal entries of.
+     * @param q        The words to search for.
+     * @param page     Optional number of the page, starting at 0.
+     * @param size     Optional maximum number of entries on the page.
+     * @return A {@code CollectionModel<EntityModel<IdDatePairDTO>>} object
+     *         containing a page of id-date pairs of the matching entries, links to
+     *         the journal and neighbouring pages and HTTP-Code 200-OK.
+     */
+    @GetMapping("/journal/{userName}/search")
+    public CollectionModel<EntityModel<IdDatePairDTO>> searchEntries(@PathVariable String userName,
+            @RequestParam String q, @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        SearchPage result = journalService.searchEntries(userName, q, page, size);
+        List<EntityModel<IdDatePairDTO>> entries = result.entries().stream()
+                .map(idPairDTOModelAssembler::toModel).collect(Collectors.toList());
+
+        CollectionModel<EntityModel<IdDatePairDTO>> collectionModel = CollectionModel.of(entries,
+                linkTo(methodOn(JournalController.class).searchEntries(userName, q, page, size)).withSelfRel()
+                        .expand(),
+                linkTo(methodOn(JournalController.class).getEntries(userName, null, null, null, null, null, null, null))
+                        .withRel("journal"));
+        if (result.hasNext())
+            collectionModel.add(linkTo(methodOn(JournalController.class).searchEntries(userName, q,
+                    result.page() + 1, size)).withRel(IanaLinkRelations.NEXT).expand());
+        if (result.page() > 0)
+            collectionModel.add(linkTo(methodOn(JournalController.class).searchEntries(userName, q,
+                    result.page() - 1, size)).withRel(IanaLinkRelations.PREV).expand());
+
+        return collectionModel;
     }
 
     /**
@@ -89,15 +235,201 @@ public class JournalController {
         return journalEntryModelAssembler.toModel(journalEntry);
     }
 
+    /**
+     * Imports entries of previous days into a user's journal. The entries are sent
+     * as a JSON array.
+     * 
+     * @param userName The user name of the user to import the entries into.
+     * @param entries  The entries to import, each including its date.
+     * @return An {@code EntityModel<ImportResultDTO>} object containing the number
+     *         of imported entries, a link to the journal and HTTP-Code 201-CREATED.
+     */
+    @PostMapping(path = "/journal/{userName}/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public EntityModel<ImportResultDTO> importEntries(@PathVariable String userName,
+            @RequestBody List<DatedJournalEntryDTO> entries) {
+        return toImportResultModel(userName, journalService.importEntries(userName, entries.iterator()));
+    }
+
+    /**
+     * Imports entries of previous days into a user's journal. The entries are sent
+     * as newline delimited JSON with one entry per line. The lines are read while
+     * the entries are imported, so the body is never held in memory as a whole.
+     * 
+     * @param userName The user name of the user to import the entries into.
+     * @param body     The request body containing the entries.
+     * @return An {@code EntityModel<ImportResultDTO>} object containing the number
+     *         of imported entries, a link to the journal and HTTP-Code 201-CREATED.
+     */
+    @PostMapping(path = "/journal/{userName}/import", consumes = APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    public EntityModel<ImportResultDTO> importEntriesNdjson(@PathVariable String userName, InputStream body) {
+        try (MappingIterator<DatedJournalEntryDTO> lines = readNdjson(body)) {
+            Iterator<DatedJournalEntryDTO> entries = new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    try {
+                        return lines.hasNext();
+                    } catch (JacksonException ex) {
+                        throw invalidNdjson(ex);
+                    }
+                }
+
+                @Override
+                public DatedJournalEntryDTO next() {
+                    try {
+                        return lines.next();
+                    } catch (JacksonException ex) {
+                        throw invalidNdjson(ex);
+                    }
+                }
+            };
+            return toImportResultModel(userName, journalService.importEntries(userName, entries));
+        }
+    }
+
+    /**
+     * Open a lazy reader over the lines of an NDJSON import.
+     * 
+     * @param body The request body containing the entries.
+     * @return The iterator over the entries of the body.
+     * @throws ImportInvalidException The body does not start with valid JSON.
+     */
+    private MappingIterator<DatedJournalEntryDTO> readNdjson(InputStream body) {
+        try {
+            return datedEntryReader.readValues(body);
+        } catch (JacksonException ex) {
+            throw invalidNdjson(ex);
+        }
+    }
+
+    /**
+     * Create the exception reporting an NDJSON import that could not be read.
+     * 
+     * @param ex The exception of the failed read.
+     * @return The exception to throw.
+     */
+    private static ImportInvalidException invalidNdjson(JacksonException ex) {
+        return new ImportInvalidException("The import is not valid NDJSON: " + ex.getOriginalMessage());
+    }
+
+    /**
+     * Create the response of an import, linking to the journal.
+     * 
+     * @param userName        The user name of the user the entries were imported
+     *                        into.
+     * @param importedEntries The number of imported entries.
+     * @return The {@code EntityModel<ImportResultDTO>} of the import.
+     */
+    private static EntityModel<ImportResultDTO> toImportResultModel(String userName, int importedEntries) {
+        return EntityModel.of(new ImportResultDTO(importedEntries),
+                linkTo(methodOn(JournalController.class).getEntries(userName, null, null, null, null, null, null, null))
+                        .withRel("journal"));
+    }
+
+    /**
+     * Exports all entries of a user's journal, ordered by date in descending
+     * order. The entries are streamed to the response as they are read from the
+     * database.
+     * 
+     * @param userName The user name of the user to export the journal of.
+     * @param format   The format of the export, NDJSON by default.
+     * @param response The response to write the export to.
+     * @throws IOException The export could not be written.
+     */
+    @GetMapping("/journal/{userName}/export")
+    public void exportEntries(@PathVariable String userName,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format, HttpServletResponse response)
+            throws IOException {
+        journalService.exportEntries(userName, new EntryExportWriter(() -> {
+            response.setContentType(format.getMediaType());
+            response.setCharacterEncoding(StandardCharsets.UTF_8);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(userName + "." + format.getFileExtension(), StandardCharsets.UTF_8).build().toString());
+            return response.getWriter();
+        }, format, datedEntryWriter));
+    }
+
+    /**
+     * Retrieves the well-being statistics of a user's journal, with the number of
+     * entries, the mean well-being score and the distribution of the well-being
+     * per week or month. The statistics are read from rollups maintained on every
+     * write, so their cost does not depend on the size of the journal.
+     * 
+     * @param userName    The user name of the user owning the journal.
+     * @param granularity The granularity of the buckets, "week" by default.
+     * @return An {@code EntityModel<WellBeingStatsDTO>} object containing the
+     *         statistics, links to the statistics and the journal and HTTP-Code
+     *         200-OK.
+     */
+    @GetMapping("/journal/{userName}/stats/wellbeing")
+    public EntityModel<WellBeingStatsDTO> getWellBeingStats(@PathVariable String userName,
+            @RequestParam(defaultValue = "week") StatsGranularity granularity) {
+        WellBeingStatsDTO stats = journalService.getWellBeingStats(userName, granularity);
+        return EntityModel.of(stats,
+                linkTo(methodOn(JournalController.class).getWellBeingStats(userName, granularity)).withSelfRel(),
+                linkTo(methodOn(JournalController.class).getEntries(userName, null, null, null, null, null, null, null))
+                        .withRel("journal"));
+    }
+
+    /**
+     * Retrieves the current and the longest journaling streak of a user's journal.
+     * The streaks are read from the streak state stored with the journal, which is
+     * maintained on every write, so none of the journal's entries is read.
+     * 
+     * @param userName The user name of the user owning the journal.
+     * @return An {@code EntityModel<StreakDTO>} object containing the streaks,
+     *         links to the streaks and the journal and HTTP-Code 200-OK.
+     */
+    @GetMapping("/journal/{userName}/streak")
+    public EntityModel<StreakDTO> getStreak(@PathVariable String userName) {
+        StreakDTO streak = journalService.getStreak(userName);
+        return EntityModel.of(streak,
+                linkTo(methodOn(JournalController.class).getStreak(userName)).withSelfRel(),
+                linkTo(methodOn(JournalController.class).getEntries(userName, null, null, null, null, null, null, null))
+                        .withRel("journal"));
+    }
+
+    /**
+     * Retrieves the calendar of a user's journal for one year: a bitset of the
+     * days with an entry and, if requested, a 3-bit well-being code per day, both
+     * encoded in Base64. The calendar is read from a single row maintained on
+     * every write, so none of the journal's entries is read.
+     * 
+     * @param userName  The user name of the user owning the journal.
+     * @param year      The year of the calendar.
+     * @param wellBeing True to include the well-being codes, false by default.
+     * @return An {@code EntityModel<CalendarDTO>} object containing the calendar,
+     *         links to the calendar and the journal and HTTP-Code 200-OK.
+     */
+    @GetMapping("/journal/{userName}/calendar/{year}")
+    public EntityModel<CalendarDTO> getCalendar(@PathVariable String userName, @PathVariable int year,
+            @RequestParam(defaultValue = "false") boolean wellBeing) {
+        CalendarDTO calendar = journalService.getCalendar(userName, year, wellBeing);
+        return EntityModel.of(calendar,
+                linkTo(methodOn(JournalController.class).getCalendar(userName, year, wellBeing)).withSelfRel(),
+                linkTo(methodOn(JournalController.class).getEntries(userName, null, null, null, null, null, null, null))
+                        .withRel("journal"));
+    }
+
     /**
      * Retrieves a journal entry.
      * 
+     * The response carries the version of the entry as strong ETag. If it matches
+     * the If-None-Match header, the entry is neither loaded nor rendered.
+     * 
      * @param journalEntryId The id of the requested journal entry.
+     * @param request        The current request, used to evaluate conditional
+     *                       headers.
      * @return An {@code EntityModel<JournalEntry>} object containing the retrieved
-     *         entry, links to valid actions and HTTP-Code 200-OK.
+     *         entry, links to valid actions and HTTP-Code 200-OK. Empty response
+     *         and HTTP-Code 304-NOT-MODIFIED if the entry is unchanged.
      */
     @GetMapping("/journal/entry/{journalEntryId}")
-    public EntityModel<JournalEntry> getEntry(@PathVariable Long journalEntryId) {
+    public EntityModel<JournalEntry> getEntry(@PathVariable Long journalEntryId, WebRequest request) {
+        if (request != null && request.checkNotModified(eTag(journalService.getEntryVersion(journalEntryId))))
+            return null;
+
         JournalEntry journalEntry = journalService.getEntry(journalEntryId);
         return journalEntryModelAssembler.toModel(journalEntry);
     }
@@ -134,4 +466,75 @@ public class JournalController {
         JournalEntry journalEntry = journalService.updateEntry(journalEntryId, updatedEntry);
         return journalEntryModelAssembler.toModel(journalEntry);
     }
+
+    /**
+     * Partially updates the mutable fields of a
+     * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry} object.
+     * Fields missing in the request are left unchanged, fields sent as null are
+     * cleared (JSON Merge Patch).
+     * 
+     * The request must name the version it is based on in the If-Match header,
+     * using the ETag of the entry. Updates of other versions are rejected, so
+     * concurrent changes are never overwritten. The header may list several
+     * ETags, of which one must match, or be "*" to match any version. Weak ETags
+     * never match, as If-Match compares ETags strongly.
+     * 
+     * @param journalEntryId The id of the
+     *                       {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
+     *                       object to update.
+     * @param ifMatch        The ETags of the versions the changes may be based
+     *                       on.
+     * @param patch          The
+     *                       {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryPatchDTO}
+     *                       object containing the fields to change.
+     * @return An {@code EntityModel<JournalEntry>} object containing the updated
+     *         entry, links to valid actions, its new ETag and HTTP-Code 200-OK.
+     *         HTTP-Code 412-PRECONDITION-FAILED if the version does not match and
+     *         428-PRECONDITION-REQUIRED if the If-Match header is missing.
+     */
+    @PatchMapping(path = "/journal/entry/{journalEntryId}", consumes = { "application/merge-patch+json",
+            MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<EntityModel<JournalEntry>> patchEntry(@PathVariable Long journalEntryId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JournalEntryPatchDTO patch) {
+        if (ifMatch == null)
+            throw new PreconditionMissingException(HttpHeaders.IF_MATCH);
+
+        Set<Long> expectedVersions = new HashSet<>();
+        for (ETag tag : ETag.parse(ifMatch)) {
+            if (tag.isWildcard()) {
+                expectedVersions = null;
+                break;
+            }
+            // If-Match uses the strong comparison, a weak tag never matches.
+            if (!tag.weak() && VERSION_TAG.matcher(tag.tag()).matches())
+                expectedVersions.add(Long.parseLong(tag.tag()));
+        }
+        if (expectedVersions != null && expectedVersions.isEmpty())
+            throw new EntryVersionMismatchException(journalEntryId);
+
+        JournalEntry journalEntry = journalService.patchEntry(journalEntryId, expectedVersions, patch);
+        return ResponseEntity.ok().eTag(eTag(journalEntry.getVersion()))
+                .body(journalEntryModelAssembler.toModel(journalEntry));
+    }
+
+    /**
+     * Create the strong ETag of a version.
+     * 
+     * @param version The version of the resource.
+     * @return The quoted ETag.
+     */
+    static String eTag(long version) {
+        return eTag(Long.toString(version));
+    }
+
+    /**
+     * Create a strong ETag.
+     * 
+     * @param tag The unquoted tag.
+     * @return The quoted ETag.
+     */
+    static String eTag(String tag) {
+        return "\"" + tag + "\"";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package io.github.neiroukh.gratitudejournal.journal;
+
+import io.github.neiroukh.gratitudejournal.journal.streak.StreakStateDTO;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * JpaRepository for the Journal Entity. Part of the persistence layer of the
+ * Journal-API.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface JournalRepository extends JpaRepository<Journal, Long> {
+    /**
+     * Retrieves the version of the set of entries of a journal by its primary key,
+     * without loading the journal.
+     * 
+     * @param journalId The id of the journal.
+     * @return The entriesVersion of the journal, or an empty Optional if no
+     *         journal matches the id.
+     */
+    @Query("SELECT journal.entriesVersion FROM Journal journal WHERE journal.journalId = ?1")
+    Optional<Long> findEntriesVersionById(Long journalId);
+
+    /**
+     * Retrieves the streak state of a journal by its primary key, without loading
+     * the journal.
+     * 
+     * @param journalId The id of the journal.
+     * @return An {@code Optional<StreakStateDTO>} object containing the streak
+     *         state, or an empty Optional if no journal matches the id.
+     */
+    @Query("SELECT journal.streakEnd, journal.streakLength, journal.longestStreak, journal.longestStreakEnd FROM Journal journal WHERE journal.journalId = ?1")
+    Optional<StreakStateDTO> findStreakById(Long journalId);
+
+    /**
+     * Retrieves and locks the streak state of a journal by its primary key,
+     * without loading the journal. The row stays locked until the end of the
+     * transaction, so the streak cannot change before it is written.
+     * 
+     * @param journalId The id of the journal.
+     * @return An {@code Optional<StreakStateDTO>} object containing the streak
+     *         state, or an empty Optional if no journal matches the id.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT journal.streakEnd, journal.streakLength, journal.longestStreak, journal.longestStreakEnd FROM Journal journal WHERE journal.journalId = ?1")
+    Optional<StreakStateDTO> lockStreakById(Long journalId);
+
+    /**
+     * Increments the version of the set of entries of a journal and extends its
+     * streak by an entry of today with a single UPDATE statement. The current
+     * streak continues if the newest entry is from yesterday and restarts
+     * otherwise. The longest streak is replaced if the current streak becomes
+     * longer.
+     * 
+     * Every assignment only reads columns assigned after it, so the statement
+     * computes the same result whether the assignments see the previous values,
+     * as in standard SQL, or the values already assigned, as in MySQL.
+     * 
+     * @param journalId The id of the journal.
+     * @param today     The date of the new entry.
+     * @param yesterday The day before the new entry.
+     * @return The number of updated journals.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Journal journal SET
+            journal.longestStreakEnd = CASE WHEN (CASE WHEN journal.streakEnd = ?3 THEN journal.streakLength + 1 ELSE 1 END) > journal.longestStreak THEN ?2 ELSE journal.longestStreakEnd END,
+            journal.longestStreak = CASE WHEN (CASE WHEN journal.streakEnd = ?3 THEN journal.streakLength + 1 ELSE 1 END) > journal.longestStreak THEN (CASE WHEN journal.streakEnd = ?3 THEN journal.streakLength + 1 ELSE 1 END) ELSE journal.longestStreak END,
+            journal.streakLength = CASE WHEN journal.streakEnd = ?3 THEN journal.streakLength + 1 ELSE 1 END,
+            journal.streakEnd = ?2,
+            journal.entriesVersion = journal.entriesVersion + 1
+            WHERE journal.journalId = ?1""")
+    int incrementEntriesVersionAndExtendStreak(Long journalId, LocalDate today, LocalDate yesterday);
+
+    /**
+     * Increments the version of the set of entries of a journal and replaces its
+     * streak state with a single UPDATE statement.
+     * 
+     * @param journalId        The id of the journal.
+     * @param streakEnd        The date of the newest entry.
+     * @param streakLength     The length of the streak ending at the newest entry.
+     * @param longestStreak    The length of the longest streak.
+     * @param longestStreakEnd The last day of the longest streak.
+     * @return The number of updated journals.
+     */
+    @Modifying
+    @Query("UPDATE Journal journal SET journal.streakEnd = ?2, journal.streakLength = ?3, journal.longestStreak = ?4, journal.longestStreakEnd = ?5, journal.entriesVersion = journal.entriesVersion + 1 WHERE journal.journalId = ?1")
+    int incrementEntriesVersionAndSetStreak(Long journalId, LocalDate streakEnd, int streakLength,
+            int longestStreak, LocalDate longestStreakEnd);
+
+    /**
+     * Deletes a journal by its primary key with a single DELETE statement, without
+     * loading the journal or cascading to its entries. The entries must have been
+     * deleted before.
+     * 
+     * @param journalId The id of the journal.
+     * @return The number of deleted journals.
+     */
+    @Modifying
+    @Query("DELETE FROM Journal journal WHERE journal.journalId = ?1")
+    int deleteJournalById(Long journalId);
+}
\ No newline at end of file
@@ -1,85 +1,545 @@
 package io.github.neiroukh.gratitudejournal.journal;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.github.neiroukh.gratitudejournal.cache.CacheInvalidationPublisher;
+import io.github.neiroukh.gratitudejournal.journal.calendar.CalendarDTO;
+import io.github.neiroukh.gratitudejournal.journal.calendar.JournalCalendarService;
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.EntryWellBeingDTO;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryPatchDTO;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryRepository;
+import io.github.neiroukh.gratitudejournal.journal.exception.EntryAlreadyExistsException;
 import io.github.neiroukh.gratitudejournal.journal.exception.EntryNotFoundException;
+import io.github.neiroukh.gratitudejournal.journal.exception.EntryVersionMismatchException;
+import io.github.neiroukh.gratitudejournal.journal.exception.ImportInvalidException;
+import io.github.neiroukh.gratitudejournal.journal.export.EntryExportWriter;
+import io.github.neiroukh.gratitudejournal.journal.exception.PageRequestInvalidException;
+import io.github.neiroukh.gratitudejournal.journal.exception.SearchQueryInvalidException;
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.EntryCursor;
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.EntryFilter;
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.EntryPage;
 import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO;
-import io.github.neiroukh.gratitudejournal.user.User;
+import io.github.neiroukh.gratitudejournal.journal.search.EntrySearchService;
+import io.github.neiroukh.gratitudejournal.journal.search.SearchPage;
+import io.github.neiroukh.gratitudejournal.journal.stats.StatsGranularity;
+import io.github.neiroukh.gratitudejournal.journal.stats.WellBeingRollupService;
+import io.github.neiroukh.gratitudejournal.journal.stats.WellBeingStatsDTO;
+import io.github.neiroukh.gratitudejournal.journal.streak.StreakDTO;
+import io.github.neiroukh.gratitudejournal.journal.streak.StreakService;
+import io.github.neiroukh.gratitudejournal.shard.ShardKey;
 import io.github.neiroukh.gratitudejournal.user.UserService;
+import jakarta.persistence.EntityManager;
 
 /**
  * Service providing operations on Journal entities and enforcing business
  * logic. Part of the service layer of the Journal-API.
  * 
+ * Operations that only read run in read-only transactions, which are served by
+ * the read replica if one is configured.
+ * 
+ * Every operation runs on the shard of the user name or entry id annotated
+ * with {@link ShardKey}.
+ * 
+ * Every write publishes the invalidation of the cached entries and journals it
+ * changes and of the cached listings to the other nodes of the service.
+ * 
  * @author Afeef Neiroukh
  */
 @Service
 public class JournalService {
+    /**
+     * Number of entries on a page if the client does not request a page size.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Maximum number of entries a client may request on a single page.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
     /**
      * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryRepository}
      * object injected by Spring.
      */
     private final JournalEntryRepository entryRepository;
 
+    /**
+     * {@link io.github.neiroukh.gratitudejournal.journal.JournalRepository} object
+     * injected by Spring.
+     */
+    private final JournalRepository journalRepository;
+
     /**
      * {@link io.github.neiroukh.gratitudejournal.user.UserService} object injected by
      * Spring.
      */
     private final UserService userService;
 
+    /**
+     * {@link io.github.neiroukh.gratitudejournal.journal.stats.WellBeingRollupService}
+     * object injected by Spring. Maintains the well-being rollups on every write.
+     */
+    private final WellBeingRollupService rollupService;
+
+    /**
+     * {@link io.github.neiroukh.gratitudejournal.journal.streak.StreakService}
+     * object injected by Spring. Maintains the streaks and the version of the
+     * journal's entries whenever entries are added or removed.
+     */
+    private final StreakService streakService;
+
+    /**
+     * {@link io.github.neiroukh.gratitudejournal.journal.search.EntrySearchService}
+     * object injected by Spring.
+     */
+    private final EntrySearchService searchService;
+
+    /**
+     * {@link io.github.neiroukh.gratitudejournal.journal.calendar.JournalCalendarService}
+     * object injected by Spring. Maintains the calendars on every write.
+     */
+    private final JournalCalendarService calendarService;
+
+    /**
+     * EntityManager injected by Spring. Used to detach imported entries after
+     * every chunk.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * {@link io.github.neiroukh.gratitudejournal.cache.CacheInvalidationPublisher}
+     * object injected by Spring. Publishes the invalidations of every write.
+     */
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * Number of entries written per chunk of an import.
+     */
+    private final int importChunkSize;
+
     /**
      * JournalService constructor.
      * 
-     * @param entryRepository {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryRepository}
-     *                        object injected by Spring.
-     * @param userService     {@link io.github.neiroukh.gratitudejournal.user.UserService}
+     * @param entryRepository       {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryRepository}
+     *                              object injected by Spring.
+     * @param journalRepository     {@link io.github.neiroukh.gratitudejournal.journal.JournalRepository}
+     *                              object injected by Spring.
+     * @param userService           {@link io.github.neiroukh.gratitudejournal.user.UserService}
+     * @param rollupService         {@link io.github.neiroukh.gratitudejournal.journal.stats.WellBeingRollupService}
+     *                              object injected by Spring.
+     * @param streakService         {@link io.github.neiroukh.gratitudejournal.journal.streak.StreakService}
+     *                              object injected by Spring.
+     * @param searchService         {@link io.github.neiroukh.gratitudejournal.journal.search.EntrySearchService}
+     *                              object injected by Spring.
+     * @param calendarService       {@link io.github.neiroukh.gratitudejournal.journal.calendar.JournalCalendarService}
+     *                              object injected by Spring.
+     * @param entityManager         EntityManager injected by Spring.
+     * @param invalidationPublisher {@link io.github.neiroukh.gratitudejournal.cache.CacheInvalidationPublisher}
+     *                              object injected by Spring.
+     * @param importChunkSize       Number of entries written per chunk of an import,
+     *                              configured by gratitudejournal.import.chunk-size.
      */
-    public JournalService(JournalEntryRepository entryRepository, UserService userService) {
+    public JournalService(JournalEntryRepository entryRepository, JournalRepository journalRepository,
+            UserService userService, WellBeingRollupService rollupService, StreakService streakService,
+            EntrySearchService searchService, JournalCalendarService calendarService,
+            EntityManager entityManager, CacheInvalidationPublisher invalidationPublisher,
+            @Value("${gratitudejournal.import.chunk-size:500}") int importChunkSize) {
         this.entryRepository = entryRepository;
+        this.journalRepository = journalRepository;
         this.userService = userService;
+        this.rollupService = rollupService;
+        this.streakService = streakService;
+        this.searchService = searchService;
+        this.calendarService = calendarService;
+        this.entityManager = entityManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.importChunkSize = importChunkSize;
     }
 
     /**
-     * Get a Collection containing a
+     * Get one page of
      * {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO}
-     * object for every
-     * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry} object in
-     * the journal.
+     * objects of the
+     * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry} objects
+     * in the journal, ordered by date in descending order.
+     * 
+     * Pages are addressed by cursors (keyset pagination). Every page is read by an
+     * index range scan starting at the cursor, which makes the cost of a page
+     * independent of its position in the journal. At most one of the cursors may
+     * be provided. Without a cursor the page of the newest entries is returned.
+     * 
+     * The filters are part of the query, so a date range is read by a range scan
+     * of the index limited to the range, and entries of other well-beings are
+     * skipped by the database.
+     * 
+     * The streaks of the journal are added to the page. They are read by a
+     * projection of the journal's streak state, so no further entries are read.
      * 
      * @param userName The user name of the user to perform the request on.
-     * @return A {@code Collection<IdDatePairDTO>} object containing a
-     *         {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO}
-     *         object for every
-     *         {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
-     *         object in the journal.
+     * @param before   Cursor to retrieve the entries older than. May be null.
+     * @param after    Cursor to retrieve the entries newer than. May be null.
+     * @param size     The maximum number of entries on the page. Uses
+     *                 {@link #DEFAULT_PAGE_SIZE} if null.
+     * @param filter   The filters the entries must match.
+     * @return An {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.EntryPage}
+     *         object containing the page, the cursors to its neighbouring pages
+     *         and the streaks of the journal.
+     * @throws PageRequestInvalidException Both cursors are provided, the size is
+     *                                     not between 1 and
+     *                                     {@link #MAX_PAGE_SIZE} or the date range
+     *                                     ends before it starts.
+     */
+    @Transactional(readOnly = true)
+    public EntryPage getEntries(@ShardKey String userName, EntryCursor before, EntryCursor after, Integer size,
+            EntryFilter filter) {
+        if (before != null && after != null)
+            throw new PageRequestInvalidException("Only one of the cursors \"before\" and \"after\" may be set.");
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to()))
+            throw new PageRequestInvalidException("The date \"from\" must not be after the date \"to\".");
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE)
+            throw new PageRequestInvalidException("The page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
+        // One additional entry is requested to find out if there is another page.
+        Limit limit = Limit.of(pageSize + 1);
+
+        if (after != null) {
+            List<IdDatePairDTO> entries = new ArrayList<>(
+                    entryRepository.getEntriesByJournalIdAfter(journalId, after.date(), after.id(),
+                            filter.from(), filter.to(), filter.wellBeing(), limit));
+            boolean hasNewer = entries.size() > pageSize;
+            if (hasNewer)
+                entries.removeLast();
+            Collections.reverse(entries);
+
+            return new EntryPage(entries, entries.isEmpty() ? null : EntryCursor.of(entries.getLast()),
+                    hasNewer ? EntryCursor.of(entries.getFirst()) : null, streakService.getStreak(journalId));
+        }
+
+        List<IdDatePairDTO> entries = new ArrayList<>(before == null
+                ? entryRepository.getEntriesByJournalId(journalId, filter.from(), filter.to(), filter.wellBeing(),
+                        limit)
+                : entryRepository.getEntriesByJournalIdBefore(journalId, before.date(), before.id(), filter.from(),
+                        filter.to(), filter.wellBeing(), limit));
+        boolean hasOlder = entries.size() > pageSize;
+        if (hasOlder)
+            entries.removeLast();
+
+        return new EntryPage(entries, hasOlder ? EntryCursor.of(entries.getLast()) : null,
+                before != null && !entries.isEmpty() ? EntryCursor.of(entries.getFirst()) : null,
+                streakService.getStreak(journalId));
+    }
+
+    /**
+     * Search the gratitude fields of the entries of the journal of the user
+     * matching the provided user name. Only the most recent entries of the journal
+     * are searched, ranked by relevance within the journal, most relevant first.
+     * 
+     * @param userName The user name of the user owning the journal.
+     * @param query    The words to search for.
+     * @param page     The number of the page, starting at 0. Uses 0 if null.
+     * @param size     The maximum number of entries on the page. Uses
+     *                 {@link #DEFAULT_PAGE_SIZE} if null.
+     * @return A {@link io.github.neiroukh.gratitudejournal.journal.search.SearchPage}
+     *         object containing the page of matching entries.
+     * @throws SearchQueryInvalidException The query is empty.
+     * @throws PageRequestInvalidException The page is negative or the size is not
+     *                                     between 1 and {@link #MAX_PAGE_SIZE}.
+     */
+    @Transactional(readOnly = true)
+    public SearchPage searchEntries(@ShardKey String userName, String query, Integer page, Integer size) {
+        if (query == null || query.isBlank())
+            throw new SearchQueryInvalidException("The search query must not be empty.");
+
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0)
+            throw new PageRequestInvalidException("The page must not be negative.");
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE)
+            throw new PageRequestInvalidException("The page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
+        return searchService.search(journalId, query, pageNumber, pageSize);
+    }
+
+    /**
+     * Get the version of the set of entries of the journal of the user matching
+     * the provided user name. The version changes whenever an entry is added to or
+     * removed from the journal, so it validates every page of the listing.
+     * 
+     * @param userName The user name of the user owning the journal.
+     * @return The version of the set of entries of the journal.
      */
-    public Collection<IdDatePairDTO> getEntries(String userName) {
-        User user = userService.getUserByUserName(userName);
+    @Transactional(readOnly = true)
+    public long getEntriesVersion(@ShardKey String userName) {
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
+        return journalRepository.findEntriesVersionById(journalId).orElse(0L);
+    }
 
-        return entryRepository.getEntriesByJournalId(user.getJournal().getJournalId());
+    /**
+     * Get the well-being statistics of the journal of the user matching the
+     * provided user name. The statistics are read from the well-being rollups, so
+     * none of the journal's entries is read.
+     * 
+     * @param userName    The user name of the user owning the journal.
+     * @param granularity The granularity of the buckets.
+     * @return The {@link io.github.neiroukh.gratitudejournal.journal.stats.WellBeingStatsDTO}
+     *         object holding the statistics per bucket.
+     */
+    @Transactional(readOnly = true)
+    public WellBeingStatsDTO getWellBeingStats(@ShardKey String userName, StatsGranularity granularity) {
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
+        return rollupService.getStats(journalId, granularity);
+    }
+
+    /**
+     * Get the current and the longest journaling streak of the journal of the user
+     * matching the provided user name. The streaks are read from the streak state
+     * stored with the journal, so none of the journal's entries is read.
+     * 
+     * @param userName The user name of the user owning the journal.
+     * @return The {@link io.github.neiroukh.gratitudejournal.journal.streak.StreakDTO}
+     *         object holding the streaks.
+     */
+    @Transactional(readOnly = true)
+    public StreakDTO getStreak(@ShardKey String userName) {
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
+        return streakService.getStreak(journalId);
+    }
+
+    /**
+     * Get the calendar of the journal of the user matching the provided user name
+     * for one year. The calendar is read from a single row holding the bitsets of
+     * the year, so none of the journal's entries is read.
+     * 
+     * @param userName         The user name of the user owning the journal.
+     * @param year             The year of the calendar.
+     * @param includeWellBeing True to include the well-being of every day.
+     * @return The {@link io.github.neiroukh.gratitudejournal.journal.calendar.CalendarDTO}
+     *         object holding the bitsets of the year.
+     */
+    @Transactional(readOnly = true)
+    public CalendarDTO getCalendar(@ShardKey String userName, int year, boolean includeWellBeing) {
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
+        return calendarService.getCalendar(journalId, year, includeWellBeing);
     }
 
     /**
      * Add a new entry to the journal of the user matching the provided user name.
      * 
+     * The id of the user's journal is resolved with at most one query, as it is
+     * cached by {@link io.github.neiroukh.gratitudejournal.user.UserService}. The
+     * entry is linked to a reference of the journal, so neither the user, its
+     * journal nor the existing entries are loaded. The only other statements are
+     * the INSERT of the new entry, a bulk UPDATE incrementing the version of the
+     * journal's entries and extending its streak and the upserts of the well-being
+     * rollups and the calendar. The one-entry-per-day rule is enforced by the
+     * unique (journal_id, date) constraint, which also covers concurrent requests.
+     * 
      * @param userName The user name of the user to add an entry to its journal.
-     * @param newEntry The new entry to add.
+     * @param newEntry The new entry to add. The entry must be from today.
      * @return The {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
      *         object added.
+     * @throws EntryAlreadyExistsException The journal already holds an entry for
+     *                                     the date of the new entry.
+     * @throws RuntimeException            The date of the entry is not today.
+     * @throws IllegalArgumentException    The passed entry is null.
+     */
+    @Transactional
+    public JournalEntry addEntry(@ShardKey String userName, JournalEntry newEntry) {
+        if (newEntry == null)
+            throw new IllegalArgumentException("Entry is null.");
+
+        if (!LocalDate.now().equals(newEntry.getDate()))
+            throw new RuntimeException("Entry is not from today.");
+
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
+        newEntry.setJournal(journalRepository.getReferenceById(journalId));
+
+        JournalEntry journalEntry;
+        try {
+            journalEntry = entryRepository.saveAndFlush(newEntry);
+        } catch (DataIntegrityViolationException ex) {
+            if (violatesJournalDateConstraint(ex))
+                throw new EntryAlreadyExistsException(newEntry.getDate());
+            throw ex;
+        }
+        streakService.addEntryOfToday(journalId, journalEntry.getDate());
+        rollupService.addEntry(journalId, journalEntry.getDate(), journalEntry.getWellBeing());
+        calendarService.addEntry(journalId, journalEntry.getDate(), journalEntry.getWellBeing());
+        invalidationPublisher.evictQueries(JournalEntryRepository.ENTRIES_QUERY_REGION);
+        return journalEntry;
+    }
+
+    /**
+     * Import entries of previous days into the journal of the user matching the
+     * provided user name.
+     * 
+     * The entries are taken from the iterator in chunks of
+     * {@link #importChunkSize}, so a streamed import is never held in memory as a
+     * whole. The one-entry-per-day rule is validated for every chunk against the
+     * existing entries with a single query over the range of its dates, before
+     * the chunk is written using JDBC batch inserts. After every chunk the
+     * persistence context is flushed and cleared, so it does not grow with the
+     * size of the import. As imported entries may join runs of days anywhere in
+     * the journal, the streaks are recomputed afterwards. The import is atomic:
+     * either all entries are added or none.
+     * 
+     * @param userName The user name of the user to import the entries into.
+     * @param entries  The entries to import.
+     * @return The number of imported entries.
+     * @throws ImportInvalidException      An entry is missing or has no date, is
+     *                                     dated in the future or shares its date
+     *                                     with another imported entry.
+     * @throws EntryAlreadyExistsException The journal already holds an entry for
+     *                                     the date of an imported entry.
+     */
+    @Transactional
+    public int importEntries(@ShardKey String userName, Iterator<DatedJournalEntryDTO> entries) {
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
+        if (!entries.hasNext())
+            return 0;
+
+        LocalDate today = LocalDate.now();
+        Set<LocalDate> dates = new HashSet<>();
+        Journal journal = journalRepository.getReferenceById(journalId);
+        int imported = 0;
+        while (entries.hasNext()) {
+            List<DatedJournalEntryDTO> chunk = nextChunk(entries, importChunkSize);
+            Set<LocalDate> chunkDates = new HashSet<>();
+            LocalDate first = null;
+            LocalDate last = null;
+            for (DatedJournalEntryDTO entry : chunk) {
+                if (entry == null)
+                    throw new ImportInvalidException("Every imported entry must be an object.");
+                LocalDate date = entry.date();
+                if (date == null)
+                    throw new ImportInvalidException("Every imported entry must have a date.");
+                if (date.isAfter(today))
+                    throw new ImportInvalidException("The entry of " + date.toString() + " is from the future.");
+                if (!dates.add(date))
+                    throw new ImportInvalidException(
+                            "The import contains more than one entry for " + date.toString());
+
+                chunkDates.add(date);
+                first = first == null || date.isBefore(first) ? date : first;
+                last = last == null || date.isAfter(last) ? date : last;
+            }
+
+            // Entries written by previous chunks are not dates of this chunk.
+            for (LocalDate existingDate : entryRepository.getDatesByJournalIdBetween(journalId, first, last))
+                if (chunkDates.contains(existingDate))
+                    throw new EntryAlreadyExistsException(existingDate);
+
+            try {
+                entryRepository.saveAll(chunk.stream().map(entry -> {
+                    JournalEntry journalEntry = new JournalEntry(journal, entry.date());
+                    journalEntry.setWellBeing(entry.wellBeing());
+                    journalEntry.setGratefulForToday(entry.gratefulForToday());
+                    journalEntry.setGratefulForTodayDescription(entry.gratefulForTodayDescription());
+                    journalEntry.setGratefulForInLife(entry.gratefulForInLife());
+                    journalEntry.setGratefulForInLifeDescription(entry.gratefulForInLifeDescription());
+                    return journalEntry;
+                }).toList());
+                entryRepository.flush();
+            } catch (DataIntegrityViolationException ex) {
+                // An entry was added concurrently for one of the imported dates.
+                if (violatesJournalDateConstraint(ex))
+                    throw new EntryAlreadyExistsException(first, last);
+                throw ex;
+            }
+            entityManager.clear();
+            rollupService.addEntries(journalId, chunk);
+            calendarService.addEntries(journalId, chunk);
+            imported += chunk.size();
+        }
+        streakService.recompute(journalId);
+        invalidationPublisher.evictQueries(JournalEntryRepository.ENTRIES_QUERY_REGION);
+
+        return imported;
+    }
+
+    /**
+     * Export all entries of the journal of the user matching the provided user
+     * name, ordered by date in descending order.
+     * 
+     * The entries are read through a forward-only cursor and passed to the writer
+     * one by one, so neither the database driver nor the persistence context
+     * holds more than the current entry. The writer is only opened after the user
+     * is found.
+     * 
+     * @param userName The user name of the user to export the journal of.
+     * @param writer   The writer to write the entries to.
+     * @throws IOException The entries could not be written.
      */
-    public JournalEntry addEntry(String userName, JournalEntry newEntry) {
-        User user = userService.getUserByUserName(userName);
+    @Transactional(readOnly = true)
+    public void exportEntries(@ShardKey String userName, EntryExportWriter writer) throws IOException {
+        Long journalId = userService.getUserIdsByUserName(userName).journalId();
 
-        user.getJournal().addEntry(newEntry);
-        userService.saveUser(userName);
+        writer.begin();
+        try (Stream<DatedJournalEntryDTO> entries = entryRepository.streamEntriesByJournalId(journalId)) {
+            for (DatedJournalEntryDTO entry : (Iterable<DatedJournalEntryDTO>) entries::iterator)
+                writer.write(entry);
+        }
+        writer.end();
+    }
 
-        return newEntry;
+    /**
+     * Helper method to check if a failed write violated the one-entry-per-day
+     * rule. Other violations, such as a foreign key violation after the journal
+     * was purged concurrently, are not caused by the client.
+     * 
+     * @param ex The exception thrown by the write.
+     * @return True if the unique (journal_id, date) constraint was violated.
+     */
+    private static boolean violatesJournalDateConstraint(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause())
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                // MySQL qualifies the name of a violated unique key with its table.
+                String constraintName = violation.getConstraintName();
+                return JournalEntry.JOURNAL_DATE_CONSTRAINT
+                        .equalsIgnoreCase(constraintName.substring(constraintName.lastIndexOf('.') + 1));
+            }
+        return false;
+    }
+
+    /**
+     * Take the next elements of an iterator, at most as many as the size of a
+     * chunk.
+     * 
+     * @param <T>      The type of the elements.
+     * @param iterator The iterator to take the elements from.
+     * @param size     The maximum number of elements to take.
+     * @return The list of taken elements.
+     */
+    private static <T> List<T> nextChunk(Iterator<T> iterator, int size) {
+        List<T> chunk = new ArrayList<>(size);
+        while (chunk.size() < size && iterator.hasNext())
+            chunk.add(iterator.next());
+        return chunk;
     }
 
     /**
@@ -94,54 +554,158 @@ public class JournalService {
      * @throws EntryNotFoundException No journal entry matching the provided id was
      *                                found.
      */
-    public JournalEntry getEntry(Long journalEntryId) {
+    @Transactional(readOnly = true)
+    public JournalEntry getEntry(@ShardKey Long journalEntryId) {
         Optional<JournalEntry> entry = entryRepository.findById(journalEntryId);
 
         return entry.orElseThrow(() -> new EntryNotFoundException(journalEntryId));
     }
 
+    /**
+     * Get the version of a
+     * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry} object
+     * without hydrating it.
+     * 
+     * @param journalEntryId The id of the journal entry.
+     * @return The version of the journal entry matching the provided id.
+     * @throws EntryNotFoundException No journal entry matching the provided id was
+     *                                found.
+     */
+    @Transactional(readOnly = true)
+    public long getEntryVersion(@ShardKey Long journalEntryId) {
+        return entryRepository.findVersionById(journalEntryId)
+                .orElseThrow(() -> new EntryNotFoundException(journalEntryId));
+    }
+
     /**
      * Update a {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
      * object. Object is identified by the provided id and updated using the fields
      * of the provided
      * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryDTO} object.
      * 
+     * The entry is not loaded: its journal, date and well-being are read and
+     * locked by a projection, followed by a single UPDATE that also increments its
+     * version. The well-being rollups and the calendar are only written if the
+     * well-being changed.
+     * 
+     * The PUT therefore costs two statements instead of the single UPDATE it took
+     * before the rollups. MySQL cannot return the previous well-being from an
+     * UPDATE, and the rollups and the calendar need it to move the entry, just as
+     * the response needs the date. The row is locked by the read, so the UPDATE
+     * must match exactly that row. The updated entry is represented by a detached
+     * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
+     * object built from the new values and the date read by the projection.
+     * 
      * @param journalEntryId The id of the
      *                       {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
      *                       object to update.
      * @param updatedEntry   The DTO containing the new values.
-     * @return The updated
+     * @return The detached
      *         {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
-     *         object matching the provided id.
+     *         object holding the updated values.
      * @throws EntryNotFoundException No entry matching the provided id was found.
+     * @throws IllegalStateException  The UPDATE did not match the locked entry.
      */
-    public JournalEntry updateEntry(Long journalEntryId, JournalEntryDTO updatedEntry) {
-        return entryRepository.findById(journalEntryId)
-                .map(foundEntry -> {
-                    foundEntry.setWellBeing(updatedEntry.wellBeing());
-                    foundEntry.setGratefulForToday(updatedEntry.gratefulForToday());
-                    foundEntry.setGratefulForTodayDescription(updatedEntry.gratefulForTodayDescription());
-                    foundEntry.setGratefulForInLife(updatedEntry.gratefulForInLife());
-                    foundEntry.setGratefulForInLifeDescription(updatedEntry.gratefulForInLifeDescription());
-                    return entryRepository.save(foundEntry);
-                })
+    @Transactional
+    public JournalEntry updateEntry(@ShardKey Long journalEntryId, JournalEntryDTO updatedEntry) {
+        EntryWellBeingDTO current = entryRepository.lockWellBeingById(journalEntryId)
                 .orElseThrow(() -> new EntryNotFoundException(journalEntryId));
+
+        int updated = entryRepository.updateEntryById(journalEntryId, updatedEntry.wellBeing(),
+                updatedEntry.gratefulForToday(), updatedEntry.gratefulForTodayDescription(),
+                updatedEntry.gratefulForInLife(), updatedEntry.gratefulForInLifeDescription());
+        if (updated != 1)
+            throw new IllegalStateException("Updated " + updated + " rows of the locked journal entry "
+                    + journalEntryId + ".");
+        rollupService.changeEntry(current.journalId(), current.date(), current.wellBeing(),
+                updatedEntry.wellBeing());
+        calendarService.changeEntry(current.journalId(), current.date(), current.wellBeing(),
+                updatedEntry.wellBeing());
+        invalidationPublisher.evictEntity(JournalEntry.class, journalEntryId);
+        invalidationPublisher.evictQueries(JournalEntryRepository.ENTRIES_QUERY_REGION);
+        return new JournalEntry(journalEntryId, current.date(), updatedEntry);
+    }
+
+    /**
+     * Partially update a
+     * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry} object
+     * of a known version. Only the fields sent by the client are changed.
+     * 
+     * The update is guarded by optimistic locking: it fails if the entry is not of
+     * the expected version or is modified concurrently, which the versioned UPDATE
+     * detects. The UPDATE only writes the changed columns and is skipped entirely
+     * if no value changed.
+     * 
+     * @param journalEntryId   The id of the
+     *                         {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
+     *                         object to update.
+     * @param expectedVersions The versions the client may have based the changes
+     *                         on, or null if any version matches.
+     * @param patch            The fields to change.
+     * @return The updated
+     *         {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
+     *         object.
+     * @throws EntryNotFoundException        No entry matching the provided id was
+     *                                       found.
+     * @throws EntryVersionMismatchException The entry is not of an expected
+     *                                       version.
+     */
+    @Transactional
+    public JournalEntry patchEntry(@ShardKey Long journalEntryId, Set<Long> expectedVersions,
+            JournalEntryPatchDTO patch) {
+        JournalEntry entry = entryRepository.findById(journalEntryId)
+                .orElseThrow(() -> new EntryNotFoundException(journalEntryId));
+        if (expectedVersions != null && !expectedVersions.contains(entry.getVersion()))
+            throw new EntryVersionMismatchException(journalEntryId);
+
+        JournalEntry.WellBeing oldWellBeing = entry.getWellBeing();
+        patch.applyTo(entry);
+        JournalEntry patchedEntry;
+        try {
+            patchedEntry = entryRepository.saveAndFlush(entry);
+        } catch (OptimisticLockingFailureException ex) {
+            throw new EntryVersionMismatchException(journalEntryId);
+        }
+        rollupService.changeEntry(patchedEntry.getJournalId(), patchedEntry.getDate(), oldWellBeing,
+                patchedEntry.getWellBeing());
+        calendarService.changeEntry(patchedEntry.getJournalId(), patchedEntry.getDate(), oldWellBeing,
+                patchedEntry.getWellBeing());
+        invalidationPublisher.evictEntity(JournalEntry.class, journalEntryId);
+        invalidationPublisher.evictQueries(JournalEntryRepository.ENTRIES_QUERY_REGION);
+        return patchedEntry;
     }
 
     /**
      * Delete a {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
-     * object. Object is identified by the provided id.
+     * object. Object is identified by the provided id. The version of the
+     * journal's entries is incremented.
+     * 
+     * Neither the entry nor its journal is loaded: the entry's journal, date and
+     * well-being are read and locked by a projection, the entry is removed by a
+     * single DELETE, the entry is removed from the streaks of the journal, which
+     * also increments the version, and the entry is subtracted from the
+     * well-being rollups and cleared from the calendar. See
+     * {@link io.github.neiroukh.gratitudejournal.journal.streak.StreakService#removeEntry(Long, LocalDate)}.
      * 
      * @param journalEntryId The id of the
      *                       {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry}
      *                       object to delete.
      * @throws EntryNotFoundException No entry matching the provided id was found.
+     * @throws IllegalStateException  The DELETE did not match the locked entry.
      */
-    public void deleteEntry(Long journalEntryId) {
-        entryRepository.findById(journalEntryId)
-                .ifPresentOrElse(entry -> entryRepository.delete(entry),
-                        () -> {
-                            throw new EntryNotFoundException(journalEntryId);
-                        });
+    @Transactional
+    public void deleteEntry(@ShardKey Long journalEntryId) {
+        EntryWellBeingDTO current = entryRepository.lockWellBeingById(journalEntryId)
+                .orElseThrow(() -> new EntryNotFoundException(journalEntryId));
+
+        int deleted = entryRepository.deleteEntryById(journalEntryId);
+        if (deleted != 1)
+            throw new IllegalStateException("Deleted " + deleted + " rows of the locked journal entry "
+                    + journalEntryId + ".");
+        streakService.removeEntry(current.journalId(), current.date());
+        rollupService.removeEntry(current.journalId(), current.date(), current.wellBeing());
+        calendarService.removeEntry(current.journalId(), current.date());
+        invalidationPublisher.evictEntity(JournalEntry.class, journalEntryId);
+        invalidationPublisher.evictQueries(JournalEntryRepository.ENTRIES_QUERY_REGION);
     }
 }
\ No newline at end of file
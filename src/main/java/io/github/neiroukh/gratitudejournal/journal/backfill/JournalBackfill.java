@@ -0,0 +1,150 @@
+package io.github.neiroukh.gratitudejournal.journal.backfill;
+
+import io.github.neiroukh.gratitudejournal.lease.Lease;
+import io.github.neiroukh.gratitudejournal.lease.LeaseJobRunner;
+import io.github.neiroukh.gratitudejournal.lease.UserIdRange;
+import io.github.neiroukh.gratitudejournal.user.UserRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Job recomputing state derived from the entries of every journal on startup,
+ * such as the streaks, the well-being rollups or the calendars. Only active if
+ * its property is true, which is needed once for databases holding entries
+ * written before the state was maintained. The backfills are registered by the
+ * {@link JournalBackfillConfiguration}.
+ * 
+ * The job is split into ranges of user ids, which the nodes started with the
+ * property claim through the {@link LeaseJobRunner} and process in parallel.
+ * Ranges completed within the property "gratitudejournal.jobs.backfill-window"
+ * are not processed again. Within a range the journals are processed in order
+ * of their ids, each in its own transaction fenced by the lease of the range,
+ * so the job never holds locks on more than one journal.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class JournalBackfill implements ApplicationRunner {
+    /**
+     * Number of journal ids read per query.
+     */
+    private static final int PAGE_SIZE = 500;
+
+    /**
+     * Logger to log the progress of the backfills.
+     */
+    private static final Logger log = LoggerFactory.getLogger(JournalBackfill.class);
+
+    /**
+     * The name of the job, which the names of the leases of its ranges start
+     * with.
+     */
+    private final String jobName;
+
+    /**
+     * The name of the property activating the job.
+     */
+    private final String property;
+
+    /**
+     * The recomputation of a journal by its id, run in the transaction of the
+     * journal.
+     */
+    private final LongConsumer recompute;
+
+    private final Environment environment;
+
+    private final UserRepository userRepository;
+
+    private final LeaseJobRunner jobRunner;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * The time within which a completed range is not processed again.
+     */
+    private final Duration window;
+
+    /**
+     * Constructor of the JournalBackfill class.
+     * 
+     * @param jobName             The name of the job.
+     * @param property            The name of the property activating the job.
+     * @param recompute           The recomputation of a journal by its id, run in
+     *                            the transaction of the journal.
+     * @param environment         Environment holding the property.
+     * @param userRepository      UserRepository used to read the journal ids.
+     * @param jobRunner           LeaseJobRunner claiming the ranges.
+     * @param transactionTemplate TransactionTemplate used to run every journal in
+     *                            its own transaction.
+     * @param window              The time within which a completed range is not
+     *                            processed again.
+     */
+    public JournalBackfill(String jobName, String property, LongConsumer recompute, Environment environment,
+            UserRepository userRepository, LeaseJobRunner jobRunner, TransactionTemplate transactionTemplate,
+            Duration window) {
+        this.jobName = jobName;
+        this.property = property;
+        this.recompute = recompute;
+        this.environment = environment;
+        this.userRepository = userRepository;
+        this.jobRunner = jobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.window = window;
+    }
+
+    /**
+     * Recomputes every journal within the ranges claimed by this node, if the
+     * property of the job is true.
+     * 
+     * @param args The arguments of the application.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!environment.getProperty(property, Boolean.class, false))
+            return;
+
+        AtomicLong journals = new AtomicLong();
+        jobRunner.runPartitioned(jobName, window,
+                (userIds, lease) -> journals.addAndGet(recomputeRange(userIds, lease)));
+
+        log.info("Recomputed " + journals + " journals in the job " + jobName);
+    }
+
+    /**
+     * Recomputes the journals of a range of users on the shard bound to the
+     * current thread.
+     * 
+     * @param userIds The range of user ids.
+     * @param lease   The lease of the range.
+     * @return The number of recomputed journals.
+     */
+    private long recomputeRange(UserIdRange userIds, Lease lease) {
+        long journals = 0;
+        Long lastJournalId = Long.MIN_VALUE;
+        List<Long> journalIds;
+        do {
+            journalIds = userRepository.getJournalIdsByUserIds(userIds.from(), userIds.to(), lastJournalId,
+                    Limit.of(PAGE_SIZE));
+            for (Long journalId : journalIds)
+                transactionTemplate.executeWithoutResult(status -> {
+                    lease.fence();
+                    recompute.accept(journalId);
+                });
+            journals += journalIds.size();
+            if (!journalIds.isEmpty())
+                lastJournalId = journalIds.getLast();
+        } while (journalIds.size() == PAGE_SIZE && !lease.isLost());
+        return journals;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package io.github.neiroukh.gratitudejournal.journal.backfill;
+
+import io.github.neiroukh.gratitudejournal.journal.calendar.JournalCalendarService;
+import io.github.neiroukh.gratitudejournal.journal.stats.WellBeingRollupService;
+import io.github.neiroukh.gratitudejournal.journal.streak.StreakService;
+import io.github.neiroukh.gratitudejournal.lease.LeaseJobRunner;
+import io.github.neiroukh.gratitudejournal.user.UserRepository;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration registering the {@link JournalBackfill} jobs, one per state
+ * derived from the entries of a journal.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Configuration(proxyBeanMethods = false)
+public class JournalBackfillConfiguration {
+    private final Environment environment;
+
+    private final UserRepository userRepository;
+
+    private final LeaseJobRunner jobRunner;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * The time within which a completed range is not processed again.
+     */
+    private final Duration window;
+
+    /**
+     * Constructor of the JournalBackfillConfiguration class.
+     * 
+     * @param environment         Environment injected by Spring.
+     * @param userRepository      UserRepository injected by Spring.
+     * @param jobRunner           LeaseJobRunner injected by Spring.
+     * @param transactionTemplate TransactionTemplate injected by Spring.
+     * @param window              The time within which a completed range is not
+     *                            processed again. Configured by the property
+     *                            "gratitudejournal.jobs.backfill-window".
+     */
+    JournalBackfillConfiguration(Environment environment, UserRepository userRepository,
+            LeaseJobRunner jobRunner, TransactionTemplate transactionTemplate,
+            @Value("${gratitudejournal.jobs.backfill-window:1h}") Duration window) {
+        this.environment = environment;
+        this.userRepository = userRepository;
+        this.jobRunner = jobRunner;
+        this.transactionTemplate = transactionTemplate;
+        this.window = window;
+    }
+
+    /**
+     * Job recomputing the streaks of every journal. Activated by the property
+     * "gratitudejournal.streak.backfill".
+     * 
+     * @param streakService StreakService injected by Spring.
+     * @return The backfill of the streaks.
+     */
+    @Bean
+    JournalBackfill streakBackfill(StreakService streakService) {
+        return backfill("streak-backfill", "gratitudejournal.streak.backfill", streakService::recompute);
+    }
+
+    /**
+     * Job recomputing the well-being rollups of every journal. Activated by the
+     * property "gratitudejournal.stats.backfill".
+     * 
+     * @param rollupService WellBeingRollupService injected by Spring.
+     * @return The backfill of the well-being rollups.
+     */
+    @Bean
+    JournalBackfill wellBeingRollupBackfill(WellBeingRollupService rollupService) {
+        return backfill("well-being-rollup-backfill", "gratitudejournal.stats.backfill", rollupService::recompute);
+    }
+
+    /**
+     * Job recomputing the calendars of every journal. Activated by the property
+     * "gratitudejournal.calendar.backfill".
+     * 
+     * @param calendarService JournalCalendarService injected by Spring.
+     * @return The backfill of the calendars.
+     */
+    @Bean
+    JournalBackfill calendarBackfill(JournalCalendarService calendarService) {
+        return backfill("calendar-backfill", "gratitudejournal.calendar.backfill", calendarService::recompute);
+    }
+
+    /**
+     * Helper method to create a backfill sharing the leases, the transactions and
+     * the window of the other backfills.
+     * 
+     * @param jobName   The name of the job.
+     * @param property  The name of the property activating the job.
+     * @param recompute The recomputation of a journal by its id.
+     * @return The backfill.
+     */
+    private JournalBackfill backfill(String jobName, String property, LongConsumer recompute) {
+        return new JournalBackfill(jobName, property, recompute, environment, userRepository, jobRunner,
+                transactionTemplate, window);
+    }
+}
\ No newline at end of file
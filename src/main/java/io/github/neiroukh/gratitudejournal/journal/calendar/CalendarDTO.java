@@ -0,0 +1,21 @@
+package io.github.neiroukh.gratitudejournal.journal.calendar;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * DTO returned to clients as JSON, holding the calendar of a journal for one
+ * year. The bitsets are encoded in Base64, see {@link JournalCalendar} for
+ * their layout.
+ * 
+ * @param year      The year of the calendar.
+ * @param days      The days of the year with an entry, one bit per day.
+ * @param wellBeing The well-being of the entries, three bits per day. Omitted
+ *                  unless requested.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record CalendarDTO(
+        int year,
+        byte[] days,
+        @JsonInclude(JsonInclude.Include.NON_NULL) byte[] wellBeing) {
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package io.github.neiroukh.gratitudejournal.journal.calendar;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+
+/**
+ * JPA-Entity holding the calendar of a journal for one year as bitsets. Part
+ * of the persistence layer of the Journal-API.
+ * 
+ * The day with the index i, which is the day of the year minus one, is stored
+ * in bit i of the days, counting from the most significant bit of the first
+ * byte. Its well-being is stored as 3-bit code in the bits 3i to 3i+2 of the
+ * well-being codes, most significant bit first. The code is the score of the
+ * well-being, see
+ * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry.WellBeing#getScore()},
+ * or 0 if the day has no entry or the entry has no well-being.
+ * 
+ * The calendars are maintained by every write of a journal entry with bitwise
+ * updates of the affected year, so a calendar is read from a single row
+ * instead of from the journal's entries.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Entity
+public class JournalCalendar {
+    /**
+     * Maximum number of days of a year.
+     */
+    public static final int DAYS = 366;
+
+    /**
+     * Number of bytes of the days of a year.
+     */
+    public static final int DAYS_BYTES = (DAYS + 7) / 8;
+
+    /**
+     * Number of bytes of the well-being codes of a year.
+     */
+    public static final int WELL_BEING_BYTES = (DAYS * 3 + 7) / 8;
+
+    /**
+     * The composite primary key of the calendar.
+     */
+    @EmbeddedId
+    private JournalCalendarId id;
+
+    /**
+     * The days of the year with an entry, one bit per day.
+     */
+    @Column(nullable = false, length = DAYS_BYTES)
+    private byte[] days;
+
+    /**
+     * The well-being of the entries of the year, three bits per day.
+     */
+    @Column(nullable = false, length = WELL_BEING_BYTES)
+    private byte[] wellBeing;
+
+    /**
+     * Protected empty constructor for JPA.
+     */
+    protected JournalCalendar() {
+    }
+
+    /**
+     * Getter for the composite primary key of the calendar.
+     * 
+     * @return The composite primary key of the calendar.
+     */
+    public JournalCalendarId getId() {
+        return id;
+    }
+
+    /**
+     * Getter for the days of the year with an entry.
+     * 
+     * @return The days as bitset.
+     */
+    public byte[] getDays() {
+        return days;
+    }
+
+    /**
+     * Getter for the well-being of the entries of the year.
+     * 
+     * @return The well-being codes as bitset.
+     */
+    public byte[] getWellBeing() {
+        return wellBeing;
+    }
+
+    /**
+     * Sets the bit of a day in the days of a year.
+     * 
+     * @param days     The days of the year.
+     * @param dayIndex The index of the day, which is the day of the year minus
+     *                 one.
+     */
+    static void setDay(byte[] days, int dayIndex) {
+        setBit(days, dayIndex);
+    }
+
+    /**
+     * Sets the bits of the well-being code of a day in the well-being codes of a
+     * year.
+     * 
+     * @param codes     The well-being codes of the year.
+     * @param dayIndex  The index of the day, which is the day of the year minus
+     *                  one.
+     * @param wellBeing The well-being whose code is set. Nothing is set if null.
+     */
+    static void setWellBeing(byte[] codes, int dayIndex, JournalEntry.WellBeing wellBeing) {
+        if (wellBeing == null)
+            return;
+
+        int code = wellBeing.getScore();
+        for (int bit = 0; bit < 3; bit++)
+            if ((code & (4 >> bit)) != 0)
+                setBit(codes, dayIndex * 3 + bit);
+    }
+
+    /**
+     * Creates a mask clearing the bit of a day in the days of a year.
+     * 
+     * @param dayIndex The index of the day.
+     * @return The mask, with every bit but the one of the day set.
+     */
+    static byte[] dayClearMask(int dayIndex) {
+        byte[] mask = new byte[DAYS_BYTES];
+        setDay(mask, dayIndex);
+        invert(mask);
+        return mask;
+    }
+
+    /**
+     * Creates a mask clearing the well-being code of a day in the well-being
+     * codes of a year.
+     * 
+     * @param dayIndex The index of the day.
+     * @return The mask, with every bit but the ones of the day set.
+     */
+    static byte[] wellBeingClearMask(int dayIndex) {
+        byte[] mask = new byte[WELL_BEING_BYTES];
+        for (int bit = 0; bit < 3; bit++)
+            setBit(mask, dayIndex * 3 + bit);
+        invert(mask);
+        return mask;
+    }
+
+    /**
+     * Helper method to set a bit, counting from the most significant bit of the
+     * first byte.
+     * 
+     * @param bits  The bits to set the bit in.
+     * @param index The index of the bit.
+     */
+    private static void setBit(byte[] bits, int index) {
+        bits[index / 8] |= (byte) (0x80 >>> (index % 8));
+    }
+
+    /**
+     * Helper method to invert all bits.
+     * 
+     * @param bits The bits to invert.
+     */
+    private static void invert(byte[] bits) {
+        for (int i = 0; i < bits.length; i++)
+            bits[i] = (byte) ~bits[i];
+    }
+}
\ No newline at end of file
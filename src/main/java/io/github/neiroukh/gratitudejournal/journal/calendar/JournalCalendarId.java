@@ -0,0 +1,76 @@
+package io.github.neiroukh.gratitudejournal.journal.calendar;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Composite primary key of a {@link JournalCalendar}: the journal and the year.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Embeddable
+public class JournalCalendarId implements Serializable {
+    /**
+     * The id of the journal.
+     */
+    private Long journalId;
+
+    /**
+     * The year of the calendar.
+     */
+    @Column(name = "calendar_year")
+    private int year;
+
+    /**
+     * Protected empty constructor for JPA.
+     */
+    protected JournalCalendarId() {
+    }
+
+    /**
+     * Getter for the id of the journal.
+     * 
+     * @return The id of the journal.
+     */
+    public Long getJournalId() {
+        return journalId;
+    }
+
+    /**
+     * Getter for the year of the calendar.
+     * 
+     * @return The year of the calendar.
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Compares two keys based on all of their fields.
+     * 
+     * @param o The object to compare the key to.
+     * @return true if objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof JournalCalendarId))
+            return false;
+        JournalCalendarId id = (JournalCalendarId) o;
+        return Objects.equals(this.journalId, id.journalId) && this.year == id.year;
+    }
+
+    /**
+     * Generates the hash code of a key based on all of its fields.
+     * 
+     * @return The hash code of this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.journalId, this.year);
+    }
+}
\ No newline at end of file
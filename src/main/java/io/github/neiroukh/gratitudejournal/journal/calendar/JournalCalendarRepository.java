@@ -0,0 +1,38 @@
+package io.github.neiroukh.gratitudejournal.journal.calendar;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * JpaRepository for the JournalCalendar Entity. Part of the persistence layer
+ * of the Journal-API.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface JournalCalendarRepository extends JpaRepository<JournalCalendar, JournalCalendarId> {
+    /**
+     * Retrieves the calendar of a journal for one year by its primary key,
+     * without hydrating the calendar.
+     * 
+     * @param journalId The id of the journal.
+     * @param year      The year of the calendar.
+     * @return An {@code Optional<CalendarDTO>} object containing the bitsets of
+     *         the calendar, or an empty Optional if the journal has no entries in
+     *         the year.
+     */
+    @Query("SELECT calendar.id.year, calendar.days, calendar.wellBeing FROM JournalCalendar calendar WHERE calendar.id.journalId = ?1 AND calendar.id.year = ?2")
+    Optional<CalendarDTO> findCalendar(Long journalId, int year);
+
+    /**
+     * Deletes all calendars of a certain journal with a single DELETE statement.
+     * 
+     * @param journalId The id of the journal.
+     * @return The number of deleted calendars.
+     */
+    @Modifying
+    @Query("DELETE FROM JournalCalendar calendar WHERE calendar.id.journalId = ?1")
+    int deleteByJournalId(Long journalId);
+}
\ No newline at end of file
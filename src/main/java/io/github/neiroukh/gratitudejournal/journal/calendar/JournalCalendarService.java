@@ -0,0 +1,260 @@
+package io.github.neiroukh.gratitudejournal.journal.calendar;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * Service maintaining and reading the {@link JournalCalendar} objects of the
+ * journals. Part of the service layer of the Journal-API.
+ * 
+ * Every write of a journal entry is applied to the calendar of its year with a
+ * single statement, which runs within the transaction of the write. New
+ * entries are OR-ed into the bitsets by an upsert, changes and deletions clear
+ * the bits of the day with an AND mask first. MySQL applies the bitwise
+ * operators to binary strings of equal length byte by byte, so the calendar is
+ * never read for a write. The statements name the table they write, so they do
+ * not evict the unrelated regions of the second-level cache.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Service
+public class JournalCalendarService {
+    /**
+     * Beginning of the upsert OR-ing new entries into the calendars of a journal.
+     * Uses a row alias, which requires MySQL 8.0.19 or newer.
+     */
+    private static final String UPSERT_PREFIX = "INSERT INTO journal_calendar (journal_id, calendar_year, days, well_being) VALUES ";
+
+    /**
+     * End of the upsert OR-ing new entries into the calendars of a journal.
+     */
+    private static final String UPSERT_SUFFIX = " AS delta ON DUPLICATE KEY UPDATE days = journal_calendar.days | delta.days, well_being = journal_calendar.well_being | delta.well_being";
+
+    /**
+     * Statement clearing the bits of a day and setting new ones in the calendar
+     * of a journal.
+     */
+    private static final String UPDATE = "UPDATE journal_calendar SET days = (days & ?3) | ?4, well_being = (well_being & ?5) | ?6 WHERE journal_id = ?1 AND calendar_year = ?2";
+
+    /**
+     * The bitsets of new entries of a single year.
+     * 
+     * @param days      The days of the new entries.
+     * @param wellBeing The well-being codes of the new entries.
+     */
+    private record YearBits(byte[] days, byte[] wellBeing) {
+        /**
+         * Creates empty bitsets of a year.
+         */
+        YearBits() {
+            this(new byte[JournalCalendar.DAYS_BYTES], new byte[JournalCalendar.WELL_BEING_BYTES]);
+        }
+
+        /**
+         * Adds an entry to the bitsets.
+         * 
+         * @param date      The date of the entry.
+         * @param wellBeing The well-being of the entry. May be null.
+         */
+        void add(LocalDate date, JournalEntry.WellBeing wellBeing) {
+            JournalCalendar.setDay(days, date.getDayOfYear() - 1);
+            JournalCalendar.setWellBeing(this.wellBeing, date.getDayOfYear() - 1, wellBeing);
+        }
+    }
+
+    private final JournalCalendarRepository calendarRepository;
+
+    private final JournalEntryRepository entryRepository;
+
+    private final EntityManager entityManager;
+
+    /**
+     * JournalCalendarService constructor.
+     * 
+     * @param calendarRepository JournalCalendarRepository injected by Spring.
+     * @param entryRepository    JournalEntryRepository injected by Spring. Used
+     *                           to recompute the calendars of a journal.
+     * @param entityManager      EntityManager injected by Spring. Used to execute
+     *                           the bitwise writes.
+     */
+    public JournalCalendarService(JournalCalendarRepository calendarRepository,
+            JournalEntryRepository entryRepository, EntityManager entityManager) {
+        this.calendarRepository = calendarRepository;
+        this.entryRepository = entryRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get the calendar of a journal for one year, read from a single row.
+     * 
+     * @param journalId        The id of the journal.
+     * @param year             The year of the calendar.
+     * @param includeWellBeing True to include the well-being codes.
+     * @return The {@link CalendarDTO} object holding the bitsets of the year,
+     *         empty if the journal has no entries in the year.
+     */
+    public CalendarDTO getCalendar(Long journalId, int year, boolean includeWellBeing) {
+        CalendarDTO calendar = calendarRepository.findCalendar(journalId, year)
+                .orElseGet(() -> new CalendarDTO(year, new byte[JournalCalendar.DAYS_BYTES],
+                        new byte[JournalCalendar.WELL_BEING_BYTES]));
+        return includeWellBeing ? calendar : new CalendarDTO(year, calendar.days(), null);
+    }
+
+    /**
+     * Adds a new journal entry to its calendar.
+     * 
+     * @param journalId The id of the journal of the entry.
+     * @param date      The date of the entry.
+     * @param wellBeing The well-being of the entry. May be null.
+     */
+    public void addEntry(Long journalId, LocalDate date, JournalEntry.WellBeing wellBeing) {
+        YearBits bits = new YearBits();
+        bits.add(date, wellBeing);
+        upsert(journalId, Map.of(date.getYear(), bits));
+    }
+
+    /**
+     * Adds new journal entries, such as the entries of an import, to their
+     * calendars. The entries of every year are combined into a single row of the
+     * upsert.
+     * 
+     * @param journalId The id of the journal of the entries.
+     * @param entries   The new entries.
+     */
+    public void addEntries(Long journalId, Collection<DatedJournalEntryDTO> entries) {
+        upsert(journalId, collect(entries.iterator()));
+    }
+
+    /**
+     * Replaces the well-being code of a journal entry in its calendar. Nothing is
+     * written if the well-being did not change.
+     * 
+     * @param journalId    The id of the journal of the entry.
+     * @param date         The date of the entry.
+     * @param oldWellBeing The previous well-being of the entry.
+     * @param newWellBeing The new well-being of the entry.
+     */
+    public void changeEntry(Long journalId, LocalDate date, JournalEntry.WellBeing oldWellBeing,
+            JournalEntry.WellBeing newWellBeing) {
+        if (oldWellBeing == newWellBeing)
+            return;
+
+        YearBits bits = new YearBits();
+        bits.add(date, newWellBeing);
+        update(journalId, date, bits.days(), bits.wellBeing());
+    }
+
+    /**
+     * Removes a deleted journal entry from its calendar.
+     * 
+     * @param journalId The id of the journal of the entry.
+     * @param date      The date of the entry.
+     */
+    public void removeEntry(Long journalId, LocalDate date) {
+        YearBits bits = new YearBits();
+        update(journalId, date, bits.days(), bits.wellBeing());
+    }
+
+    /**
+     * Recomputes the calendars of a journal from its entries, replacing the
+     * existing calendars. Used to backfill the calendars of journals whose
+     * entries were written before the calendars were maintained. The entries are
+     * read through a forward-only cursor.
+     * 
+     * @param journalId The id of the journal.
+     */
+    @Transactional
+    public void recompute(Long journalId) {
+        calendarRepository.deleteByJournalId(journalId);
+        try (Stream<DatedJournalEntryDTO> entries = entryRepository.streamEntriesByJournalId(journalId)) {
+            upsert(journalId, collect(entries.iterator()));
+        }
+    }
+
+    /**
+     * Helper method to combine entries into the bitsets of their years.
+     * 
+     * @param entries The entries to combine.
+     * @return The bitsets per year.
+     */
+    private static Map<Integer, YearBits> collect(Iterator<DatedJournalEntryDTO> entries) {
+        Map<Integer, YearBits> years = new TreeMap<>();
+        while (entries.hasNext()) {
+            DatedJournalEntryDTO entry = entries.next();
+            years.computeIfAbsent(entry.date().getYear(), year -> new YearBits()).add(entry.date(),
+                    entry.wellBeing());
+        }
+        return years;
+    }
+
+    /**
+     * Helper method to OR the bitsets of new entries into the calendars of a
+     * journal with a single multi-row upsert.
+     * 
+     * @param journalId The id of the journal.
+     * @param years     The bitsets of the new entries per year.
+     */
+    private void upsert(Long journalId, Map<Integer, YearBits> years) {
+        if (years.isEmpty())
+            return;
+
+        List<Map.Entry<Integer, YearBits>> rows = new ArrayList<>(years.entrySet());
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            int p = i * 4;
+            sql.append(i == 0 ? "" : ", ").append("(?").append(p + 1).append(", ?").append(p + 2).append(", ?")
+                    .append(p + 3).append(", ?").append(p + 4).append(')');
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        Query upsert = entityManager.createNativeQuery(sql.toString())
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "journal_calendar");
+        for (int i = 0; i < rows.size(); i++) {
+            int p = i * 4;
+            upsert.setParameter(p + 1, journalId)
+                    .setParameter(p + 2, rows.get(i).getKey())
+                    .setParameter(p + 3, rows.get(i).getValue().days())
+                    .setParameter(p + 4, rows.get(i).getValue().wellBeing());
+        }
+        upsert.executeUpdate();
+    }
+
+    /**
+     * Helper method to clear the bits of a day in the calendar of a journal and
+     * set new ones.
+     * 
+     * @param journalId The id of the journal.
+     * @param date      The day to change.
+     * @param days      The bits to set in the days.
+     * @param wellBeing The bits to set in the well-being codes.
+     */
+    private void update(Long journalId, LocalDate date, byte[] days, byte[] wellBeing) {
+        int dayIndex = date.getDayOfYear() - 1;
+        entityManager.createNativeQuery(UPDATE)
+                .setHint(HibernateHints.HINT_NATIVE_SPACES, "journal_calendar")
+                .setParameter(1, journalId)
+                .setParameter(2, date.getYear())
+                .setParameter(3, JournalCalendar.dayClearMask(dayIndex))
+                .setParameter(4, days)
+                .setParameter(5, JournalCalendar.wellBeingClearMask(dayIndex))
+                .setParameter(6, wellBeing)
+                .executeUpdate();
+    }
+}
\ No newline at end of file
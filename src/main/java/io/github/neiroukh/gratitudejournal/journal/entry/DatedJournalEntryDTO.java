@@ -0,0 +1,27 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+import java.time.LocalDate;
+
+/**
+ * DTO object representing a journal entry including its date. Used to import
+ * entries of previous days into a journal.
+ * 
+ * @param date                         The date of the entry.
+ * @param wellBeing                    The value of well-being reported by the
+ *                                     user.
+ * @param gratefulForToday             What the user is grateful for today.
+ * @param gratefulForTodayDescription  Description of what the user is grateful
+ *                                     for today.
+ * @param gratefulForInLife            What the user is grateful for in life.
+ * @param gratefulForInLifeDescription Description of what the user is grateful
+ *                                     for in life.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record DatedJournalEntryDTO(LocalDate date,
+                JournalEntry.WellBeing wellBeing,
+                String gratefulForToday,
+                String gratefulForTodayDescription,
+                String gratefulForInLife,
+                String gratefulForInLifeDescription) {
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+import java.time.LocalDate;
+
+/**
+ * DTO holding the fields of a journal entry that determine its well-being
+ * rollups. Read before an entry is updated or deleted, so the rollups can be
+ * corrected without loading the entry.
+ * 
+ * @param journalId The id of the journal of the entry.
+ * @param date      The date of the entry.
+ * @param wellBeing The well-being of the entry.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record EntryWellBeingDTO(
+        Long journalId,
+        LocalDate date,
+        JournalEntry.WellBeing wellBeing) {
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+/**
+ * DTO object returned to clients after importing journal entries.
+ * 
+ * @param importedEntries The number of entries added to the journal.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record ImportResultDTO(int importedEntries) {
+}
\ No newline at end of file
@@ -1,19 +1,30 @@
 package io.github.neiroukh.gratitudejournal.journal.entry;
 
+import io.github.neiroukh.gratitudejournal.id.PooledSequence;
 import io.github.neiroukh.gratitudejournal.journal.Journal;
 
 import java.time.LocalDate;
 import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 /**
  * JPA-Entity to represent a journal entry in the GratitudeJournal Service. Part
@@ -21,17 +32,40 @@ import jakarta.persistence.ManyToOne;
  * 
  * Every journal entry is uniquely identified by its primary key journalEntryId,
  * which is assigned automatically. Every journal entry belongs to exactly one
- * Journal, which is expressed using a ManyToOne Relation.
+ * Journal, which is expressed using a ManyToOne Relation. A journal can only
+ * hold one entry per date, which is enforced by a unique constraint on
+ * (journal_id, date). The entries of a journal are listed by the composite
+ * (journal_id, date, journal_entry_id) index, which matches the order and the
+ * cursors of the paginated listing. Every change of a journal entry increments
+ * its version, which is used as validator for conditional requests. Updates
+ * only write the changed columns. Journal entries are held in the second-level
+ * cache, so reading an entry by its id does not query the database.
  * 
  * @author Afeef Neiroukh
  */
 @Entity
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = JournalEntry.CACHE_REGION)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = JournalEntry.JOURNAL_DATE_CONSTRAINT, columnNames = { "journal_id", "date" }) }, indexes = {
+                @Index(name = "idx_journal_entry_journal_date_id", columnList = "journal_id, date, journal_entry_id") })
 public class JournalEntry {
     /**
-     * The primary key of the journal entry.
+     * Name of the second-level cache region holding journal entries.
+     */
+    public static final String CACHE_REGION = "journal-entry";
+
+    /**
+     * Name of the unique constraint allowing only one entry per journal and date.
+     */
+    public static final String JOURNAL_DATE_CONSTRAINT = "uk_journal_entry_journal_date";
+
+    /**
+     * The primary key of the journal entry. Allocated in blocks from the
+     * journal_entry_seq sequence, which allows batching the inserts of imports.
      */
     @Id
-    @GeneratedValue
+    @PooledSequence(name = "journal_entry_seq")
     private Long journalEntryId;
 
     /**
@@ -42,6 +76,15 @@ public class JournalEntry {
     @JoinColumn(name = "journal_id")
     private Journal journal;
 
+    /**
+     * The version of the journal entry, incremented by every update. Existing rows
+     * start with version 0.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Enum containing the possible states of wellbeing.
      */
@@ -59,7 +102,18 @@ public class JournalEntry {
         /** User feels good. */
         GOOD,
         /** User feels fantastic. */
-        FANTASTIC
+        FANTASTIC;
+
+        /**
+         * Get the score of the well-being, used to average the well-being over
+         * several entries.
+         * 
+         * @return The score of the well-being, from 1 for AWFUL to 7 for
+         *         FANTASTIC.
+         */
+        public int getScore() {
+            return ordinal() + 1;
+        }
     }
 
     /**
@@ -111,6 +165,37 @@ public class JournalEntry {
         this.date = LocalDate.now();
     }
 
+    /**
+     * Public constructor mapping directly to the journal with a given date. Used to
+     * import entries of previous days.
+     * 
+     * @param journal The journal this journal entry should map to.
+     * @param date    The date of the journal entry.
+     */
+    public JournalEntry(Journal journal, LocalDate date) {
+        this.journal = journal;
+        this.date = date;
+    }
+
+    /**
+     * Public constructor of a detached journal entry holding the state written by
+     * an update. Used to represent an updated journal entry without loading it, it
+     * is never persisted.
+     * 
+     * @param journalEntryId The id of the updated journal entry.
+     * @param date           The date of the updated journal entry.
+     * @param updatedEntry   The DTO containing the new values.
+     */
+    public JournalEntry(Long journalEntryId, LocalDate date, JournalEntryDTO updatedEntry) {
+        this.journalEntryId = journalEntryId;
+        this.date = date;
+        this.wellBeing = updatedEntry.wellBeing();
+        this.gratefulForToday = updatedEntry.gratefulForToday();
+        this.gratefulForTodayDescription = updatedEntry.gratefulForTodayDescription();
+        this.gratefulForInLife = updatedEntry.gratefulForInLife();
+        this.gratefulForInLifeDescription = updatedEntry.gratefulForInLifeDescription();
+    }
+
     /**
      * Get the id of this journal entry.
      * 
@@ -120,6 +205,30 @@ public class JournalEntry {
         return journalEntryId;
     }
 
+    /**
+     * Get the version of this journal entry. Not part of the JSON representation,
+     * it is exposed as the ETag of the journal entry instead.
+     * 
+     * @return The version of this journal entry, or null if it is not persisted
+     *         yet.
+     */
+    @JsonIgnore
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the id of the journal this journal entry belongs to, without loading the
+     * journal. Not part of the JSON representation.
+     * 
+     * @return The id of the journal, or null if the journal entry is not assigned
+     *         to a journal.
+     */
+    @JsonIgnore
+    public Long getJournalId() {
+        return journal == null ? null : journal.getJournalId();
+    }
+
     /**
      * Assigns this journal entry to a journal.
      * 
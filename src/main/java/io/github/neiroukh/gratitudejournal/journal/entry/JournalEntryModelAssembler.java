@@ -1,12 +1,17 @@
 package io.github.neiroukh.gratitudejournal.journal.entry;
 
+import io.github.neiroukh.gratitudejournal.hal.LinkStrategy;
+import io.github.neiroukh.gratitudejournal.hal.LinkTemplate;
 import io.github.neiroukh.gratitudejournal.journal.JournalController;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Spring Component to create an EntityModel for a
@@ -20,10 +25,37 @@ public class JournalEntryModelAssembler
                 implements RepresentationModelAssembler<JournalEntry, EntityModel<JournalEntry>> {
 
         /**
-         * Default constructor.
+         * Template of the GET-Request of a journal entry.
          */
-        JournalEntryModelAssembler() {
+        private static final LinkTemplate GET_ENTRY = LinkTemplate.of(JournalController.class, "getEntry",
+                        Long.class, WebRequest.class);
 
+        /**
+         * Template of the PUT-Request of a journal entry.
+         */
+        private static final LinkTemplate UPDATE_ENTRY = LinkTemplate.of(JournalController.class, "updateEntry",
+                        Long.class, JournalEntryDTO.class);
+
+        /**
+         * Template of the DELETE-Request of a journal entry.
+         */
+        private static final LinkTemplate DELETE_ENTRY = LinkTemplate.of(JournalController.class, "deleteEntry",
+                        Long.class);
+
+        /**
+         * The strategy used to create links.
+         */
+        private final LinkStrategy linkStrategy;
+
+        /**
+         * Constructor of the class.
+         * 
+         * @param linkStrategy The strategy used to create links. Configured by the
+         *                     property "gratitudejournal.hal.link-strategy".
+         */
+        JournalEntryModelAssembler(
+                        @Value("${gratitudejournal.hal.link-strategy:TEMPLATE}") LinkStrategy linkStrategy) {
+                this.linkStrategy = linkStrategy;
         }
 
         /**
@@ -44,8 +76,15 @@ public class JournalEntryModelAssembler
          */
         @Override
         public EntityModel<JournalEntry> toModel(JournalEntry journalEntry) {
+                if (linkStrategy == LinkStrategy.TEMPLATE)
+                        return EntityModel.of(journalEntry,
+                                        GET_ENTRY.toLink(IanaLinkRelations.SELF, journalEntry.getJournalEntryId()),
+                                        UPDATE_ENTRY.toLink("update", journalEntry.getJournalEntryId()),
+                                        DELETE_ENTRY.toLink("delete", journalEntry.getJournalEntryId()));
+
                 return EntityModel.of(journalEntry,
-                                linkTo(methodOn(JournalController.class).getEntry(journalEntry.getJournalEntryId()))
+                                linkTo(methodOn(JournalController.class).getEntry(journalEntry.getJournalEntryId(),
+                                                null))
                                                 .withSelfRel(),
                                 linkTo(methodOn(JournalController.class).updateEntry(journalEntry.getJournalEntryId(),
                                                 null))
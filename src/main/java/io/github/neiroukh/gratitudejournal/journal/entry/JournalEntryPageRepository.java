@@ -0,0 +1,84 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * Repository fragment of the {@link JournalEntryRepository} reading pages of a
+ * journal's listing. The queries are built from the filters that are present, so
+ * every statement only holds the conditions it needs and its plan does not
+ * depend on how the driver binds absent filters. Part of the persistence layer
+ * of the Journal-API.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface JournalEntryPageRepository {
+    /**
+     * Retrieves the newest journal entries that are assigned to a certain journal
+     * and match the filters. Every filter is ignored if null. The date filters
+     * bound the range scan of the (journal_id, date, journal_entry_id) index.
+     * 
+     * @param journalId The id of the journal.
+     * @param from      The first date to include. May be null.
+     * @param to        The last date to include. May be null.
+     * @param wellBeing The well-being the entries must have. May be null.
+     * @param limit     The maximum number of entries to retrieve.
+     * @return A list containing an
+     *         {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO}
+     *         object for each of the newest journal entries assigned to the journal
+     *         matching the provided id. Every
+     *         {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO}
+     *         object contains the id and creation date of the journal entry. The
+     *         results are ordered by date and id in descending order. Results are
+     *         held in the {@link JournalEntryRepository#ENTRIES_QUERY_REGION} query
+     *         cache region until a journal entry is written.
+     */
+    List<IdDatePairDTO> getEntriesByJournalId(Long journalId, LocalDate from, LocalDate to,
+            JournalEntry.WellBeing wellBeing, Limit limit);
+
+    /**
+     * Retrieves the journal entries of a certain journal that are older than the
+     * position described by a date and an id and match the filters. Backed by the
+     * (journal_id, date, journal_entry_id) index, so the cost does not depend on
+     * the position.
+     * 
+     * @param journalId The id of the journal.
+     * @param date      The date of the position.
+     * @param id        The id of the position.
+     * @param from      The first date to include. May be null.
+     * @param to        The last date to include. May be null.
+     * @param wellBeing The well-being the entries must have. May be null.
+     * @param limit     The maximum number of entries to retrieve.
+     * @return A list containing an
+     *         {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO}
+     *         object for each matching journal entry. The results are ordered by
+     *         date and id in descending order.
+     */
+    List<IdDatePairDTO> getEntriesByJournalIdBefore(Long journalId, LocalDate date, Long id, LocalDate from,
+            LocalDate to, JournalEntry.WellBeing wellBeing, Limit limit);
+
+    /**
+     * Retrieves the journal entries of a certain journal that are newer than the
+     * position described by a date and an id and match the filters. Backed by the
+     * (journal_id, date, journal_entry_id) index, so the cost does not depend on
+     * the position.
+     * 
+     * @param journalId The id of the journal.
+     * @param date      The date of the position.
+     * @param id        The id of the position.
+     * @param from      The first date to include. May be null.
+     * @param to        The last date to include. May be null.
+     * @param wellBeing The well-being the entries must have. May be null.
+     * @param limit     The maximum number of entries to retrieve.
+     * @return A list containing an
+     *         {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO}
+     *         object for each matching journal entry. The results are ordered by
+     *         date and id in ascending order, starting next to the position.
+     */
+    List<IdDatePairDTO> getEntriesByJournalIdAfter(Long journalId, LocalDate date, Long id, LocalDate from,
+            LocalDate to, JournalEntry.WellBeing wellBeing, Limit limit);
+}
\ No newline at end of file
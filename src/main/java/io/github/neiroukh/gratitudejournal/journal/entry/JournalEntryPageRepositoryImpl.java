@@ -0,0 +1,114 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Implementation of the {@link JournalEntryPageRepository} fragment, building
+ * the JPQL of a page from the present filters. Part of the persistence layer of
+ * the Journal-API.
+ * 
+ * @author Afeef Neiroukh
+ */
+class JournalEntryPageRepositoryImpl implements JournalEntryPageRepository {
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor of the JournalEntryPageRepositoryImpl class.
+     * 
+     * @param entityManager EntityManager injected by Spring.
+     */
+    JournalEntryPageRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IdDatePairDTO> getEntriesByJournalId(Long journalId, LocalDate from, LocalDate to,
+            JournalEntry.WellBeing wellBeing, Limit limit) {
+        TypedQuery<IdDatePairDTO> query = createQuery(journalId, "", from, to, wellBeing, "DESC", limit);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        query.setHint(HibernateHints.HINT_CACHE_REGION, JournalEntryRepository.ENTRIES_QUERY_REGION);
+        return query.getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IdDatePairDTO> getEntriesByJournalIdBefore(Long journalId, LocalDate date, Long id,
+            LocalDate from, LocalDate to, JournalEntry.WellBeing wellBeing, Limit limit) {
+        return createQuery(journalId,
+                " AND (entry.date < :date OR (entry.date = :date AND entry.journalEntryId < :id))", from, to,
+                wellBeing, "DESC", limit)
+                .setParameter("date", date)
+                .setParameter("id", id)
+                .getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IdDatePairDTO> getEntriesByJournalIdAfter(Long journalId, LocalDate date, Long id,
+            LocalDate from, LocalDate to, JournalEntry.WellBeing wellBeing, Limit limit) {
+        return createQuery(journalId,
+                " AND (entry.date > :date OR (entry.date = :date AND entry.journalEntryId > :id))", from, to,
+                wellBeing, "ASC", limit)
+                .setParameter("date", date)
+                .setParameter("id", id)
+                .getResultList();
+    }
+
+    /**
+     * Create the query of a page of a journal's id-date pairs, holding a condition
+     * for every present filter only.
+     * 
+     * @param journalId The id of the journal.
+     * @param position  The condition on the position of the page, or an empty
+     *                  string for the first page.
+     * @param from      The first date to include. May be null.
+     * @param to        The last date to include. May be null.
+     * @param wellBeing The well-being the entries must have. May be null.
+     * @param direction The direction to order the entries by date and id in.
+     * @param limit     The maximum number of entries to retrieve.
+     * @return The query with all parameters bound but the ones of the position.
+     */
+    private TypedQuery<IdDatePairDTO> createQuery(Long journalId, String position, LocalDate from, LocalDate to,
+            JournalEntry.WellBeing wellBeing, String direction, Limit limit) {
+        StringBuilder jpql = new StringBuilder("SELECT new ")
+                .append(IdDatePairDTO.class.getName())
+                .append("(entry.journalEntryId, entry.date) FROM JournalEntry entry")
+                .append(" WHERE entry.journal.journalId = :journalId")
+                .append(position);
+        if (from != null)
+            jpql.append(" AND entry.date >= :from");
+        if (to != null)
+            jpql.append(" AND entry.date <= :to");
+        if (wellBeing != null)
+            jpql.append(" AND entry.wellBeing = :wellBeing");
+        jpql.append(" ORDER BY entry.date ").append(direction).append(", entry.journalEntryId ").append(direction);
+
+        TypedQuery<IdDatePairDTO> query = entityManager.createQuery(jpql.toString(), IdDatePairDTO.class)
+                .setParameter("journalId", journalId);
+        if (from != null)
+            query.setParameter("from", from);
+        if (to != null)
+            query.setParameter("to", to);
+        if (wellBeing != null)
+            query.setParameter("wellBeing", wellBeing);
+        if (limit.isLimited())
+            query.setMaxResults(limit.max());
+        return query;
+    }
+}
\ No newline at end of file
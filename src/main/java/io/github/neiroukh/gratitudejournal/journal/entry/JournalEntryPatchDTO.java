@@ -0,0 +1,115 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+import java.util.Optional;
+
+/**
+ * DTO object that clients send when partially updating a journal entry,
+ * following the semantics of JSON Merge Patch (RFC 7396). A field missing in
+ * the request is null and keeps its value, a field sent as JSON null is an
+ * empty Optional and clears the value.
+ * 
+ * Unlike the other DTOs this is not a record: Jackson passes an empty Optional
+ * for missing creator parameters, while setters are only called for fields
+ * present in the request.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class JournalEntryPatchDTO {
+    /**
+     * The new value of well-being reported by the user.
+     */
+    private Optional<JournalEntry.WellBeing> wellBeing;
+
+    /**
+     * What the user is grateful for today.
+     */
+    private Optional<String> gratefulForToday;
+
+    /**
+     * Description of what the user is grateful for today.
+     */
+    private Optional<String> gratefulForTodayDescription;
+
+    /**
+     * What the user is grateful for in life.
+     */
+    private Optional<String> gratefulForInLife;
+
+    /**
+     * Description of what the user is grateful for in life.
+     */
+    private Optional<String> gratefulForInLifeDescription;
+
+    /**
+     * Public empty constructor, used by Jackson.
+     */
+    public JournalEntryPatchDTO() {
+    }
+
+    /**
+     * Set the value of {@link #wellBeing}.
+     * 
+     * @param wellBeing Value to set {@link #wellBeing} to.
+     */
+    public void setWellBeing(Optional<JournalEntry.WellBeing> wellBeing) {
+        this.wellBeing = wellBeing;
+    }
+
+    /**
+     * Set the value of {@link #gratefulForToday}.
+     * 
+     * @param gratefulForToday Value to set {@link #gratefulForToday} to.
+     */
+    public void setGratefulForToday(Optional<String> gratefulForToday) {
+        this.gratefulForToday = gratefulForToday;
+    }
+
+    /**
+     * Set the value of {@link #gratefulForTodayDescription}.
+     * 
+     * @param gratefulForTodayDescription Value to set
+     *                                    {@link #gratefulForTodayDescription} to.
+     */
+    public void setGratefulForTodayDescription(Optional<String> gratefulForTodayDescription) {
+        this.gratefulForTodayDescription = gratefulForTodayDescription;
+    }
+
+    /**
+     * Set the value of {@link #gratefulForInLife}.
+     * 
+     * @param gratefulForInLife Value to set {@link #gratefulForInLife} to.
+     */
+    public void setGratefulForInLife(Optional<String> gratefulForInLife) {
+        this.gratefulForInLife = gratefulForInLife;
+    }
+
+    /**
+     * Set the value of {@link #gratefulForInLifeDescription}.
+     * 
+     * @param gratefulForInLifeDescription Value to set
+     *                                     {@link #gratefulForInLifeDescription} to.
+     */
+    public void setGratefulForInLifeDescription(Optional<String> gratefulForInLifeDescription) {
+        this.gratefulForInLifeDescription = gratefulForInLifeDescription;
+    }
+
+    /**
+     * Apply the fields sent by the client to a
+     * {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry} object.
+     * Fields that were not sent are left unchanged.
+     * 
+     * @param entry The journal entry to update.
+     */
+    public void applyTo(JournalEntry entry) {
+        if (wellBeing != null)
+            entry.setWellBeing(wellBeing.orElse(null));
+        if (gratefulForToday != null)
+            entry.setGratefulForToday(gratefulForToday.orElse(null));
+        if (gratefulForTodayDescription != null)
+            entry.setGratefulForTodayDescription(gratefulForTodayDescription.orElse(null));
+        if (gratefulForInLife != null)
+            entry.setGratefulForInLife(gratefulForInLife.orElse(null));
+        if (gratefulForInLifeDescription != null)
+            entry.setGratefulForInLifeDescription(gratefulForInLifeDescription.orElse(null));
+    }
+}
\ No newline at end of file
@@ -1,31 +1,92 @@
 package io.github.neiroukh.gratitudejournal.journal.entry;
 
-import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO;
-
-import java.util.Collection;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
- * JpaRepository for the JournalEntry Entity. Part of the persistence layer of
- * the Journal-API.
+ * JpaRepository for the JournalEntry Entity. The pages of a journal's listing
+ * are read by the {@link JournalEntryPageRepository} fragment, and entries are
+ * written by their ids by the {@link JournalEntryWriteRepository} fragment.
+ * Part of the persistence layer of the Journal-API.
  * 
  * @author Afeef Neiroukh
  */
-public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long> {
+public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long>, JournalEntryPageRepository,
+        JournalEntryWriteRepository {
+    /**
+     * Name of the second-level cache region holding the results of
+     * {@link #getEntriesByJournalId(Long, LocalDate, LocalDate, JournalEntry.WellBeing, Limit)}.
+     */
+    String ENTRIES_QUERY_REGION = "journal-entries";
+
     /**
-     * Retrieves every journal entry that is assigned to a certain journal.
+     * Retrieves the dates of the journal entries of a certain journal within a
+     * range of dates. Backed by the (journal_id, date, journal_entry_id) index.
      * 
      * @param journalId The id of the journal.
-     * @return A collection containing an
-     *         {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO}
-     *         object for every journal entry assigned to the journal matching the
-     *         provided id. Every
-     *         {@link io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO}
-     *         object contains the id and creation date of the journal entry. The
-     *         results are ordered by date in descending order.
+     * @param from      The first date of the range.
+     * @param to        The last date of the range.
+     * @return A list containing the date of every journal entry of the journal
+     *         between both dates, inclusive.
+     */
+    @Query("SELECT entry.date FROM JournalEntry entry WHERE entry.journal.journalId = ?1 AND entry.date BETWEEN ?2 AND ?3")
+    List<LocalDate> getDatesByJournalIdBetween(Long journalId, LocalDate from, LocalDate to);
+
+    /**
+     * Streams all journal entries of a certain journal, ordered by date in
+     * descending order.
+     * 
+     * The entries are read as DTO projections, so no entity is added to the
+     * persistence context. The fetch size of Integer.MIN_VALUE makes the MySQL
+     * driver stream the result set row by row instead of reading it into memory.
+     * The stream must be consumed and closed within a transaction, and no other
+     * statement can be executed on the connection while it is open.
+     * 
+     * @param journalId The id of the journal.
+     * @return A stream containing a
+     *         {@link io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO}
+     *         object for every journal entry of the journal.
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT entry.date, entry.wellBeing, entry.gratefulForToday, entry.gratefulForTodayDescription, entry.gratefulForInLife, entry.gratefulForInLifeDescription FROM JournalEntry entry WHERE entry.journal.journalId = ?1 ORDER BY entry.date DESC")
+    Stream<DatedJournalEntryDTO> streamEntriesByJournalId(Long journalId);
+
+    /**
+     * Retrieves the version of a journal entry by its primary key, without
+     * hydrating the journal entry.
+     * 
+     * @param journalEntryId The id of the journal entry.
+     * @return The version of the journal entry, or an empty Optional if no journal
+     *         entry matches the id.
+     */
+    @Query("SELECT entry.version FROM JournalEntry entry WHERE entry.journalEntryId = ?1")
+    Optional<Long> findVersionById(Long journalEntryId);
+
+    /**
+     * Retrieves and locks the journal, date and well-being of a journal entry by
+     * its primary key, without hydrating the journal entry. The row stays locked
+     * until the end of the transaction, so the well-being cannot change before
+     * the entry is updated or deleted.
+     * 
+     * @param journalEntryId The id of the journal entry.
+     * @return An {@code Optional<EntryWellBeingDTO>} object containing the journal
+     *         id, date and well-being of the journal entry, or an empty Optional if
+     *         no journal entry matches the id.
      */
-    @Query("SELECT entry.journalEntryId, entry.date FROM JournalEntry entry WHERE entry.journal.journalId = ?1 ORDER BY entry.date DESC")
-    Collection<IdDatePairDTO> getEntriesByJournalId(Long journalId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT entry.journal.journalId, entry.date, entry.wellBeing FROM JournalEntry entry WHERE entry.journalEntryId = ?1")
+    Optional<EntryWellBeingDTO> lockWellBeingById(Long journalEntryId);
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+/**
+ * Repository fragment of the {@link JournalEntryRepository} writing journal
+ * entries by their ids without hydrating them. Part of the persistence layer of
+ * the Journal-API.
+ * 
+ * Bulk HQL and native statements on journal entries make Hibernate evict the
+ * whole journal-entry region of the second-level cache. The statements of this
+ * fragment only evict the written entries instead, once when they are executed
+ * and once after the commit. The cached pages of the listing are still evicted
+ * by every write, whichever journal the written entries belong to.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface JournalEntryWriteRepository {
+    /**
+     * Overwrites the mutable fields of a journal entry by its primary key in a
+     * single UPDATE, without hydrating the journal entry. The version of the
+     * journal entry is incremented.
+     * 
+     * @param journalEntryId               The id of the journal entry.
+     * @param wellBeing                    The new well-being.
+     * @param gratefulForToday             The new thing the user is grateful for
+     *                                     today.
+     * @param gratefulForTodayDescription  The new description of the thing the
+     *                                     user is grateful for today.
+     * @param gratefulForInLife            The new thing the user is grateful for
+     *                                     in life.
+     * @param gratefulForInLifeDescription The new description of the thing the
+     *                                     user is grateful for in life.
+     * @return The number of updated journal entries, 0 if no journal entry matches
+     *         the id.
+     */
+    int updateEntryById(Long journalEntryId, JournalEntry.WellBeing wellBeing, String gratefulForToday,
+            String gratefulForTodayDescription, String gratefulForInLife, String gratefulForInLifeDescription);
+
+    /**
+     * Deletes a journal entry by its primary key in a single DELETE, without
+     * hydrating the journal entry.
+     * 
+     * @param journalEntryId The id of the journal entry.
+     * @return The number of deleted journal entries, 0 if no journal entry matches
+     *         the id.
+     */
+    int deleteEntryById(Long journalEntryId);
+
+    /**
+     * Deletes a bounded batch of the journal entries of a certain journal. The ids
+     * of the batch are read first, so only the deleted entries are evicted. Used
+     * to purge journals in short transactions that only lock the deleted rows.
+     * 
+     * @param journalId The id of the journal.
+     * @param limit     The maximum number of journal entries to delete.
+     * @return The number of deleted journal entries, less than the limit once the
+     *         journal has no entries left.
+     */
+    int deleteEntriesByJournalId(Long journalId, int limit);
+}
\ No newline at end of file
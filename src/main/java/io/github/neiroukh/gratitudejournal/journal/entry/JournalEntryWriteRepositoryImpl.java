@@ -0,0 +1,122 @@
+package io.github.neiroukh.gratitudejournal.journal.entry;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementation of the {@link JournalEntryWriteRepository} fragment, executing
+ * native statements on the current session.
+ * 
+ * Hibernate evicts the cached entities of every table a native statement is
+ * synchronized with, so the statements are synchronized with a query space of
+ * their own instead of the journal_entry table. The written entries and the
+ * cached pages of the listing are evicted from the second-level cache right
+ * away and again after the commit, so a concurrent read cannot keep the
+ * previous state cached.
+ * 
+ * @author Afeef Neiroukh
+ */
+class JournalEntryWriteRepositoryImpl implements JournalEntryWriteRepository {
+    /**
+     * The query space the statements are synchronized with, which no entity is
+     * mapped to.
+     */
+    private static final String QUERY_SPACE = "journal_entry_by_id";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor of the JournalEntryWriteRepositoryImpl class.
+     * 
+     * @param entityManager EntityManager injected by Spring.
+     */
+    JournalEntryWriteRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int updateEntryById(Long journalEntryId, JournalEntry.WellBeing wellBeing, String gratefulForToday,
+            String gratefulForTodayDescription, String gratefulForInLife, String gratefulForInLifeDescription) {
+        return execute(
+                "UPDATE journal_entry SET well_being = ?, grateful_for_today = ?, grateful_for_today_description = ?, grateful_for_in_life = ?, grateful_for_in_life_description = ?, version = version + 1 WHERE journal_entry_id = ?",
+                List.of(journalEntryId), wellBeing == null ? null : wellBeing.name(), gratefulForToday,
+                gratefulForTodayDescription, gratefulForInLife, gratefulForInLifeDescription, journalEntryId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteEntryById(Long journalEntryId) {
+        return execute("DELETE FROM journal_entry WHERE journal_entry_id = ?", List.of(journalEntryId),
+                journalEntryId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteEntriesByJournalId(Long journalId, int limit) {
+        List<Long> journalEntryIds = entityManager
+                .createQuery("SELECT entry.journalEntryId FROM JournalEntry entry WHERE entry.journal.journalId = :journalId",
+                        Long.class)
+                .setParameter("journalId", journalId)
+                .setMaxResults(limit)
+                .getResultList();
+        if (journalEntryIds.isEmpty())
+            return 0;
+
+        String placeholders = String.join(", ", Collections.nCopies(journalEntryIds.size(), "?"));
+        return execute("DELETE FROM journal_entry WHERE journal_entry_id IN (" + placeholders + ")",
+                journalEntryIds, journalEntryIds.toArray());
+    }
+
+    /**
+     * Helper method to execute a statement writing journal entries and to evict
+     * the written entries now and after the commit.
+     * 
+     * @param sql             The SQL of the statement.
+     * @param journalEntryIds The ids of the written journal entries.
+     * @param parameters      The values of the positional parameters.
+     * @return The number of written rows.
+     */
+    private int execute(String sql, List<Long> journalEntryIds, Object... parameters) {
+        entityManager.flush();
+        evict(journalEntryIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(journalEntryIds);
+            }
+        });
+
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        query.addSynchronizedQuerySpace(QUERY_SPACE);
+        for (int i = 0; i < parameters.length; i++)
+            query.setParameter(i + 1, parameters[i]);
+        return query.executeUpdate();
+    }
+
+    /**
+     * Helper method to evict journal entries and the cached pages of the listing
+     * from the second-level cache.
+     * 
+     * @param journalEntryIds The ids of the journal entries to evict.
+     */
+    private void evict(List<Long> journalEntryIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        for (Long journalEntryId : journalEntryIds)
+            cache.evict(JournalEntry.class, journalEntryId);
+        cache.evictQueryRegion(JournalEntryRepository.ENTRIES_QUERY_REGION);
+    }
+}
\ No newline at end of file
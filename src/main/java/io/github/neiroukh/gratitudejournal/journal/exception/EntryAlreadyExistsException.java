@@ -16,4 +16,15 @@ public class EntryAlreadyExistsException extends RuntimeException {
     public EntryAlreadyExistsException(LocalDate date) {
         super("An entry already exists for " + date.toString());
     }
+
+    /**
+     * Public constructor of the EntryAlreadyExistsException class for a range of
+     * dates.
+     * 
+     * @param from The first date of the range of conflict.
+     * @param to   The last date of the range of conflict.
+     */
+    public EntryAlreadyExistsException(LocalDate from, LocalDate to) {
+        super("An entry already exists between " + from.toString() + " and " + to.toString());
+    }
 }
\ No newline at end of file
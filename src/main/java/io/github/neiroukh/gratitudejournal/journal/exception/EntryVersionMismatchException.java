@@ -0,0 +1,19 @@
+package io.github.neiroukh.gratitudejournal.journal.exception;
+
+/**
+ * Exception thrown when a conditional update targets an outdated version of a
+ * journal entry.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class EntryVersionMismatchException extends RuntimeException {
+    /**
+     * Public constructor of the EntryVersionMismatchException class.
+     * 
+     * @param journalEntryId The id of the journal entry.
+     */
+    public EntryVersionMismatchException(Long journalEntryId) {
+        super("The entry with journalEntryId " + journalEntryId.toString()
+                + " was modified, retrieve its current version and try again.");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package io.github.neiroukh.gratitudejournal.journal.exception;
+
+/**
+ * Exception thrown when the entries of an import are invalid.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class ImportInvalidException extends RuntimeException {
+    /**
+     * Public constructor of the ImportInvalidException class.
+     * 
+     * @param message Description of the invalid entry.
+     */
+    public ImportInvalidException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
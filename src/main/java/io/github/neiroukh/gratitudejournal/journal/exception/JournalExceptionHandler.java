@@ -43,4 +43,64 @@ public class JournalExceptionHandler {
     String entryDoesNotExistHandler(EntryNotFoundException ex) {
         return ex.getMessage();
     }
+
+    /**
+     * Handler for the {@link PageRequestInvalidException} Exception.
+     * 
+     * @param ex The {@link PageRequestInvalidException} object
+     * @return The exception message and HTTP-Code 400 Bad Request.
+     */
+    @ExceptionHandler(PageRequestInvalidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    String pageRequestInvalidHandler(PageRequestInvalidException ex) {
+        return ex.getMessage();
+    }
+
+    /**
+     * Handler for the {@link SearchQueryInvalidException} Exception.
+     * 
+     * @param ex The {@link SearchQueryInvalidException} object
+     * @return The exception message and HTTP-Code 400 Bad Request.
+     */
+    @ExceptionHandler(SearchQueryInvalidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    String searchQueryInvalidHandler(SearchQueryInvalidException ex) {
+        return ex.getMessage();
+    }
+
+    /**
+     * Handler for the {@link ImportInvalidException} Exception.
+     * 
+     * @param ex The {@link ImportInvalidException} object
+     * @return The exception message and HTTP-Code 400 Bad Request.
+     */
+    @ExceptionHandler(ImportInvalidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    String importInvalidHandler(ImportInvalidException ex) {
+        return ex.getMessage();
+    }
+
+    /**
+     * Handler for the {@link EntryVersionMismatchException} Exception.
+     * 
+     * @param ex The {@link EntryVersionMismatchException} object
+     * @return The exception message and HTTP-Code 412 Precondition Failed.
+     */
+    @ExceptionHandler(EntryVersionMismatchException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    String entryVersionMismatchHandler(EntryVersionMismatchException ex) {
+        return ex.getMessage();
+    }
+
+    /**
+     * Handler for the {@link PreconditionMissingException} Exception.
+     * 
+     * @param ex The {@link PreconditionMissingException} object
+     * @return The exception message and HTTP-Code 428 Precondition Required.
+     */
+    @ExceptionHandler(PreconditionMissingException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+    String preconditionMissingHandler(PreconditionMissingException ex) {
+        return ex.getMessage();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package io.github.neiroukh.gratitudejournal.journal.exception;
+
+/**
+ * Exception thrown when the parameters of a paginated request are invalid.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class PageRequestInvalidException extends RuntimeException {
+    /**
+     * Public constructor of the PageRequestInvalidException class.
+     * 
+     * @param message Description of the invalid parameter.
+     */
+    public PageRequestInvalidException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package io.github.neiroukh.gratitudejournal.journal.exception;
+
+/**
+ * Exception thrown when a request that must be conditional lacks its
+ * precondition header.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class PreconditionMissingException extends RuntimeException {
+    /**
+     * Public constructor of the PreconditionMissingException class.
+     * 
+     * @param header The name of the missing header.
+     */
+    public PreconditionMissingException(String header) {
+        super("The request must contain the header " + header);
+    }
+}
\ No newline at end of file
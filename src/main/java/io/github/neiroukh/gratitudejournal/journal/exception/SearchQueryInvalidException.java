@@ -0,0 +1,17 @@
+package io.github.neiroukh.gratitudejournal.journal.exception;
+
+/**
+ * Exception thrown when the query of a full-text search is invalid.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class SearchQueryInvalidException extends RuntimeException {
+    /**
+     * Public constructor of the SearchQueryInvalidException class.
+     * 
+     * @param message Description of the invalid query.
+     */
+    public SearchQueryInvalidException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
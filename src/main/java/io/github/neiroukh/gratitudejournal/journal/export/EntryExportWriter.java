@@ -0,0 +1,136 @@
+package io.github.neiroukh.gratitudejournal.journal.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Writes journal entries one by one in an {@link ExportFormat}. No entry is
+ * retained after it is written, so exports of any size are written with
+ * constant memory.
+ * 
+ * The output is opened when the export begins. This allows the caller to
+ * validate the request and fail before anything is written.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class EntryExportWriter {
+    /**
+     * Header line of the CSV format.
+     */
+    private static final String CSV_HEADER = "date,wellBeing,gratefulForToday,gratefulForTodayDescription,"
+            + "gratefulForInLife,gratefulForInLifeDescription";
+
+    /**
+     * Opens the output of an export.
+     */
+    @FunctionalInterface
+    public interface Output {
+        /**
+         * Open the output.
+         * 
+         * @return The writer to write the export to.
+         * @throws IOException The output could not be opened.
+         */
+        Writer open() throws IOException;
+    }
+
+    /**
+     * Output of the export, opened by {@link #begin()}.
+     */
+    private final Output output;
+
+    /**
+     * Format of the export.
+     */
+    private final ExportFormat format;
+
+    /**
+     * Writer used to serialize entries in the NDJSON format.
+     */
+    private final ObjectWriter jsonWriter;
+
+    /**
+     * Writer opened by {@link #begin()}.
+     */
+    private Writer writer;
+
+    /**
+     * Public constructor of the class.
+     * 
+     * @param output     Output of the export, opened by {@link #begin()}.
+     * @param format     Format of the export.
+     * @param jsonWriter Writer used to serialize entries in the NDJSON format.
+     */
+    public EntryExportWriter(Output output, ExportFormat format, ObjectWriter jsonWriter) {
+        this.output = output;
+        this.format = format;
+        this.jsonWriter = jsonWriter;
+    }
+
+    /**
+     * Open the output and write the header of the format, if any.
+     * 
+     * @throws IOException The output could not be opened or written to.
+     */
+    public void begin() throws IOException {
+        writer = output.open();
+        if (format == ExportFormat.CSV)
+            writer.write(CSV_HEADER + "\r\n");
+    }
+
+    /**
+     * Write a single entry.
+     * 
+     * @param entry The entry to write.
+     * @throws IOException The output could not be written to.
+     */
+    public void write(DatedJournalEntryDTO entry) throws IOException {
+        switch (format) {
+            case NDJSON -> {
+                writer.write(jsonWriter.writeValueAsString(entry));
+                writer.write('\n');
+            }
+            case CSV -> {
+                writer.write(entry.date().toString());
+                writer.write(',');
+                writer.write(entry.wellBeing() == null ? "" : entry.wellBeing().name());
+                writer.write(',');
+                writer.write(csvField(entry.gratefulForToday()));
+                writer.write(',');
+                writer.write(csvField(entry.gratefulForTodayDescription()));
+                writer.write(',');
+                writer.write(csvField(entry.gratefulForInLife()));
+                writer.write(',');
+                writer.write(csvField(entry.gratefulForInLifeDescription()));
+                writer.write("\r\n");
+            }
+        }
+    }
+
+    /**
+     * Flush the remaining output.
+     * 
+     * @throws IOException The output could not be written to.
+     */
+    public void end() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Escape a value as a CSV field according to RFC 4180. Fields containing a
+     * separator, a quote or a line break are enclosed in quotes.
+     * 
+     * @param value The value of the field. May be null.
+     * @return The escaped field.
+     */
+    static String csvField(String value) {
+        if (value == null)
+            return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package io.github.neiroukh.gratitudejournal.journal.export;
+
+/**
+ * Enum containing the formats a journal can be exported in.
+ * 
+ * @author Afeef Neiroukh
+ */
+public enum ExportFormat {
+    /**
+     * Newline delimited JSON, one JSON object per entry and line.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /**
+     * Comma separated values with a header line, one line per entry.
+     */
+    CSV("text/csv", "csv");
+
+    /**
+     * The media type of the format.
+     */
+    private final String mediaType;
+
+    /**
+     * The file extension of the format.
+     */
+    private final String fileExtension;
+
+    /**
+     * Private constructor of the enum.
+     * 
+     * @param mediaType     The media type of the format.
+     * @param fileExtension The file extension of the format.
+     */
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Get the media type of the format.
+     * 
+     * @return The media type of the format.
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Get the file extension of the format.
+     * 
+     * @return The file extension of the format, without a leading dot.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package io.github.neiroukh.gratitudejournal.journal.id_date_pair;
+
+import io.github.neiroukh.gratitudejournal.journal.exception.PageRequestInvalidException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Record describing a position in the list of a journal's entries, which are
+ * ordered by (date, id) in descending order. Used for keyset pagination, so a
+ * page is always retrieved by an index range scan starting at the cursor
+ * instead of skipping a growing number of rows.
+ * 
+ * Clients receive cursors as opaque strings in the "next" and "prev" links of a
+ * page.
+ * 
+ * @param date The date of the entry at the position.
+ * @param id   The id of the entry at the position.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record EntryCursor(LocalDate date, Long id) {
+    /**
+     * Create a cursor pointing at an id-date pair.
+     * 
+     * @param idDatePair The id-date pair to point at.
+     * @return The cursor pointing at the id-date pair.
+     */
+    public static EntryCursor of(IdDatePairDTO idDatePair) {
+        return new EntryCursor(idDatePair.date(), idDatePair.id());
+    }
+
+    /**
+     * Parse a cursor from its opaque string representation.
+     * 
+     * @param cursor The string representation created by {@link #encode()}. May
+     *               be null.
+     * @return The parsed cursor or null if the provided string is null.
+     * @throws PageRequestInvalidException The string is not a valid cursor.
+     */
+    public static EntryCursor parse(String cursor) {
+        if (cursor == null)
+            return null;
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return new EntryCursor(LocalDate.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new PageRequestInvalidException("The cursor \"" + cursor + "\" is invalid.");
+        }
+    }
+
+    /**
+     * Get the opaque string representation of this cursor.
+     * 
+     * @return The URL-safe string representation of this cursor.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((date.toString() + ":" + id.toString()).getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package io.github.neiroukh.gratitudejournal.journal.id_date_pair;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+
+import java.time.LocalDate;
+
+/**
+ * Record holding the filters of a listing of journal entries. Every filter is
+ * optional and ignored if null.
+ * 
+ * @param from      The first date to include.
+ * @param to        The last date to include.
+ * @param wellBeing The well-being the entries must have.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record EntryFilter(LocalDate from, LocalDate to, JournalEntry.WellBeing wellBeing) {
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package io.github.neiroukh.gratitudejournal.journal.id_date_pair;
+
+import io.github.neiroukh.gratitudejournal.journal.streak.StreakDTO;
+
+import java.util.List;
+
+/**
+ * Record holding one page of a journal's id-date pairs, ordered by date in
+ * descending order, together with the cursors to the neighbouring pages and the
+ * streaks of the journal.
+ * 
+ * @param entries  The id-date pairs of the page.
+ * @param next     Cursor to retrieve the page of older entries with, or null if
+ *                 there are no older entries.
+ * @param previous Cursor to retrieve the page of newer entries with, or null if
+ *                 there are no newer entries.
+ * @param streak   The streaks of the journal, read in the same transaction as
+ *                 the page.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record EntryPage(List<IdDatePairDTO> entries, EntryCursor next, EntryCursor previous, StreakDTO streak) {
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package io.github.neiroukh.gratitudejournal.journal.id_date_pair;
+
+import io.github.neiroukh.gratitudejournal.journal.streak.StreakDTO;
+
+import java.util.Objects;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Representation of one page of a journal's listing. In addition to the id-date
+ * pairs in the "_embedded" property, it holds the streaks of the journal in the
+ * "streak" property, so clients do not have to request them separately.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class EntryPageModel extends CollectionModel<EntityModel<IdDatePairDTO>> {
+    /**
+     * The streaks of the journal.
+     */
+    private final StreakDTO streak;
+
+    /**
+     * Public constructor of the class.
+     * 
+     * @param entries The id-date pairs of the page.
+     * @param streak  The streaks of the journal.
+     * @param links   The links of the page.
+     */
+    public EntryPageModel(Iterable<EntityModel<IdDatePairDTO>> entries, StreakDTO streak, Link... links) {
+        super(entries);
+        this.streak = streak;
+        add(links);
+    }
+
+    /**
+     * Get the streaks of the journal.
+     * 
+     * @return The {@link io.github.neiroukh.gratitudejournal.journal.streak.StreakDTO}
+     *         object holding the streaks of the journal.
+     */
+    @JsonProperty("streak")
+    public StreakDTO getStreak() {
+        return streak;
+    }
+
+    /**
+     * Compares the page to another object, including the streaks.
+     * 
+     * @param o The object to compare this page to.
+     * @return true if objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof EntryPageModel))
+            return false;
+        EntryPageModel entryPageModel = (EntryPageModel) o;
+        return super.equals(o) && Objects.equals(this.streak, entryPageModel.streak);
+    }
+
+    /**
+     * Generates the hash code of the page, including the streaks.
+     * 
+     * @return The hash code of this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), this.streak);
+    }
+}
\ No newline at end of file
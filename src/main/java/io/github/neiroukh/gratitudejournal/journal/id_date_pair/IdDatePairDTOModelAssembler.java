@@ -1,12 +1,18 @@
 package io.github.neiroukh.gratitudejournal.journal.id_date_pair;
 
+import io.github.neiroukh.gratitudejournal.hal.LinkStrategy;
+import io.github.neiroukh.gratitudejournal.hal.LinkTemplate;
 import io.github.neiroukh.gratitudejournal.journal.JournalController;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryDTO;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Spring Component to create an EntityModel for a
@@ -20,9 +26,37 @@ public class IdDatePairDTOModelAssembler
                 implements RepresentationModelAssembler<IdDatePairDTO, EntityModel<IdDatePairDTO>> {
 
         /**
-         * Default constructor.
+         * Template of the GET-Request of a journal entry.
          */
-        IdDatePairDTOModelAssembler() {
+        private static final LinkTemplate GET_ENTRY = LinkTemplate.of(JournalController.class, "getEntry",
+                        Long.class, WebRequest.class);
+
+        /**
+         * Template of the DELETE-Request of a journal entry.
+         */
+        private static final LinkTemplate DELETE_ENTRY = LinkTemplate.of(JournalController.class, "deleteEntry",
+                        Long.class);
+
+        /**
+         * Template of the PUT-Request of a journal entry.
+         */
+        private static final LinkTemplate UPDATE_ENTRY = LinkTemplate.of(JournalController.class, "updateEntry",
+                        Long.class, JournalEntryDTO.class);
+
+        /**
+         * The strategy used to create links.
+         */
+        private final LinkStrategy linkStrategy;
+
+        /**
+         * Constructor of the class.
+         * 
+         * @param linkStrategy The strategy used to create links. Configured by the
+         *                     property "gratitudejournal.hal.link-strategy".
+         */
+        IdDatePairDTOModelAssembler(
+                        @Value("${gratitudejournal.hal.link-strategy:TEMPLATE}") LinkStrategy linkStrategy) {
+                this.linkStrategy = linkStrategy;
         }
 
         /**
@@ -47,8 +81,14 @@ public class IdDatePairDTOModelAssembler
          */
         @Override
         public EntityModel<IdDatePairDTO> toModel(IdDatePairDTO idDatePair) {
+                if (linkStrategy == LinkStrategy.TEMPLATE)
+                        return EntityModel.of(idDatePair,
+                                        GET_ENTRY.toLink(IanaLinkRelations.SELF, idDatePair.id()),
+                                        DELETE_ENTRY.toLink("delete", idDatePair.id()),
+                                        UPDATE_ENTRY.toLink("update", idDatePair.id()));
+
                 return EntityModel.of(idDatePair,
-                                linkTo(methodOn(JournalController.class).getEntry(idDatePair.id())).withSelfRel(),
+                                linkTo(methodOn(JournalController.class).getEntry(idDatePair.id(), null)).withSelfRel(),
                                 linkTo(methodOn(JournalController.class).deleteEntry(idDatePair.id()))
                                                 .withRel("delete"),
                                 linkTo(methodOn(JournalController.class).updateEntry(idDatePair.id(), null))
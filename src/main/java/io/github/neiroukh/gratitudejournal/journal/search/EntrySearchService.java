@@ -0,0 +1,189 @@
+package io.github.neiroukh.gratitudejournal.journal.search;
+
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Service searching the gratitude fields of the journal entries. Part of the
+ * service layer of the Journal-API.
+ * 
+ * The search only reads the entries of the searched journal. Its most recent
+ * entries, bounded by the maximum number of candidates, are read through the
+ * index on journal, date and id, and ranked in-process by their BM25 score.
+ * The frequencies of the words are counted over these candidates, so the
+ * ranking of a journal does not depend on the entries of other users.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Service
+public class EntrySearchService {
+    /**
+     * Query retrieving the candidates of a search, the most recent entries of a
+     * journal, ordered by date and id in descending order.
+     */
+    private static final String CANDIDATES = "SELECT journal_entry_id, date, grateful_for_today, grateful_for_today_description, grateful_for_in_life, grateful_for_in_life_description FROM journal_entry WHERE journal_id = ?1 ORDER BY date DESC, journal_entry_id DESC LIMIT ?2";
+
+    /**
+     * Pattern matching the characters between the words of a text.
+     */
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * The BM25 parameter saturating the frequency of a word in an entry.
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * The BM25 parameter normalizing the frequency of a word by the length of
+     * the entry.
+     */
+    private static final double B = 0.75;
+
+    private final EntityManager entityManager;
+
+    /**
+     * The maximum number of the most recent entries of a journal searched.
+     */
+    private final int maxCandidates;
+
+    /**
+     * EntrySearchService constructor.
+     * 
+     * @param entityManager EntityManager injected by Spring. Used to read the
+     *                      candidates.
+     * @param maxCandidates The maximum number of the most recent entries of a
+     *                      journal searched. Configured by the property
+     *                      "gratitudejournal.search.max-candidates".
+     */
+    public EntrySearchService(EntityManager entityManager,
+            @Value("${gratitudejournal.search.max-candidates:5000}") int maxCandidates) {
+        this.entityManager = entityManager;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Search the gratitude fields of the entries of a journal.
+     * 
+     * @param journalId The id of the journal.
+     * @param query     The words to search for.
+     * @param page      The number of the page, starting at 0.
+     * @param size      The maximum number of entries on the page.
+     * @return The {@link SearchPage} object holding the matching entries of the
+     *         page.
+     */
+    public SearchPage search(Long journalId, String query, int page, int size) {
+        List<String> terms = words(query).stream().distinct().toList();
+        if (terms.isEmpty())
+            return new SearchPage(List.of(), page, false);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(CANDIDATES)
+                .setParameter(1, journalId)
+                .setParameter(2, maxCandidates)
+                .unwrap(NativeQuery.class)
+                .addScalar("journal_entry_id", Long.class)
+                .addScalar("date", LocalDate.class)
+                .addScalar("grateful_for_today", String.class)
+                .addScalar("grateful_for_today_description", String.class)
+                .addScalar("grateful_for_in_life", String.class)
+                .addScalar("grateful_for_in_life_description", String.class)
+                .getResultList();
+
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        int[] documentFrequencies = new int[terms.size()];
+        long totalLength = 0;
+        for (Object[] row : rows) {
+            List<String> words = new ArrayList<>();
+            for (int column = 2; column < row.length; column++)
+                if (row[column] != null)
+                    words.addAll(words((String) row[column]));
+
+            int[] termFrequencies = new int[terms.size()];
+            for (String word : words) {
+                int term = terms.indexOf(word);
+                if (term >= 0)
+                    termFrequencies[term]++;
+            }
+            for (int term = 0; term < terms.size(); term++)
+                if (termFrequencies[term] > 0)
+                    documentFrequencies[term]++;
+
+            candidates.add(new Candidate(new IdDatePairDTO((Long) row[0], (LocalDate) row[1]), termFrequencies,
+                    words.size()));
+            totalLength += words.size();
+        }
+
+        double averageLength = Math.max(1, (double) totalLength / Math.max(1, candidates.size()));
+        double[] inverseDocumentFrequencies = new double[terms.size()];
+        for (int term = 0; term < terms.size(); term++)
+            inverseDocumentFrequencies[term] = Math.log(1 + (candidates.size() - documentFrequencies[term] + 0.5)
+                    / (documentFrequencies[term] + 0.5));
+
+        // The candidates are in descending order of date and id, which the stable
+        // sort keeps for entries of the same score.
+        List<ScoredEntry> matches = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            double score = 0;
+            double lengthNorm = K1 * (1 - B + B * candidate.length() / averageLength);
+            for (int term = 0; term < terms.size(); term++) {
+                int frequency = candidate.termFrequencies()[term];
+                score += inverseDocumentFrequencies[term] * frequency * (K1 + 1) / (frequency + lengthNorm);
+            }
+            if (score > 0)
+                matches.add(new ScoredEntry(candidate.entry(), score));
+        }
+        matches.sort(Comparator.comparingDouble(ScoredEntry::score).reversed());
+
+        int from = (int) Math.min((long) page * size, matches.size());
+        int to = (int) Math.min((long) from + size, matches.size());
+        List<IdDatePairDTO> entries = matches.subList(from, to).stream().map(ScoredEntry::entry)
+                .collect(Collectors.toList());
+        return new SearchPage(entries, page, to < matches.size());
+    }
+
+    /**
+     * Helper method to split a text into its lower-case words.
+     * 
+     * @param text The text to split.
+     * @return The words of the text in their order.
+     */
+    private static List<String> words(String text) {
+        return Arrays.stream(WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Record holding an entry read as candidate of a search.
+     * 
+     * @param entry           The id-date pair of the entry.
+     * @param termFrequencies The number of occurrences of every searched word in
+     *                        the entry.
+     * @param length          The number of words of the entry.
+     */
+    private record Candidate(IdDatePairDTO entry, int[] termFrequencies, int length) {
+    }
+
+    /**
+     * Record holding a matching entry and its score.
+     * 
+     * @param entry The id-date pair of the entry.
+     * @param score The BM25 score of the entry.
+     */
+    private record ScoredEntry(IdDatePairDTO entry, double score) {
+    }
+}
\ No newline at end of file
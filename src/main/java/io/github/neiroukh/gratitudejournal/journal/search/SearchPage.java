@@ -0,0 +1,18 @@
+package io.github.neiroukh.gratitudejournal.journal.search;
+
+import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO;
+
+import java.util.List;
+
+/**
+ * Record holding one page of the id-date pairs of the journal entries matching
+ * a full-text search, ordered by relevance in descending order.
+ * 
+ * @param entries The id-date pairs of the page.
+ * @param page    The number of the page, starting at 0.
+ * @param hasNext True if there are more matching entries on the next page.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record SearchPage(List<IdDatePairDTO> entries, int page, boolean hasNext) {
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Enum containing the granularities the statistics of a journal are bucketed
+ * by.
+ * 
+ * @author Afeef Neiroukh
+ */
+public enum StatsGranularity {
+    /**
+     * Buckets of ISO weeks, starting on Monday.
+     */
+    WEEK,
+    /**
+     * Buckets of calendar months.
+     */
+    MONTH;
+
+    /**
+     * Get the first day of the bucket containing a date.
+     * 
+     * @param date The date to get the bucket of.
+     * @return The first day of the bucket containing the date.
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import java.util.Locale;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Component converting request parameters to {@link StatsGranularity}
+ * values, ignoring the case, so "week" and "WEEK" are both accepted.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Component
+public class StatsGranularityConverter implements Converter<String, StatsGranularity> {
+    /**
+     * Default constructor.
+     */
+    StatsGranularityConverter() {
+    }
+
+    /**
+     * Converts a request parameter to a {@link StatsGranularity} value.
+     * 
+     * @param source The value of the request parameter.
+     * @return The matching {@link StatsGranularity} value.
+     * @throws IllegalArgumentException No granularity matches the value.
+     */
+    @Override
+    public StatsGranularity convert(String source) {
+        return StatsGranularity.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
\ No newline at end of file
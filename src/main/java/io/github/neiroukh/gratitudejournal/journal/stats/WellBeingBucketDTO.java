@@ -0,0 +1,27 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * DTO returned to clients as JSON, holding the well-being statistics of a
+ * single bucket of time.
+ * 
+ * @param start        The first day of the bucket.
+ * @param entries      The number of journal entries with a well-being within
+ *                     the bucket.
+ * @param meanScore    The mean score of the well-being within the bucket, see
+ *                     {@link io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry.WellBeing#getScore()}.
+ * @param distribution The number of journal entries per well-being, including
+ *                     every well-being.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record WellBeingBucketDTO(
+        LocalDate start,
+        long entries,
+        double meanScore,
+        Map<JournalEntry.WellBeing, Long> distribution) {
+}
\ No newline at end of file
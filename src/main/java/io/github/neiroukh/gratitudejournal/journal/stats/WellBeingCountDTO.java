@@ -0,0 +1,21 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+
+import java.time.LocalDate;
+
+/**
+ * DTO holding the number of journal entries with a certain well-being within a
+ * bucket, as read from a {@link WellBeingRollup}.
+ * 
+ * @param bucketStart The first day of the bucket.
+ * @param wellBeing   The well-being that is counted.
+ * @param entries     The number of journal entries with the well-being.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record WellBeingCountDTO(
+        LocalDate bucketStart,
+        JournalEntry.WellBeing wellBeing,
+        long entries) {
+}
\ No newline at end of file
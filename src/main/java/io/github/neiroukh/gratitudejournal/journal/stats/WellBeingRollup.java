@@ -0,0 +1,61 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+
+/**
+ * JPA-Entity holding the number of journal entries of a journal with a certain
+ * well-being within a bucket of time. Part of the persistence layer of the
+ * Journal-API.
+ * 
+ * The rollups are maintained incrementally by every write of a journal entry,
+ * with upserts adding the change to the counts of the affected buckets. The
+ * statistics of a journal are therefore read from at most seven rows per
+ * bucket instead of from the journal's entries. The rollups of a journal can
+ * be recomputed from its entries, see
+ * {@link WellBeingRollupService#recompute(Long)}.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Entity
+public class WellBeingRollup {
+    /**
+     * The composite primary key of the rollup. The migrations order its columns
+     * as (journal_id, granularity, bucket_start, well_being), so the rollups of
+     * a journal are read by a range scan of the primary key.
+     */
+    @EmbeddedId
+    private WellBeingRollupId id;
+
+    /**
+     * The number of journal entries with the well-being within the bucket.
+     */
+    @Column(nullable = false)
+    private long entries;
+
+    /**
+     * Protected empty constructor for JPA.
+     */
+    protected WellBeingRollup() {
+    }
+
+    /**
+     * Getter for the composite primary key of the rollup.
+     * 
+     * @return The composite primary key of the rollup.
+     */
+    public WellBeingRollupId getId() {
+        return id;
+    }
+
+    /**
+     * Getter for the number of journal entries with the well-being within the
+     * bucket.
+     * 
+     * @return The number of journal entries.
+     */
+    public long getEntries() {
+        return entries;
+    }
+}
\ No newline at end of file
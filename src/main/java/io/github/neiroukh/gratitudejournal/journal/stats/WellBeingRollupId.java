@@ -0,0 +1,111 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Composite primary key of a {@link WellBeingRollup}: the journal, the bucket
+ * and the well-being that is counted.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Embeddable
+public class WellBeingRollupId implements Serializable {
+    /**
+     * The id of the journal.
+     */
+    private Long journalId;
+
+    /**
+     * The granularity of the bucket.
+     */
+    @Enumerated(EnumType.STRING)
+    private StatsGranularity granularity;
+
+    /**
+     * The first day of the bucket.
+     */
+    private LocalDate bucketStart;
+
+    /**
+     * The well-being that is counted.
+     */
+    @Enumerated(EnumType.STRING)
+    private JournalEntry.WellBeing wellBeing;
+
+    /**
+     * Protected empty constructor for JPA.
+     */
+    protected WellBeingRollupId() {
+    }
+
+    /**
+     * Getter for the id of the journal.
+     * 
+     * @return The id of the journal.
+     */
+    public Long getJournalId() {
+        return journalId;
+    }
+
+    /**
+     * Getter for the granularity of the bucket.
+     * 
+     * @return The granularity of the bucket.
+     */
+    public StatsGranularity getGranularity() {
+        return granularity;
+    }
+
+    /**
+     * Getter for the first day of the bucket.
+     * 
+     * @return The first day of the bucket.
+     */
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    /**
+     * Getter for the well-being that is counted.
+     * 
+     * @return The well-being that is counted.
+     */
+    public JournalEntry.WellBeing getWellBeing() {
+        return wellBeing;
+    }
+
+    /**
+     * Compares two keys based on all of their fields.
+     * 
+     * @param o The object to compare the key to.
+     * @return true if objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof WellBeingRollupId))
+            return false;
+        WellBeingRollupId id = (WellBeingRollupId) o;
+        return Objects.equals(this.journalId, id.journalId) && this.granularity == id.granularity
+                && Objects.equals(this.bucketStart, id.bucketStart) && this.wellBeing == id.wellBeing;
+    }
+
+    /**
+     * Generates the hash code of a key based on all of its fields.
+     * 
+     * @return The hash code of this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.journalId, this.granularity, this.bucketStart, this.wellBeing);
+    }
+}
\ No newline at end of file
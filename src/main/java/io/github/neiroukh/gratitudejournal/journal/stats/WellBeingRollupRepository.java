@@ -0,0 +1,39 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * JpaRepository for the WellBeingRollup Entity. Part of the persistence layer
+ * of the Journal-API.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface WellBeingRollupRepository extends JpaRepository<WellBeingRollup, WellBeingRollupId> {
+    /**
+     * Retrieves the non-empty rollups of a certain journal and granularity.
+     * Backed by the (journal_id, granularity, bucket_start) index, so no journal
+     * entry is read.
+     * 
+     * @param journalId   The id of the journal.
+     * @param granularity The granularity of the buckets.
+     * @return A list containing a {@link WellBeingCountDTO} object for every
+     *         well-being counted within a bucket, ordered by the start of the
+     *         bucket in descending order.
+     */
+    @Query("SELECT rollup.id.bucketStart, rollup.id.wellBeing, rollup.entries FROM WellBeingRollup rollup WHERE rollup.id.journalId = ?1 AND rollup.id.granularity = ?2 AND rollup.entries > 0 ORDER BY rollup.id.bucketStart DESC")
+    List<WellBeingCountDTO> getCountsByJournalId(Long journalId, StatsGranularity granularity);
+
+    /**
+     * Deletes all rollups of a certain journal with a single DELETE statement.
+     * 
+     * @param journalId The id of the journal.
+     * @return The number of deleted rollups.
+     */
+    @Modifying
+    @Query("DELETE FROM WellBeingRollup rollup WHERE rollup.id.journalId = ?1")
+    int deleteByJournalId(Long journalId);
+}
\ No newline at end of file
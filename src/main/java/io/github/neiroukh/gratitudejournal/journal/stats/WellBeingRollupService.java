@@ -0,0 +1,256 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * Service maintaining and reading the {@link WellBeingRollup} objects of the
+ * journals. Part of the service layer of the Journal-API.
+ * 
+ * Every write of a journal entry passes the change of its well-being to this
+ * service, which adds it to the counts of the weekly and the monthly bucket of
+ * the entry. All changes of a write are applied with a single multi-row upsert,
+ * which runs within the transaction of the write. The native statements name
+ * the tables they read and write, so they do not evict the unrelated regions
+ * of the second-level cache.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Service
+public class WellBeingRollupService {
+    /**
+     * Maximum number of rows upserted per statement.
+     */
+    private static final int MAX_UPSERT_ROWS = 500;
+
+    /**
+     * Beginning of the upsert adding changes to the counts of rollups. Uses a
+     * row alias, which requires MySQL 8.0.19 or newer.
+     */
+    private static final String UPSERT_PREFIX = "INSERT INTO well_being_rollup (journal_id, granularity, bucket_start, well_being, entries) VALUES ";
+
+    /**
+     * End of the upsert adding changes to the counts of rollups.
+     */
+    private static final String UPSERT_SUFFIX = " AS delta ON DUPLICATE KEY UPDATE entries = well_being_rollup.entries + delta.entries";
+
+    /**
+     * Statement recomputing the rollups of a journal for a granularity from its
+     * entries. The placeholder is replaced by the expression of the bucket start.
+     */
+    private static final String RECOMPUTE = "INSERT INTO well_being_rollup (journal_id, granularity, bucket_start, well_being, entries) SELECT ?1, ?2, %s AS bucket, well_being, COUNT(*) FROM journal_entry WHERE journal_id = ?1 AND well_being IS NOT NULL GROUP BY bucket, well_being";
+
+    /**
+     * A single count of a rollup to change.
+     * 
+     * @param granularity The granularity of the bucket.
+     * @param bucketStart The first day of the bucket.
+     * @param wellBeing   The well-being that is counted.
+     */
+    private record Bucket(StatsGranularity granularity, LocalDate bucketStart, JournalEntry.WellBeing wellBeing) {
+    }
+
+    private final WellBeingRollupRepository rollupRepository;
+
+    private final EntityManager entityManager;
+
+    /**
+     * WellBeingRollupService constructor.
+     * 
+     * @param rollupRepository WellBeingRollupRepository injected by Spring.
+     * @param entityManager    EntityManager injected by Spring. Used to execute
+     *                         the upserts, which are built per write.
+     */
+    public WellBeingRollupService(WellBeingRollupRepository rollupRepository, EntityManager entityManager) {
+        this.rollupRepository = rollupRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get the well-being statistics of a journal, read from its rollups.
+     * 
+     * @param journalId   The id of the journal.
+     * @param granularity The granularity of the buckets.
+     * @return The {@link WellBeingStatsDTO} object holding a bucket for every week
+     *         or month with at least one entry.
+     */
+    public WellBeingStatsDTO getStats(Long journalId, StatsGranularity granularity) {
+        Map<LocalDate, Map<JournalEntry.WellBeing, Long>> distributions = new LinkedHashMap<>();
+        for (WellBeingCountDTO count : rollupRepository.getCountsByJournalId(journalId, granularity))
+            distributions.computeIfAbsent(count.bucketStart(), start -> {
+                Map<JournalEntry.WellBeing, Long> distribution = new EnumMap<>(JournalEntry.WellBeing.class);
+                for (JournalEntry.WellBeing wellBeing : JournalEntry.WellBeing.values())
+                    distribution.put(wellBeing, 0L);
+                return distribution;
+            }).put(count.wellBeing(), count.entries());
+
+        List<WellBeingBucketDTO> buckets = new ArrayList<>(distributions.size());
+        distributions.forEach((start, distribution) -> {
+            long entries = 0;
+            long scoreSum = 0;
+            for (Map.Entry<JournalEntry.WellBeing, Long> count : distribution.entrySet()) {
+                entries += count.getValue();
+                scoreSum += count.getKey().getScore() * count.getValue();
+            }
+            buckets.add(new WellBeingBucketDTO(start, entries, (double) scoreSum / entries, distribution));
+        });
+        return new WellBeingStatsDTO(granularity, buckets);
+    }
+
+    /**
+     * Counts a new journal entry.
+     * 
+     * @param journalId The id of the journal of the entry.
+     * @param date      The date of the entry.
+     * @param wellBeing The well-being of the entry. Entries without well-being are
+     *                  not counted.
+     */
+    public void addEntry(Long journalId, LocalDate date, JournalEntry.WellBeing wellBeing) {
+        Map<Bucket, Long> deltas = new LinkedHashMap<>();
+        addDelta(deltas, date, wellBeing, 1);
+        apply(journalId, deltas);
+    }
+
+    /**
+     * Counts new journal entries, such as the entries of an import.
+     * 
+     * @param journalId The id of the journal of the entries.
+     * @param entries   The new entries. Entries without well-being are not counted.
+     */
+    public void addEntries(Long journalId, Collection<DatedJournalEntryDTO> entries) {
+        Map<Bucket, Long> deltas = new LinkedHashMap<>();
+        for (DatedJournalEntryDTO entry : entries)
+            addDelta(deltas, entry.date(), entry.wellBeing(), 1);
+        apply(journalId, deltas);
+    }
+
+    /**
+     * Moves a journal entry from the count of its previous well-being to the count
+     * of its new well-being. Nothing is written if the well-being did not change.
+     * 
+     * @param journalId    The id of the journal of the entry.
+     * @param date         The date of the entry.
+     * @param oldWellBeing The previous well-being of the entry.
+     * @param newWellBeing The new well-being of the entry.
+     */
+    public void changeEntry(Long journalId, LocalDate date, JournalEntry.WellBeing oldWellBeing,
+            JournalEntry.WellBeing newWellBeing) {
+        if (oldWellBeing == newWellBeing)
+            return;
+
+        Map<Bucket, Long> deltas = new LinkedHashMap<>();
+        addDelta(deltas, date, oldWellBeing, -1);
+        addDelta(deltas, date, newWellBeing, 1);
+        apply(journalId, deltas);
+    }
+
+    /**
+     * Removes a deleted journal entry from the counts.
+     * 
+     * @param journalId The id of the journal of the entry.
+     * @param date      The date of the entry.
+     * @param wellBeing The well-being of the entry.
+     */
+    public void removeEntry(Long journalId, LocalDate date, JournalEntry.WellBeing wellBeing) {
+        Map<Bucket, Long> deltas = new LinkedHashMap<>();
+        addDelta(deltas, date, wellBeing, -1);
+        apply(journalId, deltas);
+    }
+
+    /**
+     * Recomputes the rollups of a journal from its entries, replacing the existing
+     * rollups. Used to backfill the rollups of journals whose entries were written
+     * before the rollups were maintained. Every granularity is computed by a
+     * single grouping INSERT ... SELECT over the journal's entries. The
+     * statements are only synchronized on the rollups they write, so they do not
+     * evict the cached journal entries they read.
+     * 
+     * @param journalId The id of the journal.
+     */
+    @Transactional
+    public void recompute(Long journalId) {
+        rollupRepository.deleteByJournalId(journalId);
+        for (StatsGranularity granularity : StatsGranularity.values()) {
+            String bucketStart = switch (granularity) {
+                case WEEK -> "DATE_SUB(date, INTERVAL WEEKDAY(date) DAY)";
+                case MONTH -> "DATE_SUB(date, INTERVAL DAYOFMONTH(date) - 1 DAY)";
+            };
+            entityManager.createNativeQuery(RECOMPUTE.formatted(bucketStart))
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, "well_being_rollup")
+                    .setParameter(1, journalId)
+                    .setParameter(2, granularity.name())
+                    .executeUpdate();
+        }
+    }
+
+    /**
+     * Helper method to add the change of a well-being count on a date to the
+     * changes of every granularity.
+     * 
+     * @param deltas    The changes to add to.
+     * @param date      The date of the entry.
+     * @param wellBeing The well-being of the entry. Nothing is added if null.
+     * @param delta     The change of the count.
+     */
+    private static void addDelta(Map<Bucket, Long> deltas, LocalDate date, JournalEntry.WellBeing wellBeing,
+            long delta) {
+        if (wellBeing == null)
+            return;
+
+        for (StatsGranularity granularity : StatsGranularity.values())
+            deltas.merge(new Bucket(granularity, granularity.bucketStart(date), wellBeing), delta, Long::sum);
+    }
+
+    /**
+     * Helper method to apply changes to the counts of a journal's rollups with
+     * multi-row upserts of at most {@link #MAX_UPSERT_ROWS} rows.
+     * 
+     * @param journalId The id of the journal.
+     * @param deltas    The changes to apply.
+     */
+    private void apply(Long journalId, Map<Bucket, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        List<Map.Entry<Bucket, Long>> rows = new ArrayList<>(deltas.entrySet());
+
+        for (int from = 0; from < rows.size(); from += MAX_UPSERT_ROWS) {
+            List<Map.Entry<Bucket, Long>> chunk = rows.subList(from, Math.min(from + MAX_UPSERT_ROWS, rows.size()));
+
+            StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+            for (int i = 0; i < chunk.size(); i++) {
+                int p = i * 5;
+                sql.append(i == 0 ? "" : ", ").append("(?").append(p + 1).append(", ?").append(p + 2)
+                        .append(", ?").append(p + 3).append(", ?").append(p + 4).append(", ?").append(p + 5)
+                        .append(')');
+            }
+            sql.append(UPSERT_SUFFIX);
+
+            Query upsert = entityManager.createNativeQuery(sql.toString())
+                    .setHint(HibernateHints.HINT_NATIVE_SPACES, "well_being_rollup");
+            for (int i = 0; i < chunk.size(); i++) {
+                Bucket bucket = chunk.get(i).getKey();
+                int p = i * 5;
+                upsert.setParameter(p + 1, journalId)
+                        .setParameter(p + 2, bucket.granularity().name())
+                        .setParameter(p + 3, bucket.bucketStart())
+                        .setParameter(p + 4, bucket.wellBeing().name())
+                        .setParameter(p + 5, chunk.get(i).getValue());
+            }
+            upsert.executeUpdate();
+        }
+    }
+}
\ No newline at end of file
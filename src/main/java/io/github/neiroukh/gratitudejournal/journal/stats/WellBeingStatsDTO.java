@@ -0,0 +1,18 @@
+package io.github.neiroukh.gratitudejournal.journal.stats;
+
+import java.util.List;
+
+/**
+ * DTO returned to clients as JSON, holding the well-being statistics of a
+ * journal.
+ * 
+ * @param granularity The granularity of the buckets.
+ * @param buckets     The buckets holding at least one entry, ordered by date in
+ *                    descending order.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record WellBeingStatsDTO(
+        StatsGranularity granularity,
+        List<WellBeingBucketDTO> buckets) {
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package io.github.neiroukh.gratitudejournal.journal.streak;
+
+import java.time.LocalDate;
+
+/**
+ * DTO returned to clients as JSON, holding the journaling streaks of a journal.
+ * 
+ * @param currentStreak      The number of consecutive days with an entry up to
+ *                           today or yesterday. 0 if neither today nor yesterday
+ *                           has an entry.
+ * @param currentStreakStart The first day of the current streak. Null if the
+ *                           current streak is 0.
+ * @param lastEntryDate      The date of the newest entry. Null if the journal has
+ *                           no entries.
+ * @param longestStreak      The number of days of the longest streak.
+ * @param longestStreakStart The first day of the longest streak. Null if the
+ *                           journal has no entries.
+ * @param longestStreakEnd   The last day of the longest streak. Null if the
+ *                           journal has no entries.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record StreakDTO(
+        int currentStreak,
+        LocalDate currentStreakStart,
+        LocalDate lastEntryDate,
+        int longestStreak,
+        LocalDate longestStreakStart,
+        LocalDate longestStreakEnd) {
+
+    /**
+     * Creates the streaks of a journal from its streak state. The current streak
+     * is still running if the newest entry is from today or yesterday, as the
+     * entry of today may not be written yet.
+     * 
+     * @param state The streak state of the journal.
+     * @param today The current date.
+     * @return The {@link StreakDTO} object holding the streaks.
+     */
+    public static StreakDTO of(StreakStateDTO state, LocalDate today) {
+        LocalDate end = state.streakEnd();
+        boolean running = end != null && !end.isBefore(today.minusDays(1));
+        LocalDate longestEnd = state.longestStreakEnd();
+
+        return new StreakDTO(running ? state.streakLength() : 0,
+                running ? end.minusDays(state.streakLength() - 1) : null, end, state.longestStreak(),
+                longestEnd == null ? null : longestEnd.minusDays(state.longestStreak() - 1), longestEnd);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package io.github.neiroukh.gratitudejournal.journal.streak;
+
+import io.github.neiroukh.gratitudejournal.journal.JournalRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Service maintaining and reading the journaling streaks of the journals. Part
+ * of the service layer of the Journal-API.
+ * 
+ * The streak state is stored with the journal and updated within the
+ * transaction of every write that adds or removes entries, which also
+ * increments the version of the journal's entries. Adding the entry of today
+ * and most deletions are applied to the stored state without reading any
+ * entry. Imports, and deletions of an entry of the longest streak, recompute
+ * the state from the entries with a single query.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Service
+public class StreakService {
+    /**
+     * Query computing the current and the longest streak of a journal from its
+     * entries. The runs of consecutive days are grouped by subtracting the rank
+     * of every date from the date, which is the same for all days of a run. Reads
+     * the (journal_id, date) index in order and returns a row of kind 1 for the
+     * current and a row of kind 2 for the longest streak, or no rows if the
+     * journal has no entries.
+     */
+    private static final String COMPUTE = "WITH runs AS (SELECT MAX(date) AS run_end, COUNT(*) AS length FROM (SELECT date, DATE_SUB(date, INTERVAL ROW_NUMBER() OVER (ORDER BY date) DAY) AS run FROM journal_entry WHERE journal_id = ?1) dates GROUP BY run) (SELECT 1 AS kind, run_end, length FROM runs ORDER BY run_end DESC LIMIT 1) UNION ALL (SELECT 2 AS kind, run_end, length FROM runs ORDER BY length DESC, run_end LIMIT 1)";
+
+    private final JournalRepository journalRepository;
+
+    private final EntityManager entityManager;
+
+    /**
+     * StreakService constructor.
+     * 
+     * @param journalRepository JournalRepository injected by Spring.
+     * @param entityManager     EntityManager injected by Spring. Used to compute
+     *                          the streaks from the entries.
+     */
+    public StreakService(JournalRepository journalRepository, EntityManager entityManager) {
+        this.journalRepository = journalRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get the streaks of a journal, read from its streak state.
+     * 
+     * @param journalId The id of the journal.
+     * @return The {@link StreakDTO} object holding the current and the longest
+     *         streak.
+     */
+    public StreakDTO getStreak(Long journalId) {
+        return StreakDTO.of(journalRepository.findStreakById(journalId).orElse(StreakStateDTO.EMPTY),
+                LocalDate.now());
+    }
+
+    /**
+     * Extends the streak by the entry of today and increments the version of the
+     * journal's entries, with a single UPDATE.
+     * 
+     * @param journalId The id of the journal of the entry.
+     * @param today     The date of the entry, which must be the newest entry of
+     *                  the journal.
+     */
+    public void addEntryOfToday(Long journalId, LocalDate today) {
+        journalRepository.incrementEntriesVersionAndExtendStreak(journalId, today, today.minusDays(1));
+    }
+
+    /**
+     * Removes a deleted entry from the streak and increments the version of the
+     * journal's entries. The entry must have been deleted before. The streak
+     * state is locked, so concurrent writes of the journal are applied one after
+     * another.
+     * 
+     * @param journalId The id of the journal of the entry.
+     * @param date      The date of the deleted entry.
+     */
+    public void removeEntry(Long journalId, LocalDate date) {
+        StreakStateDTO state = journalRepository.lockStreakById(journalId).orElse(StreakStateDTO.EMPTY)
+                .withoutEntry(date);
+        write(journalId, state == null ? compute(journalId) : state);
+    }
+
+    /**
+     * Recomputes the streak state of a journal from its entries and increments the
+     * version of the journal's entries. Used after entries of previous days were
+     * imported, which may join runs anywhere in the journal, and to backfill the
+     * streaks of journals whose entries were written before the streaks were
+     * maintained.
+     * 
+     * @param journalId The id of the journal.
+     */
+    @Transactional
+    public void recompute(Long journalId) {
+        journalRepository.lockStreakById(journalId);
+        write(journalId, compute(journalId));
+    }
+
+    /**
+     * Helper method to compute the streak state of a journal from its entries.
+     * 
+     * @param journalId The id of the journal.
+     * @return The computed streak state.
+     */
+    private StreakStateDTO compute(Long journalId) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(COMPUTE)
+                .setParameter(1, journalId)
+                .unwrap(NativeQuery.class)
+                .addScalar("kind", Integer.class)
+                .addScalar("run_end", LocalDate.class)
+                .addScalar("length", Integer.class)
+                .getResultList();
+
+        StreakStateDTO state = StreakStateDTO.EMPTY;
+        for (Object[] row : rows)
+            state = (Integer) row[0] == 1
+                    ? new StreakStateDTO((LocalDate) row[1], (Integer) row[2], state.longestStreak(),
+                            state.longestStreakEnd())
+                    : new StreakStateDTO(state.streakEnd(), state.streakLength(), (Integer) row[2],
+                            (LocalDate) row[1]);
+        return state;
+    }
+
+    /**
+     * Helper method to store the streak state of a journal and increment the
+     * version of its entries.
+     * 
+     * @param journalId The id of the journal.
+     * @param state     The streak state to store.
+     */
+    private void write(Long journalId, StreakStateDTO state) {
+        journalRepository.incrementEntriesVersionAndSetStreak(journalId, state.streakEnd(), state.streakLength(),
+                state.longestStreak(), state.longestStreakEnd());
+    }
+}
\ No newline at end of file
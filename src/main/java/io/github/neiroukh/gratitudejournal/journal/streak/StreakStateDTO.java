@@ -0,0 +1,69 @@
+package io.github.neiroukh.gratitudejournal.journal.streak;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * DTO holding the streak state stored with a journal. The current streak is the
+ * run of consecutive days with an entry ending at the newest entry, the longest
+ * streak is the longest such run of the journal.
+ * 
+ * @param streakEnd        The date of the newest entry. Null if the journal has
+ *                         no entries.
+ * @param streakLength     The number of days of the current streak.
+ * @param longestStreak    The number of days of the longest streak.
+ * @param longestStreakEnd The last day of the longest streak. Null if the
+ *                         journal has no entries.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record StreakStateDTO(
+        LocalDate streakEnd,
+        int streakLength,
+        int longestStreak,
+        LocalDate longestStreakEnd) {
+
+    /**
+     * The streak state of a journal without entries.
+     */
+    public static final StreakStateDTO EMPTY = new StreakStateDTO(null, 0, 0, null);
+
+    /**
+     * Computes the streak state after the entry of a date was removed, without
+     * reading any other entry. If the entry was the last day of the current
+     * streak, the streak ends the day before. If it was within the current
+     * streak, the streak is split and the current streak starts the day after.
+     * 
+     * @param date The date of the removed entry.
+     * @return The streak state without the entry, or null if the state cannot be
+     *         derived and has to be recomputed from the entries. This is the case
+     *         if the entry was part of the longest streak, as the new longest
+     *         streak may be any other run, or if it was the only day of the
+     *         current streak, as the start of the previous run is not known.
+     */
+    StreakStateDTO withoutEntry(LocalDate date) {
+        if (contains(longestStreakEnd, longestStreak, date))
+            return null;
+        if (!contains(streakEnd, streakLength, date))
+            return this;
+
+        if (!date.equals(streakEnd))
+            return new StreakStateDTO(streakEnd, (int) ChronoUnit.DAYS.between(date, streakEnd), longestStreak,
+                    longestStreakEnd);
+        if (streakLength > 1)
+            return new StreakStateDTO(date.minusDays(1), streakLength - 1, longestStreak, longestStreakEnd);
+        return null;
+    }
+
+    /**
+     * Helper method to check if a date is within a run of days.
+     * 
+     * @param end    The last day of the run. May be null.
+     * @param length The number of days of the run.
+     * @param date   The date to check.
+     * @return True if the date is within the run.
+     */
+    private static boolean contains(LocalDate end, int length, LocalDate date) {
+        return end != null && !date.isAfter(end) && date.isAfter(end.minusDays(length));
+    }
+}
\ No newline at end of file
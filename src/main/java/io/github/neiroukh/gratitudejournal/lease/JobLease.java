@@ -0,0 +1,126 @@
+package io.github.neiroukh.gratitudejournal.lease;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * JPA-Entity to represent the lease of a background job, or of one range of a
+ * partitioned job, on one database.
+ * 
+ * A lease is held by one node until it expires. The holder renews it while the
+ * job runs, so the lease of a node that died expires and is taken over by
+ * another node. Every acquisition increments the fencing token, which the
+ * holder checks within the transactions of the job, see
+ * {@link Lease#fence()}. The lease is only read and written by native
+ * statements of the {@link JobLeaseRepository} using the clock of the
+ * database, so the clocks of the nodes do not matter.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Entity
+public class JobLease {
+    /**
+     * The name of the job, followed by the number of the range for partitioned
+     * jobs.
+     */
+    @Id
+    @Column(length = 128)
+    private String name;
+
+    /**
+     * The id of the node holding the lease, or null if it was released.
+     */
+    @Column(length = 64)
+    private String owner;
+
+    /**
+     * The fencing token, incremented on every acquisition.
+     */
+    @Column(nullable = false)
+    private long fencingToken;
+
+    /**
+     * The point in time the lease expires, in UTC.
+     */
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * The point in time the job last completed, in UTC, or null if it never did.
+     */
+    private Instant completedAt;
+
+    /**
+     * Protected empty constructor for JPA.
+     */
+    protected JobLease() {
+    }
+
+    /**
+     * Getter for the name of the lease.
+     * 
+     * @return The name of the lease.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for the id of the node holding the lease.
+     * 
+     * @return The id of the node holding the lease, or null if it was released.
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Getter for the fencing token of the lease.
+     * 
+     * @return The fencing token of the lease.
+     */
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * Compares two leases based on their primary keys.
+     * 
+     * @param o The object to compare the lease to.
+     * @return true if objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof JobLease))
+            return false;
+        JobLease lease = (JobLease) o;
+        return Objects.equals(this.name, lease.name);
+    }
+
+    /**
+     * Generates the hash code of a lease based on its primary key.
+     * 
+     * @return The hash code of this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name);
+    }
+
+    /**
+     * Provides a basic String representation of this object.
+     * 
+     * @return String representation of this object.
+     */
+    @Override
+    public String toString() {
+        return "JobLease{" + "name='" + this.name + '\'' + ", owner='" + this.owner + '\'' + ", fencingToken="
+                + this.fencingToken + '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package io.github.neiroukh.gratitudejournal.lease;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * JpaRepository for the JobLease Entity. All durations are passed in
+ * microseconds and added to the clock of the database. The statements name the
+ * table they write, so they do not evict the second-level cache.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+    /**
+     * Acquires an existing lease that is released or expired and whose job did
+     * not complete within a certain time, incrementing its fencing token.
+     * 
+     * @param name      The name of the lease.
+     * @param owner     The id of the acquiring node.
+     * @param duration  The duration of the lease.
+     * @param completed The time within which a completed job is not run again.
+     * @return 1 if the lease was acquired, 0 otherwise.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_lease"))
+    @Query(value = "UPDATE job_lease SET owner = ?2, fencing_token = fencing_token + 1, expires_at = UTC_TIMESTAMP(6) + INTERVAL ?3 MICROSECOND WHERE name = ?1 AND (owner IS NULL OR expires_at < UTC_TIMESTAMP(6)) AND (completed_at IS NULL OR completed_at < UTC_TIMESTAMP(6) - INTERVAL ?4 MICROSECOND)", nativeQuery = true)
+    int acquire(String name, String owner, long duration, long completed);
+
+    /**
+     * Creates and acquires a lease that does not exist yet.
+     * 
+     * @param name     The name of the lease.
+     * @param owner    The id of the acquiring node.
+     * @param duration The duration of the lease.
+     * @return 1 if the lease was created, 0 if it exists.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_lease"))
+    @Query(value = "INSERT IGNORE INTO job_lease (name, owner, fencing_token, expires_at) VALUES (?1, ?2, 1, UTC_TIMESTAMP(6) + INTERVAL ?3 MICROSECOND)", nativeQuery = true)
+    int create(String name, String owner, long duration);
+
+    /**
+     * Retrieves the fencing token of a lease.
+     * 
+     * @param name The name of the lease.
+     * @return The fencing token of the lease.
+     */
+    @Query(value = "SELECT fencing_token FROM job_lease WHERE name = ?1", nativeQuery = true)
+    long getFencingToken(String name);
+
+    /**
+     * Extends a lease that is still held with a certain fencing token.
+     * 
+     * @param name         The name of the lease.
+     * @param owner        The id of the holding node.
+     * @param fencingToken The fencing token of the holder.
+     * @param duration     The new duration of the lease, starting now.
+     * @return 1 if the lease was extended, 0 if it was lost.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_lease"))
+    @Query(value = "UPDATE job_lease SET expires_at = UTC_TIMESTAMP(6) + INTERVAL ?4 MICROSECOND WHERE name = ?1 AND owner = ?2 AND fencing_token = ?3 AND expires_at >= UTC_TIMESTAMP(6)", nativeQuery = true)
+    int renew(String name, String owner, long fencingToken, long duration);
+
+    /**
+     * Releases a lease that is held with a certain fencing token.
+     * 
+     * @param name         The name of the lease.
+     * @param owner        The id of the holding node.
+     * @param fencingToken The fencing token of the holder.
+     * @param completed    true if the job completed, false if it failed.
+     * @return 1 if the lease was released, 0 if it was lost.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_lease"))
+    @Query(value = "UPDATE job_lease SET owner = NULL, expires_at = UTC_TIMESTAMP(6), completed_at = IF(?4, UTC_TIMESTAMP(6), completed_at) WHERE name = ?1 AND owner = ?2 AND fencing_token = ?3", nativeQuery = true)
+    int release(String name, String owner, long fencingToken, boolean completed);
+
+    /**
+     * Checks that a lease is still held with a certain fencing token and locks it
+     * in share mode until the end of the current transaction, so the lease cannot
+     * be taken over before the transaction ends.
+     * 
+     * @param name         The name of the lease.
+     * @param owner        The id of the holding node.
+     * @param fencingToken The fencing token of the holder.
+     * @return 1 if the lease is held, 0 if it was lost.
+     */
+    @Query(value = "SELECT COUNT(*) FROM job_lease WHERE name = ?1 AND owner = ?2 AND fencing_token = ?3 AND expires_at >= UTC_TIMESTAMP(6) FOR SHARE", nativeQuery = true)
+    int lockIfHeld(String name, String owner, long fencingToken);
+}
\ No newline at end of file
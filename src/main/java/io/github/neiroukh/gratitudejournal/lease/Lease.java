@@ -0,0 +1,128 @@
+package io.github.neiroukh.gratitudejournal.lease;
+
+/**
+ * Lease of a job held by this node, passed to the job while it runs.
+ * 
+ * The lease is renewed in the background, but a node may still lose it, for
+ * example after a pause longer than the lease. A job therefore calls
+ * {@link #fence()} within every transaction that writes, which fails if the
+ * lease was lost and otherwise keeps other nodes from taking the lease over
+ * until the transaction ends. So no write of a node that lost its lease is
+ * committed after another node acquired it. Transactions calling
+ * {@link #fence()} block the renewal of the lease and have to be short.
+ * 
+ * @author Afeef Neiroukh
+ */
+public final class Lease {
+    private final JobLeaseRepository repository;
+
+    /**
+     * The name of the lease.
+     */
+    private final String name;
+
+    /**
+     * The id of this node.
+     */
+    private final String owner;
+
+    /**
+     * The fencing token of this acquisition.
+     */
+    private final long fencingToken;
+
+    /**
+     * The shard the lease is stored on.
+     */
+    private final int shard;
+
+    /**
+     * Whether the lease is known to be lost.
+     */
+    private volatile boolean lost;
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param repository   The repository of the leases.
+     * @param name         The name of the lease.
+     * @param owner        The id of this node.
+     * @param fencingToken The fencing token of this acquisition.
+     * @param shard        The shard the lease is stored on.
+     */
+    Lease(JobLeaseRepository repository, String name, String owner, long fencingToken, int shard) {
+        this.repository = repository;
+        this.name = name;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+        this.shard = shard;
+    }
+
+    /**
+     * Get the name of the lease.
+     * 
+     * @return The name of the lease.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the id of this node.
+     * 
+     * @return The id of this node.
+     */
+    String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Get the fencing token of this acquisition, which is greater than the
+     * tokens of all earlier acquisitions of the lease.
+     * 
+     * @return The fencing token.
+     */
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * Get the shard the lease is stored on.
+     * 
+     * @return The shard of the lease.
+     */
+    int getShard() {
+        return shard;
+    }
+
+    /**
+     * Check whether the lease is known to be lost, without querying the database.
+     * Long-running jobs stop early if it is.
+     * 
+     * @return true if the lease is known to be lost, false otherwise.
+     */
+    public boolean isLost() {
+        return lost;
+    }
+
+    /**
+     * Mark the lease as lost.
+     */
+    void markLost() {
+        lost = true;
+    }
+
+    /**
+     * Check that the lease is still held and keep it from being taken over until
+     * the end of the current transaction. Has to be called within a transaction
+     * on the shard of the lease.
+     * 
+     * @throws LeaseLostException The lease expired or was taken over.
+     */
+    public void fence() {
+        if (lost || repository.lockIfHeld(name, owner, fencingToken) == 0) {
+            lost = true;
+            throw new LeaseLostException(name, fencingToken);
+        }
+    }
+}
\ No newline at end of file
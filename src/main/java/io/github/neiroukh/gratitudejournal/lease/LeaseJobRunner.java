@@ -0,0 +1,251 @@
+package io.github.neiroukh.gratitudejournal.lease;
+
+import io.github.neiroukh.gratitudejournal.shard.ShardContext;
+import io.github.neiroukh.gratitudejournal.shard.ShardIds;
+import io.github.neiroukh.gratitudejournal.shard.ShardRing;
+import io.github.neiroukh.gratitudejournal.user.UserRepository;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Spring Component running background jobs on one node at a time, coordinated
+ * by leases stored in the databases, so jobs triggered on every node of the
+ * service run once.
+ * 
+ * A job runs once per shard under a lease stored on that shard. The lease is
+ * renewed every third of its duration while the job runs and released when it
+ * ends. If the node dies, the lease expires and the next node triggering the
+ * job takes it over with a greater fencing token, see {@link Lease}. A job
+ * that completed within its interval is skipped, so a job scheduled on every
+ * node with the same interval runs about once per interval.
+ * 
+ * Partitioned jobs are split into ranges of user ids of a fixed size. Every
+ * range has its own lease, so the nodes triggering the job claim different
+ * ranges and process them in parallel.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Component
+public class LeaseJobRunner implements DisposableBean {
+    /**
+     * Logger to log failed jobs and lost leases.
+     */
+    private static final Logger log = LoggerFactory.getLogger(LeaseJobRunner.class);
+
+    private final JobLeaseRepository repository;
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ShardRing shardRing;
+
+    /**
+     * The id of this node, stored as the owner of its leases.
+     */
+    private final String nodeId;
+
+    /**
+     * The duration of a lease without renewal.
+     */
+    private final Duration leaseDuration;
+
+    /**
+     * The number of user ids per range of a partitioned job.
+     */
+    private final long userRangeSize;
+
+    /**
+     * The thread renewing the held leases, independent of the threads running
+     * the jobs.
+     */
+    private final ScheduledExecutorService renewals = Executors
+            .newSingleThreadScheduledExecutor(Thread.ofPlatform().name("lease-renewal").daemon().factory());
+
+    /**
+     * Constructor of the LeaseJobRunner class.
+     * 
+     * @param repository          JobLeaseRepository injected by Spring.
+     * @param userRepository      UserRepository injected by Spring. Used to split
+     *                            partitioned jobs.
+     * @param transactionTemplate TransactionTemplate injected by Spring. Used to
+     *                            acquire, renew and release leases.
+     * @param shardRing           ShardRing injected by Spring.
+     * @param nodeId              The id of this node, or an empty String to
+     *                            generate a random one. Configured by the
+     *                            property "gratitudejournal.jobs.node-id".
+     * @param leaseDuration       The duration of a lease without renewal, after
+     *                            which the jobs of a dead node are taken over.
+     *                            Configured by the property
+     *                            "gratitudejournal.jobs.lease-duration".
+     * @param userRangeSize       The number of user ids per range of a
+     *                            partitioned job. Configured by the property
+     *                            "gratitudejournal.jobs.user-range-size".
+     */
+    public LeaseJobRunner(JobLeaseRepository repository, UserRepository userRepository,
+            TransactionTemplate transactionTemplate, ShardRing shardRing,
+            @Value("${gratitudejournal.jobs.node-id:}") String nodeId,
+            @Value("${gratitudejournal.jobs.lease-duration:30s}") Duration leaseDuration,
+            @Value("${gratitudejournal.jobs.user-range-size:10000}") long userRangeSize) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRing = shardRing;
+        this.nodeId = nodeId.isEmpty() ? UUID.randomUUID().toString() : nodeId;
+        this.leaseDuration = leaseDuration;
+        this.userRangeSize = userRangeSize;
+    }
+
+    /**
+     * Run a job on every shard whose lease is available and that did not complete
+     * within its interval, with the shard bound to the current thread.
+     * 
+     * @param jobName  The name of the job.
+     * @param interval The time within which a completed job is not run again.
+     * @param job      The job, called with the held lease.
+     */
+    public void runExclusively(String jobName, Duration interval, Consumer<Lease> job) {
+        shardRing.forEachShard(() -> runLeased(jobName, interval, job));
+    }
+
+    /**
+     * Run a job for every range of user ids on every shard whose lease is
+     * available and that did not complete within its interval, with the shard
+     * bound to the current thread. The ranges cover all user ids up to the
+     * greatest one on the shard.
+     * 
+     * @param jobName  The name of the job.
+     * @param interval The time within which a completed range is not run again.
+     * @param job      The job, called with the range of user ids and the held
+     *                 lease of the range.
+     */
+    public void runPartitioned(String jobName, Duration interval, BiConsumer<UserIdRange, Lease> job) {
+        shardRing.forEachShard(() -> {
+            long firstUserId = ShardIds.embed(ShardContext.current(), 0);
+            Long lastUserId = transactionTemplate.execute(status -> userRepository.getMaxUserId());
+            if (lastUserId == null)
+                return;
+
+            for (long range = 0; firstUserId + range * userRangeSize <= lastUserId; range++) {
+                long from = firstUserId + range * userRangeSize;
+                UserIdRange userIds = new UserIdRange(from, from + userRangeSize);
+                runLeased(jobName + "#" + range, interval, lease -> job.accept(userIds, lease));
+            }
+        });
+    }
+
+    /**
+     * Helper method to run a job under a lease of the shard bound to the current
+     * thread. Failures of the job are logged and release the lease without
+     * completing the job, so it is run again on the next trigger.
+     * 
+     * @param name     The name of the lease.
+     * @param interval The time within which a completed job is not run again.
+     * @param job      The job, called with the held lease.
+     */
+    private void runLeased(String name, Duration interval, Consumer<Lease> job) {
+        Lease lease = acquire(name, interval);
+        if (lease == null)
+            return;
+
+        long period = leaseDuration.toMillis() / 3;
+        ScheduledFuture<?> renewal = renewals.scheduleAtFixedRate(() -> renew(lease), period, period,
+                TimeUnit.MILLISECONDS);
+        boolean completed = false;
+        try {
+            job.accept(lease);
+            completed = !lease.isLost();
+        } catch (RuntimeException ex) {
+            log.error("Job " + name + " failed on shard " + lease.getShard(), ex);
+        } finally {
+            renewal.cancel(false);
+            release(lease, completed);
+        }
+    }
+
+    /**
+     * Helper method to acquire a lease on the shard bound to the current thread.
+     * 
+     * @param name     The name of the lease.
+     * @param interval The time within which a completed job is not run again.
+     * @return The acquired lease, or null if it is held by another node or the
+     *         job completed within the interval.
+     */
+    private Lease acquire(String name, Duration interval) {
+        return transactionTemplate.execute(status -> {
+            if (repository.acquire(name, nodeId, micros(leaseDuration), micros(interval)) == 0
+                    && repository.create(name, nodeId, micros(leaseDuration)) == 0)
+                return null;
+            return new Lease(repository, name, nodeId, repository.getFencingToken(name), ShardContext.current());
+        });
+    }
+
+    /**
+     * Helper method to renew a lease, marking it as lost if it expired or was
+     * taken over.
+     * 
+     * @param lease The lease to renew.
+     */
+    private void renew(Lease lease) {
+        if (lease.isLost())
+            return;
+        try {
+            Integer renewed = ShardContext.callOn(lease.getShard(), () -> transactionTemplate.execute(
+                    status -> repository.renew(lease.getName(), lease.getOwner(), lease.getFencingToken(),
+                            micros(leaseDuration))));
+            if (renewed == 0) {
+                lease.markLost();
+                log.warn("Lost the lease " + lease.getName() + " on shard " + lease.getShard());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not renew the lease " + lease.getName() + " on shard " + lease.getShard(), ex);
+        }
+    }
+
+    /**
+     * Helper method to release a lease.
+     * 
+     * @param lease     The lease to release.
+     * @param completed true if the job completed, false if it failed.
+     */
+    private void release(Lease lease, boolean completed) {
+        try {
+            ShardContext.runOn(lease.getShard(), () -> transactionTemplate.executeWithoutResult(status -> repository
+                    .release(lease.getName(), lease.getOwner(), lease.getFencingToken(), completed)));
+        } catch (RuntimeException ex) {
+            log.warn("Could not release the lease " + lease.getName() + ", it expires on its own", ex);
+        }
+    }
+
+    /**
+     * Helper method to convert a duration to microseconds.
+     * 
+     * @param duration The duration.
+     * @return The duration in microseconds.
+     */
+    private static long micros(Duration duration) {
+        return duration.toNanos() / 1000;
+    }
+
+    /**
+     * Stops the renewal of leases. Leases of running jobs expire on their own.
+     */
+    @Override
+    public void destroy() {
+        renewals.shutdownNow();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package io.github.neiroukh.gratitudejournal.lease;
+
+/**
+ * Exception thrown by {@link Lease#fence()} when the lease of a job expired or
+ * was taken over by another node, which rolls back the current transaction of
+ * the job.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class LeaseLostException extends RuntimeException {
+
+    /**
+     * Public constructor of the LeaseLostException class.
+     * 
+     * @param name         The name of the lost lease to mention in the Exception
+     *                     message.
+     * @param fencingToken The fencing token of the lost lease to mention in the
+     *                     Exception message.
+     */
+    public LeaseLostException(String name, long fencingToken) {
+        super("Lost the lease " + name + " with the fencing token " + fencingToken);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package io.github.neiroukh.gratitudejournal.lease;
+
+/**
+ * Record holding a range of user ids claimed by one node from a partitioned
+ * job.
+ * 
+ * @param from The first user id of the range, inclusive.
+ * @param to   The last user id of the range, exclusive.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record UserIdRange(long from, long to) {
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Configuration of the shard ring and of the binding of shards to the calls of
+ * methods with a {@link ShardKey} parameter. Always active: without the
+ * property "gratitudejournal.shards.urls" the ring has the single shard 0,
+ * which is the DataSource configured by Spring Boot.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Configuration(proxyBeanMethods = false)
+public class ShardConfiguration {
+    /**
+     * Default constructor.
+     */
+    ShardConfiguration() {
+    }
+
+    /**
+     * Bean creating the ring mapping user names to shards.
+     * 
+     * @param shardUrls    The JDBC URLs of the additional shards 1 to N.
+     *                     Configured by the property
+     *                     "gratitudejournal.shards.urls".
+     * @param virtualNodes The number of points of every shard on the ring.
+     *                     Configured by the property
+     *                     "gratitudejournal.shards.virtual-nodes".
+     * @return The ring of shard 0 and the additional shards.
+     */
+    @Bean
+    ShardRing shardRing(@Value("${gratitudejournal.shards.urls:}") List<String> shardUrls,
+            @Value("${gratitudejournal.shards.virtual-nodes:160}") int virtualNodes) {
+        return new ShardRing(shardUrls.size() + 1, virtualNodes);
+    }
+
+    /**
+     * Bean creating the advisor binding the shard of the {@link ShardKey}
+     * argument. Static, so it is created before the beans it advises.
+     * 
+     * @param shardRing The provider of the ring mapping user names to shards.
+     * @return The advisor.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static ShardKeyAdvisor shardKeyAdvisor(ObjectProvider<ShardRing> shardRing) {
+        return new ShardKeyAdvisor(shardRing);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * Holder of the shard bound to the current thread. Sessions opened while a
+ * shard is bound send all statements to that shard. Threads without a bound
+ * shard use shard 0.
+ * 
+ * Bindings are nested: binding a shard on a thread that already has one
+ * replaces it until the inner binding ends.
+ * 
+ * @author Afeef Neiroukh
+ */
+public final class ShardContext {
+    /**
+     * The shard bound to the current thread, or null if none is bound.
+     */
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Private constructor, the class only has static methods.
+     */
+    private ShardContext() {
+    }
+
+    /**
+     * Get the shard bound to the current thread.
+     * 
+     * @return The bound shard, or 0 if no shard is bound.
+     */
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? 0 : shard;
+    }
+
+    /**
+     * Check whether a shard is bound to the current thread.
+     * 
+     * @return true if a shard is bound, false otherwise.
+     */
+    public static boolean isBound() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Run a task with a shard bound to the current thread.
+     * 
+     * @param shard The shard to bind.
+     * @param task  The task to run.
+     */
+    public static void runOn(int shard, Runnable task) {
+        callOn(shard, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Call a task with a shard bound to the current thread.
+     * 
+     * @param <T>   The type of the result.
+     * @param shard The shard to bind.
+     * @param task  The task to call.
+     * @return The result of the task.
+     */
+    public static <T> T callOn(int shard, Supplier<T> task) {
+        Integer previous = bind(shard);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Bind a shard to the current thread.
+     * 
+     * @param shard The shard to bind.
+     * @return The previously bound shard, to be passed to
+     *         {@link #restore(Integer)}.
+     */
+    static Integer bind(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    /**
+     * Restore the binding replaced by {@link #bind(int)}.
+     * 
+     * @param previous The previously bound shard, or null if none was bound.
+     */
+    static void restore(Integer previous) {
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+
+    /**
+     * Get the Hibernate tenant identifier of a shard.
+     * 
+     * @param shard The shard.
+     * @return The tenant identifier of the shard.
+     */
+    public static String tenantOf(int shard) {
+        return Integer.toString(shard);
+    }
+
+    /**
+     * Get the shard of a Hibernate tenant identifier.
+     * 
+     * @param tenant The tenant identifier, or null for sessions without tenant.
+     * @return The shard of the tenant identifier, 0 if it is null.
+     */
+    public static int shardOf(String tenant) {
+        return tenant == null ? 0 : Integer.parseInt(tenant);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+/**
+ * Utility class embedding the shard in generated ids, so every entity can be
+ * routed by its id alone.
+ * 
+ * The shard is stored in the bits above the lowest {@value #SHARD_SHIFT} bits,
+ * which hold the value of the shard's sequence. Ids of shard 0 are equal to the
+ * sequence value, so ids generated before the database was sharded stay valid.
+ * All ids stay below 2^52 and are therefore represented exactly by JSON
+ * numbers in JavaScript clients.
+ * 
+ * @author Afeef Neiroukh
+ */
+public final class ShardIds {
+    /**
+     * The number of low bits holding the sequence value.
+     */
+    public static final int SHARD_SHIFT = 44;
+
+    /**
+     * The maximum number of shards that can be embedded.
+     */
+    public static final int MAX_SHARDS = 256;
+
+    /**
+     * Private constructor, the class only has static methods.
+     */
+    private ShardIds() {
+    }
+
+    /**
+     * Embed a shard in a sequence value.
+     * 
+     * @param shard The shard the id is generated on.
+     * @param value The value of the shard's sequence.
+     * @return The id carrying the shard.
+     * @throws IllegalStateException The value does not fit below the shard bits.
+     */
+    public static long embed(int shard, long value) {
+        if (value < 0 || value >= 1L << SHARD_SHIFT)
+            throw new IllegalStateException("The id space of shard " + shard + " is exhausted.");
+        return (long) shard << SHARD_SHIFT | value;
+    }
+
+    /**
+     * Extract the shard of an id. Ids that were not generated with a shard yield
+     * a shard of at least {@link #MAX_SHARDS}.
+     * 
+     * @param id The id.
+     * @return The shard the id was generated on.
+     */
+    public static int shardOf(long id) {
+        return id < 0 ? Integer.MAX_VALUE : (int) (id >>> SHARD_SHIFT);
+    }
+}
\ No newline at end of file
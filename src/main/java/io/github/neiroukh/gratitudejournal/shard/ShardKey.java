@@ -0,0 +1,25 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameter of a service method that determines the shard the method
+ * operates on. A user name is mapped to its shard by the {@link ShardRing}, an
+ * id generated by {@link io.github.neiroukh.gratitudejournal.id.PooledSequence}
+ * carries its shard itself, see {@link ShardIds}.
+ * 
+ * The shard is bound to the current thread by the {@link ShardKeyAdvisor}
+ * before any transaction of the method is started, so all statements of the
+ * method are sent to that shard.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ShardKey {
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+import java.lang.reflect.Method;
+
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+
+/**
+ * Advisor applying the {@link ShardKeyInterceptor} to every method with a
+ * {@link ShardKey} parameter. It is ordered ahead of the transaction and cache
+ * advisors, so the shard is bound before a transaction opens its session.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class ShardKeyAdvisor extends StaticMethodMatcherPointcutAdvisor {
+    /**
+     * Constructor of the class.
+     * 
+     * @param shardRing The provider of the ring mapping user names to shards.
+     */
+    public ShardKeyAdvisor(ObjectProvider<ShardRing> shardRing) {
+        super(new ShardKeyInterceptor(shardRing));
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    /**
+     * Check whether a method has a {@link ShardKey} parameter.
+     * 
+     * @param method      The method.
+     * @param targetClass The class of the target.
+     * @return true if the method has a {@link ShardKey} parameter, false
+     *         otherwise.
+     */
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return ShardKeyInterceptor.keyIndex(method) >= 0;
+    }
+}
\ No newline at end of file
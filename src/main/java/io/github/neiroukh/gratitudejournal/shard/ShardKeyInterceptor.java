@@ -0,0 +1,80 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Interceptor binding the shard of the {@link ShardKey} argument of a method to
+ * the current thread for the duration of the call. Calls on a thread that
+ * already has a bound shard keep it, so nested service calls and explicit
+ * bindings by {@link ShardContext#runOn(int, Runnable)} are not overridden.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class ShardKeyInterceptor implements MethodInterceptor {
+    /**
+     * Cache of the index of the {@link ShardKey} parameter of every intercepted
+     * method, or -1 if it has none.
+     */
+    private static final Map<Method, Integer> KEY_INDEXES = new ConcurrentHashMap<>();
+
+    /**
+     * The ring mapping user names to shards, resolved lazily as the interceptor
+     * is created before the other beans.
+     */
+    private final ObjectProvider<ShardRing> shardRing;
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param shardRing The provider of the ring mapping user names to shards.
+     */
+    public ShardKeyInterceptor(ObjectProvider<ShardRing> shardRing) {
+        this.shardRing = shardRing;
+    }
+
+    /**
+     * Get the index of the parameter of a method annotated with {@link ShardKey}.
+     * 
+     * @param method The method.
+     * @return The index of the annotated parameter, or -1 if no parameter is
+     *         annotated.
+     */
+    static int keyIndex(Method method) {
+        return KEY_INDEXES.computeIfAbsent(method, m -> {
+            for (int i = 0; i < m.getParameterCount(); i++)
+                if (m.getParameters()[i].isAnnotationPresent(ShardKey.class))
+                    return i;
+            return -1;
+        });
+    }
+
+    /**
+     * Binds the shard of the {@link ShardKey} argument and proceeds with the call.
+     * 
+     * @param invocation The intercepted call.
+     * @return The result of the call.
+     * @throws Throwable Thrown by the call.
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        int index = keyIndex(invocation.getMethod());
+        Object key = index < 0 ? null : invocation.getArguments()[index];
+        if (key == null || ShardContext.isBound())
+            return invocation.proceed();
+
+        ShardRing ring = shardRing.getObject();
+        int shard = key instanceof Number id ? ring.shardOfId(id.longValue()) : ring.shardOf(key.toString());
+        Integer previous = ShardContext.bind(shard);
+        try {
+            return invocation.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+}
\ No newline at end of file
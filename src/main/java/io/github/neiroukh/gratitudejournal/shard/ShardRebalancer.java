@@ -0,0 +1,157 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+import io.github.neiroukh.gratitudejournal.journal.JournalService;
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryRepository;
+import io.github.neiroukh.gratitudejournal.user.User;
+import io.github.neiroukh.gratitudejournal.user.UserRepository;
+import io.github.neiroukh.gratitudejournal.user.UserService;
+import io.github.neiroukh.gratitudejournal.user.dto.SimpleUserDTO;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Job moving every user whose user name no longer maps to the shard it is
+ * stored on, after shards were added, to its new shard on startup. Only active
+ * if the property "gratitudejournal.shards.rebalance" is true.
+ * 
+ * Every user is moved on its own: the user and its journal entries are read
+ * from the old shard, created on the new shard in one transaction, and the user
+ * is then deleted on the old shard, which purges its journal in the
+ * background. The moved entries get new ids on the new shard, so links to
+ * entries of moved users break. Requests for a user that was not moved yet are
+ * already routed to the new shard and do not find the user, so the job should
+ * run while the service does not take traffic. Users that were created on the
+ * new shard meanwhile are left untouched on both shards and logged.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Component
+@ConditionalOnProperty(name = "gratitudejournal.shards.rebalance", havingValue = "true")
+public class ShardRebalancer implements ApplicationRunner {
+    /**
+     * Number of user names read per query.
+     */
+    private static final int PAGE_SIZE = 500;
+
+    /**
+     * Logger to log the progress of the rebalancing.
+     */
+    private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    private final UserRepository userRepository;
+
+    private final JournalEntryRepository entryRepository;
+
+    private final UserService userService;
+
+    private final JournalService journalService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ShardRing shardRing;
+
+    /**
+     * Constructor of the ShardRebalancer class.
+     * 
+     * @param userRepository      UserRepository injected by Spring.
+     * @param entryRepository     JournalEntryRepository injected by Spring.
+     * @param userService         UserService injected by Spring.
+     * @param journalService      JournalService injected by Spring.
+     * @param transactionTemplate TransactionTemplate injected by Spring. Used to
+     *                            read and create every user in one transaction.
+     * @param shardRing           ShardRing injected by Spring.
+     */
+    public ShardRebalancer(UserRepository userRepository, JournalEntryRepository entryRepository,
+            UserService userService, JournalService journalService, TransactionTemplate transactionTemplate,
+            ShardRing shardRing) {
+        this.userRepository = userRepository;
+        this.entryRepository = entryRepository;
+        this.userService = userService;
+        this.journalService = journalService;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRing = shardRing;
+    }
+
+    /**
+     * Moves every user stored on another shard than the one of its user name.
+     * 
+     * @param args The arguments of the application.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        shardRing.forEachShard(this::rebalanceShard);
+    }
+
+    /**
+     * Moves the users of the shard bound to the current thread whose user names
+     * map to another shard.
+     */
+    private void rebalanceShard() {
+        int source = ShardContext.current();
+        long moved = 0;
+        String lastUserName = "";
+        List<String> userNames;
+        do {
+            userNames = userRepository.getUserNamesAfter(lastUserName, Limit.of(PAGE_SIZE));
+            for (String userName : userNames) {
+                int target = shardRing.shardOf(userName);
+                if (target != source && move(userName, source, target))
+                    moved++;
+            }
+            if (!userNames.isEmpty())
+                lastUserName = userNames.getLast();
+        } while (userNames.size() == PAGE_SIZE);
+
+        log.info("Moved " + moved + " users off shard " + source);
+    }
+
+    /**
+     * Moves a user and its journal entries from one shard to another.
+     * 
+     * @param userName The user name of the user to move.
+     * @param source   The shard the user is stored on.
+     * @param target   The shard of the user name.
+     * @return true if the user was moved, false if the user name is taken on the
+     *         target shard.
+     */
+    private boolean move(String userName, int source, int target) {
+        User user = transactionTemplate.execute(status -> userRepository.findByUserName(userName).orElse(null));
+        if (user == null)
+            return false;
+        List<DatedJournalEntryDTO> entries = transactionTemplate.execute(status -> {
+            try (Stream<DatedJournalEntryDTO> stream = entryRepository
+                    .streamEntriesByJournalId(user.getJournal().getJournalId())) {
+                return stream.toList();
+            }
+        });
+
+        boolean created = ShardContext.callOn(target, () -> transactionTemplate.execute(status -> {
+            if (userRepository.existsByUserName(userName))
+                return false;
+            userService.createUser(userName, new SimpleUserDTO(user.getFirstName(), user.getLastName()));
+            journalService.importEntries(userName, entries.iterator());
+            return true;
+        }));
+        if (!created) {
+            log.warn("User \"" + userName + "\" exists on shard " + source + " and shard " + target
+                    + " and was not moved");
+            return false;
+        }
+
+        userService.deleteUserByUserName(userName);
+        log.info("Moved user \"" + userName + "\" with " + entries.size() + " entries from shard " + source
+                + " to shard " + target);
+        return true;
+    }
+}
\ No newline at end of file
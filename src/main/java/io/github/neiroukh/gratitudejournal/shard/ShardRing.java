@@ -0,0 +1,141 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Consistent hash ring mapping user names to shards.
+ * 
+ * Every shard is placed on the ring at a number of pseudo-random points, its
+ * virtual nodes. A user name belongs to the shard of the first point at or
+ * after the hash of the name, wrapping around at the end of the ring. Adding a
+ * shard only moves the names that now fall on one of its points, about 1/N of
+ * all names, while all other names stay on their shard. The
+ * {@link ShardRebalancer} moves the affected users.
+ * 
+ * The placement of every user depends on the hash function, so it must never
+ * change for a deployed database.
+ * 
+ * @author Afeef Neiroukh
+ */
+public final class ShardRing {
+    /**
+     * The number of shards.
+     */
+    private final int shardCount;
+
+    /**
+     * The hashes of all points on the ring in ascending order.
+     */
+    private final long[] points;
+
+    /**
+     * The shards owning the points, in the order of {@link #points}.
+     */
+    private final int[] owners;
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param shardCount   The number of shards, numbered from 0.
+     * @param virtualNodes The number of points of every shard on the ring.
+     * @throws IllegalArgumentException The number of shards or virtual nodes is
+     *                                  invalid.
+     */
+    public ShardRing(int shardCount, int virtualNodes) {
+        if (shardCount < 1 || shardCount > ShardIds.MAX_SHARDS)
+            throw new IllegalArgumentException("The number of shards must be between 1 and " + ShardIds.MAX_SHARDS);
+        if (virtualNodes < 1)
+            throw new IllegalArgumentException("Every shard needs at least one virtual node");
+
+        this.shardCount = shardCount;
+        long[][] ring = new long[shardCount * virtualNodes][];
+        for (int shard = 0; shard < shardCount; shard++)
+            for (int node = 0; node < virtualNodes; node++)
+                ring[shard * virtualNodes + node] = new long[] { hash("shard-" + shard + "#" + node), shard };
+        Arrays.sort(ring, (a, b) -> a[0] != b[0] ? Long.compareUnsigned(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        this.points = new long[ring.length];
+        this.owners = new int[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            points[i] = ring[i][0];
+            owners[i] = (int) ring[i][1];
+        }
+    }
+
+    /**
+     * Get the number of shards.
+     * 
+     * @return The number of shards.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Get the shard a user name belongs to.
+     * 
+     * @param userName The user name.
+     * @return The shard of the user name.
+     */
+    public int shardOf(String userName) {
+        if (shardCount == 1)
+            return 0;
+
+        long hash = hash(userName);
+        int low = 0;
+        int high = points.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Long.compareUnsigned(points[middle], hash) < 0)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return owners[low == points.length ? 0 : low];
+    }
+
+    /**
+     * Get the shard an id was generated on. Ids of unknown shards, which can only
+     * be passed in by clients, are mapped to shard 0, where they are not found.
+     * 
+     * @param id The id.
+     * @return The shard of the id.
+     */
+    public int shardOfId(long id) {
+        int shard = ShardIds.shardOf(id);
+        return shard < shardCount ? shard : 0;
+    }
+
+    /**
+     * Run a task once for every shard, with the shard bound to the current
+     * thread.
+     * 
+     * @param task The task to run.
+     */
+    public void forEachShard(Runnable task) {
+        for (int shard = 0; shard < shardCount; shard++)
+            ShardContext.runOn(shard, task);
+    }
+
+    /**
+     * Hash a String to 64 bits with FNV-1a over its UTF-8 bytes, followed by the
+     * finalizer of MurmurHash3 to spread similar names over the ring.
+     * 
+     * @param value The String to hash.
+     * @return The hash of the String.
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
\ No newline at end of file
@@ -5,14 +5,20 @@ import io.github.neiroukh.gratitudejournal.user.exception.NameInvalidException;
 
 import java.util.Objects;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 
+import io.github.neiroukh.gratitudejournal.id.PooledSequence;
 import io.github.neiroukh.gratitudejournal.journal.Journal;
 
 /**
@@ -33,18 +39,39 @@ import io.github.neiroukh.gratitudejournal.journal.Journal;
  * User-API to avoid exposing or demanding irrelevant fields and improve the
  * separation of concerns.
  * 
+ * Deleting a user tombstones it first: the user is marked as deleted and is no
+ * longer found, while its journal is purged in the background by a
+ * {@link io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob}.
+ * 
+ * Users are held in the second-level cache, and the userName is their natural
+ * id, so a user is loaded by its userName from the cache without a query.
+ * 
  * @author Afeef Neiroukh
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 public class User {
     /**
-     * The private primary key of the user.
+     * Name of the second-level cache region holding users.
+     */
+    public static final String CACHE_REGION = "user";
+
+    /**
+     * Name of the second-level cache region mapping user names to user ids.
+     */
+    public static final String NATURAL_ID_CACHE_REGION = "user-natural-id";
+
+    /**
+     * The private primary key of the user. Allocated in blocks from the user_seq
+     * sequence.
      */
-    private @Id @GeneratedValue Long userId;
+    private @Id @PooledSequence(name = "user_seq") Long userId;
 
     /**
      * The private unique name of the user. Used in the API to identify users.
      */
+    @NaturalId
     @Column(unique = true, updatable = false)
     private String userName;
 
@@ -67,6 +94,14 @@ public class User {
     @JoinColumn(name = "journal_id", unique = true)
     private Journal journal;
 
+    /**
+     * The tombstone of the user. Set when the deletion of the user is requested,
+     * the row itself is deleted once its journal is purged.
+     */
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted;
+
     /**
      * Static method to validate if a given name is valid. A name is valid if it
      * fulfills the following conditions:
@@ -163,7 +198,7 @@ public class User {
      * according to {@link User#validateName(String)} before applying it.
      * 
      * @param userName The userName to validate and apply.
-     *
+     * 
      * @throws NameInvalidException userName is invalid.
      */
     private void setUserName(String userName) {
@@ -221,6 +256,15 @@ public class User {
         this.lastName = lastName;
     }
 
+    /**
+     * Returns whether the user is tombstoned.
+     * 
+     * @return True if the deletion of the user was requested.
+     */
+    public boolean isDeleted() {
+        return deleted;
+    }
+
     /**
      * Returns the journal of the user.
      * 
@@ -3,6 +3,8 @@ package io.github.neiroukh.gratitudejournal.user;
 import io.github.neiroukh.gratitudejournal.user.dto.SimpleUserDTO;
 import io.github.neiroukh.gratitudejournal.user.dto.ReturnUserDTO;
 import io.github.neiroukh.gratitudejournal.user.dto.ReturnUserDTOModelAssembler;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJobModelAssembler;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 
 /**
  * Rest-Controller exposing the User-API. Part of the presentation layer of the
@@ -36,16 +39,26 @@ public class UserController {
      */
     private final ReturnUserDTOModelAssembler returnUserDTOAssembler;
 
+    /**
+     * UserDeletionJobModelAssembler object injected by Spring. Used to add HAL
+     * links to responses.
+     */
+    private final UserDeletionJobModelAssembler deletionJobAssembler;
+
     /**
      * Constructor of the UserController class.
      * 
      * @param userService            UserService object injected by Spring.
      * @param returnUserDTOAssembler ReturnUserDTOModelAssembler object injected by
      *                               Spring. Used to add HAL links to responses.
+     * @param deletionJobAssembler   UserDeletionJobModelAssembler object injected
+     *                               by Spring. Used to add HAL links to responses.
      */
-    public UserController(UserService userService, ReturnUserDTOModelAssembler returnUserDTOAssembler) {
+    public UserController(UserService userService, ReturnUserDTOModelAssembler returnUserDTOAssembler,
+            UserDeletionJobModelAssembler deletionJobAssembler) {
         this.userService = userService;
         this.returnUserDTOAssembler = returnUserDTOAssembler;
+        this.deletionJobAssembler = deletionJobAssembler;
     }
 
     /**
@@ -81,16 +94,36 @@ public class UserController {
     }
 
     /**
-     * Deletes a user
+     * Deletes a user. The user is no longer found immediately, while its journal
+     * is purged in the background.
      * 
      * @param userName The user name of the User object to delete.
-     * @return Empty response (204 No Content).
+     * @return An {@code EntityModel<UserDeletionJob>} object containing the
+     *         created deletion job and a link to its status, the same link in the
+     *         Location header (202 Accepted).
      */
     @DeleteMapping("/user/{userName}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public ResponseEntity<Void> deleteUser(@PathVariable String userName) {
-        userService.deleteUserByUserName(userName);
-        return ResponseEntity.noContent().build();
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ResponseEntity<EntityModel<UserDeletionJob>> deleteUser(@PathVariable String userName) {
+        UserDeletionJob job = userService.deleteUserByUserName(userName);
+        EntityModel<UserDeletionJob> jobModel = deletionJobAssembler.toModel(job);
+
+        return ResponseEntity.accepted().location(jobModel.getRequiredLink(IanaLinkRelations.SELF).toUri())
+                .body(jobModel);
+    }
+
+    /**
+     * Retrieves the status of the deletion of a user.
+     * 
+     * @param jobId The id of the deletion job.
+     * @return An {@code EntityModel<UserDeletionJob>} object containing the
+     *         retrieved deletion job and links to valid actions (200 OK).
+     */
+    @GetMapping("/user/deletion/{jobId}")
+    public EntityModel<UserDeletionJob> getDeletionJob(@PathVariable Long jobId) {
+        UserDeletionJob job = userService.getDeletionJob(jobId);
+
+        return deletionJobAssembler.toModel(job);
     }
 
     /**
@@ -0,0 +1,27 @@
+package io.github.neiroukh.gratitudejournal.user;
+
+import java.util.Optional;
+
+/**
+ * Repository fragment of the {@link UserRepository} looking users up by their
+ * natural id, the userName. Part of the persistence layer of the User-API.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface UserNaturalIdRepository {
+    /**
+     * Searches the repository for a user matching the provided user name. Returns
+     * an {@code Optional<User>} object containing the user matching the provided
+     * user name or an empty {@code Optional<User>} object if no user is found.
+     * Tombstoned users are not found.
+     * 
+     * The user name is resolved to the userId and the user is loaded by both
+     * through the second-level cache, so a cached user is found without a query.
+     * 
+     * @param userName The user name of the requested user.
+     * @return An {@code Optional<User>} object containing the user matching the
+     *         provided user name or an empty {@code Optional<User>} object if no
+     *         user is found.
+     */
+    Optional<User> findByUserName(String userName);
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package io.github.neiroukh.gratitudejournal.user;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementation of the {@link UserNaturalIdRepository} fragment, loading users
+ * through the natural-id API of Hibernate. Part of the persistence layer of
+ * the User-API.
+ * 
+ * @author Afeef Neiroukh
+ */
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor of the UserNaturalIdRepositoryImpl class.
+     * 
+     * @param entityManager EntityManager injected by Spring.
+     */
+    UserNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<User> findByUserName(String userName) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(userName)
+                .filter(user -> !user.isDeleted());
+    }
+}
\ No newline at end of file
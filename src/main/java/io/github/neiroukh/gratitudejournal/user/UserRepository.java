@@ -1,25 +1,100 @@
 package io.github.neiroukh.gratitudejournal.user;
 
+import io.github.neiroukh.gratitudejournal.user.dto.UserIdsDTO;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * JpaRepository for the User Entity. Part of the persistence layer of the
- * User-API.
+ * User-API. Users are looked up by their user name through the
+ * {@link UserNaturalIdRepository} fragment.
  * 
  * @author Afeef Neiroukh
  */
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     /**
-     * Searches the repository for a user matching the provided user name. Returns
-     * an {@code Optional<User>} object containing the user matching the provided
-     * user name or an empty {@code Optional<User>} object if no user is found.
+     * Retrieves the ids of the user matching the provided user name and of its
+     * journal, without loading the user or its journal. Tombstoned users are not
+     * found.
      * 
      * @param userName The user name of the requested user.
-     * @return An {@code Optional<User>} object containing the user matching the
-     *         provided user name or an empty {@code Optional<User>} object if no
+     * @return An {@code Optional<UserIdsDTO>} object containing the ids of the user
+     *         and its journal or an empty {@code Optional<UserIdsDTO>} object if no
      *         user is found.
      */
-    Optional<User> findByUserName(String userName);
+    @Query("SELECT user.userId, user.journal.journalId FROM User user WHERE user.userName = ?1 AND user.deleted = false")
+    Optional<UserIdsDTO> findIdsByUserName(String userName);
+
+    /**
+     * Checks if a user name is used by a user, including tombstoned users whose
+     * deletion is not completed yet.
+     * 
+     * @param userName The user name to check.
+     * @return True if a user, tombstoned or not, has the user name.
+     */
+    boolean existsByUserName(String userName);
+
+    /**
+     * Tombstones a user by its primary key with a single UPDATE statement. A
+     * tombstoned user is no longer found by its user name, while its data is
+     * purged in the background.
+     * 
+     * @param userId The userId (primary key) of the user.
+     * @return The number of tombstoned users, 0 if the user does not exist or is
+     *         tombstoned already.
+     */
+    @Modifying
+    @Query("UPDATE User user SET user.deleted = true WHERE user.userId = ?1 AND user.deleted = false")
+    int tombstoneById(Long userId);
+
+    /**
+     * Deletes a user by its primary key with a single DELETE statement, without
+     * loading the user or cascading to its journal.
+     * 
+     * @param userId The userId (primary key) of the user.
+     * @return The number of deleted users.
+     */
+    @Modifying
+    @Query("DELETE FROM User user WHERE user.userId = ?1")
+    int deleteUserById(Long userId);
+
+    /**
+     * Retrieves the user names following a certain user name, ordered by user
+     * name, excluding tombstoned users. Used to process all users in pages.
+     * 
+     * @param userName The user name to retrieve the following user names of.
+     * @param limit    The maximum number of user names to retrieve.
+     * @return A list containing the greater user names in ascending order.
+     */
+    @Query("SELECT user.userName FROM User user WHERE user.deleted = false AND user.userName > ?1 ORDER BY user.userName")
+    List<String> getUserNamesAfter(String userName, Limit limit);
+
+    /**
+     * Retrieves the greatest userId, including tombstoned users. Used to split
+     * jobs into ranges of user ids.
+     * 
+     * @return The greatest userId, or null if there are no users.
+     */
+    @Query("SELECT MAX(user.userId) FROM User user")
+    Long getMaxUserId();
+
+    /**
+     * Retrieves the ids of the journals of the users within a range of user ids,
+     * including tombstoned users, following a certain journal id, ordered by
+     * journal id. Used to process the journals of a range of users in pages.
+     * 
+     * @param fromUserId The first user id of the range, inclusive.
+     * @param toUserId   The last user id of the range, exclusive.
+     * @param journalId  The journal id to retrieve the following ids of.
+     * @param limit      The maximum number of ids to retrieve.
+     * @return A list containing the ids of the journals, in ascending order.
+     */
+    @Query("SELECT user.journal.journalId FROM User user WHERE user.userId >= ?1 AND user.userId < ?2 AND user.journal.journalId > ?3 ORDER BY user.journal.journalId")
+    List<Long> getJournalIdsByUserIds(Long fromUserId, Long toUserId, Long journalId, Limit limit);
 }
\ No newline at end of file
@@ -1,9 +1,20 @@
 package io.github.neiroukh.gratitudejournal.user;
 
+import io.github.neiroukh.gratitudejournal.cache.CacheInvalidationPublisher;
+import io.github.neiroukh.gratitudejournal.shard.ShardKey;
 import io.github.neiroukh.gratitudejournal.user.dto.SimpleUserDTO;
-
+import io.github.neiroukh.gratitudejournal.user.dto.UserIdsDTO;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJobRepository;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionRequestedEvent;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.github.neiroukh.gratitudejournal.user.exception.DeletionJobNotFoundException;
 import io.github.neiroukh.gratitudejournal.user.exception.NameInvalidException;
 import io.github.neiroukh.gratitudejournal.user.exception.UserNameTakenException;
 import io.github.neiroukh.gratitudejournal.user.exception.UserNotFoundException;
@@ -12,20 +23,54 @@ import io.github.neiroukh.gratitudejournal.user.exception.UserNotFoundException;
  * Service providing operations on User entities and enforcing business logic.
  * Part of the service layer of the User-API.
  * 
+ * Operations that only read run in read-only transactions, which are served by
+ * the read replica if one is configured.
+ * 
+ * Every operation runs on the shard of the user name or job id annotated with
+ * {@link ShardKey}.
+ * 
+ * Every write publishes the invalidation of the cached values it changes to
+ * the other nodes of the service.
+ * 
  * @author Afeef Neiroukh
  */
 @Service
 public class UserService {
+    /**
+     * Name of the cache mapping user names to
+     * {@link io.github.neiroukh.gratitudejournal.user.dto.UserIdsDTO} objects.
+     */
+    public static final String USER_IDS_CACHE = "userIds";
+
     private final UserRepository repository;
 
+    private final UserDeletionJobRepository deletionJobRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final CacheInvalidationPublisher invalidationPublisher;
+
     /**
      * UserService constructor.
      * 
-     * @param repository UserRepository to apply changes to. Is injected by the
-     *                   Spring framework.
+     * @param repository            UserRepository to apply changes to. Is
+     *                              injected by the Spring framework.
+     * @param deletionJobRepository UserDeletionJobRepository to record user
+     *                              deletions in. Is injected by the Spring
+     *                              framework.
+     * @param eventPublisher        ApplicationEventPublisher to start the purge of
+     *                              deleted users with. Is injected by the Spring
+     *                              framework.
+     * @param invalidationPublisher CacheInvalidationPublisher to publish the
+     *                              invalidations of changed users with. Is
+     *                              injected by the Spring framework.
      */
-    public UserService(UserRepository repository) {
+    public UserService(UserRepository repository, UserDeletionJobRepository deletionJobRepository,
+            ApplicationEventPublisher eventPublisher, CacheInvalidationPublisher invalidationPublisher) {
         this.repository = repository;
+        this.deletionJobRepository = deletionJobRepository;
+        this.eventPublisher = eventPublisher;
+        this.invalidationPublisher = invalidationPublisher;
     }
 
     /**
@@ -64,7 +109,8 @@ public class UserService {
      * @throws UserNotFoundException No user with the provided userName could be
      *                               found.
      */
-    public User getUserByUserName(String userName) {
+    @Transactional(readOnly = true)
+    public User getUserByUserName(@ShardKey String userName) {
         validateName(userName);
 
         User user = repository.findByUserName(userName)
@@ -73,24 +119,80 @@ public class UserService {
         return user;
     }
 
+    /**
+     * Get the ids of a user and its journal by the user's userName. Only the ids
+     * are queried, the user and its journal are not loaded.
+     * 
+     * Results are kept in the bounded {@link #USER_IDS_CACHE} cache, as the ids of
+     * a user never change. Entries are evicted when the deletion or creation of
+     * the user is committed, after a configurable time and when the cache is
+     * full.
+     * 
+     * @param userName The unique user name of the requested user.
+     * @return The {@link io.github.neiroukh.gratitudejournal.user.dto.UserIdsDTO}
+     *         object containing the ids of the user and its journal.
+     * @throws NameInvalidException  Provided name is invalid.
+     * @throws UserNotFoundException No user with the provided userName could be
+     *                               found.
+     */
+    @Cacheable(cacheNames = USER_IDS_CACHE)
+    public UserIdsDTO getUserIdsByUserName(@ShardKey String userName) {
+        validateName(userName);
+
+        return repository.findIdsByUserName(userName)
+                .orElseThrow(() -> new UserNotFoundException(userName));
+    }
+
     /**
      * Delete a user by its userName.
      * 
+     * The user is tombstoned immediately, so it is no longer found, and a
+     * {@link io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob} is
+     * created. The journal of the user is purged in the background in bounded
+     * batches once the transaction is committed. The user name stays taken until
+     * the job is completed.
+     * 
      * @param userName The unique user name of the user to delete.
+     * @return The created
+     *         {@link io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob}
+     *         object.
      * @throws NameInvalidException  Provided name is invalid.
      * @throws UserNotFoundException No user with the provided userName could be
      *                               found.
      * 
      */
-    public void deleteUserByUserName(String userName) {
+    @Transactional
+    @CacheEvict(cacheNames = USER_IDS_CACHE, key = "#userName")
+    public UserDeletionJob deleteUserByUserName(@ShardKey String userName) {
         validateName(userName);
 
-        repository.findByUserName(userName)
-                .ifPresentOrElse(
-                        foundUser -> repository.deleteById(foundUser.getUserId()),
-                        () -> {
-                            throw new UserNotFoundException(userName);
-                        });
+        UserIdsDTO userIds = repository.findIdsByUserName(userName)
+                .orElseThrow(() -> new UserNotFoundException(userName));
+        if (repository.tombstoneById(userIds.userId()) == 0)
+            throw new UserNotFoundException(userName);
+        invalidationPublisher.evictCache(USER_IDS_CACHE, userName);
+        invalidationPublisher.evictEntity(User.class, userIds.userId());
+
+        UserDeletionJob job = deletionJobRepository
+                .save(new UserDeletionJob(userName, userIds.userId(), userIds.journalId()));
+        eventPublisher.publishEvent(new UserDeletionRequestedEvent(job.getJobId()));
+        return job;
+    }
+
+    /**
+     * Get the deletion job of a user by its id.
+     * 
+     * @param jobId The id of the requested deletion job.
+     * @return The
+     *         {@link io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob}
+     *         object matching the provided id.
+     * @throws DeletionJobNotFoundException No deletion job with the provided id
+     *                                      could be found.
+     */
+    @Transactional(readOnly = true)
+    public UserDeletionJob getDeletionJob(@ShardKey Long jobId) {
+        return deletionJobRepository.findById(jobId)
+                .orElseThrow(() -> new DeletionJobNotFoundException(jobId));
     }
 
     /**
@@ -105,13 +207,15 @@ public class UserService {
      * @throws UserNotFoundException No user with the provided userName could be
      *                               found.
      */
-    public User updateUser(String userName, SimpleUserDTO simpleUserDTO) {
+    @Transactional
+    public User updateUser(@ShardKey String userName, SimpleUserDTO simpleUserDTO) {
         validateName(userName, simpleUserDTO);
 
         return repository.findByUserName(userName)
                 .map(foundUser -> {
                     foundUser.setFirstName(simpleUserDTO.firstName());
                     foundUser.setLastName(simpleUserDTO.lastName());
+                    invalidationPublisher.evictEntity(User.class, foundUser.getUserId());
                     return repository.save(foundUser);
                 })
                 .orElseThrow(() -> new UserNotFoundException(userName));
@@ -128,27 +232,18 @@ public class UserService {
      * @throws NameInvalidException   At least one of the provided names are
      *                                invalid.
      * @throws UserNameTakenException A User object matching the provided user name
-     *                                already exists.
+     *                                already exists or is still being deleted.
      */
-    public User createUser(String userName, SimpleUserDTO simpleUserDTO) {
+    @Transactional
+    @CacheEvict(cacheNames = USER_IDS_CACHE, key = "#userName")
+    public User createUser(@ShardKey String userName, SimpleUserDTO simpleUserDTO) {
         validateName(userName, simpleUserDTO);
 
-        if (repository.findByUserName(userName).isPresent())
+        if (repository.existsByUserName(userName))
             throw new UserNameTakenException(userName);
 
-        User user = new User(userName, simpleUserDTO.firstName(), simpleUserDTO.lastName());
-        return repository.save(user);
-    }
-
-    /**
-     * Save the User object matching the user name to the repository.
-     * 
-     * @param userName The unique user name of the user to save to the repository.
-     * @return The saved User object.
-     */
-    public User saveUser(String userName) {
-        validateName(userName);
-
-        return repository.save(getUserByUserName(userName));
+        User user = repository.save(new User(userName, simpleUserDTO.firstName(), simpleUserDTO.lastName()));
+        invalidationPublisher.evictCache(USER_IDS_CACHE, userName);
+        return user;
     }
 }
\ No newline at end of file
@@ -0,0 +1,229 @@
+package io.github.neiroukh.gratitudejournal.user.deletion;
+
+import io.github.neiroukh.gratitudejournal.id.PooledSequence;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * JPA-Entity to represent the deletion of a user in the GratitudeJournal
+ * Service. Part of the persistence layer of the User-API.
+ * 
+ * Deleting a user tombstones it immediately and creates a deletion job. The
+ * entries of the user's journal are then purged in the background in bounded
+ * batches, followed by the journal and the user itself. The job records the
+ * progress of the purge and is exposed to clients as the status of the
+ * deletion. Jobs that are not completed, for example because the service
+ * stopped during a purge, are resumed on startup.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Entity
+@Table(indexes = { @Index(name = "idx_user_deletion_job_status", columnList = "status") })
+public class UserDeletionJob {
+    /**
+     * The primary key of the deletion job. Allocated in blocks from the
+     * user_deletion_job_seq sequence.
+     */
+    @Id
+    @PooledSequence(name = "user_deletion_job_seq")
+    private Long jobId;
+
+    /**
+     * Enum containing the possible states of a deletion job.
+     */
+    public enum Status {
+        /** The user is tombstoned and its data is being purged. */
+        PENDING,
+        /** The user and all of its data are deleted. */
+        COMPLETED
+    }
+
+    /**
+     * The user name of the deleted user. Released for new users once the job is
+     * completed.
+     */
+    @Column(updatable = false)
+    private String userName;
+
+    /**
+     * The userId (primary key) of the deleted user.
+     */
+    @Column(updatable = false)
+    private Long userId;
+
+    /**
+     * The journalId (primary key) of the deleted user's journal.
+     */
+    @Column(updatable = false)
+    private Long journalId;
+
+    /**
+     * The state of the deletion job.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    /**
+     * The number of journal entries purged so far.
+     */
+    @Column(nullable = false)
+    private long deletedEntries;
+
+    /**
+     * The point in time the deletion was requested.
+     */
+    @Column(updatable = false)
+    private Instant requestedAt;
+
+    /**
+     * The point in time the deletion was completed, null while the job is pending.
+     */
+    private Instant completedAt;
+
+    /**
+     * Protected empty constructor for JPA.
+     */
+    protected UserDeletionJob() {
+    }
+
+    /**
+     * Constructs a pending deletion job for a user.
+     * 
+     * @param userName  The user name of the deleted user.
+     * @param userId    The userId (primary key) of the deleted user.
+     * @param journalId The journalId (primary key) of the deleted user's journal.
+     */
+    public UserDeletionJob(String userName, Long userId, Long journalId) {
+        this.userName = userName;
+        this.userId = userId;
+        this.journalId = journalId;
+        this.status = Status.PENDING;
+        this.requestedAt = Instant.now();
+    }
+
+    /**
+     * Getter for the jobId (primary key) of the deletion job.
+     * 
+     * @return The jobId (primary key) of the deletion job.
+     */
+    public Long getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Getter for the user name of the deleted user.
+     * 
+     * @return The user name of the deleted user.
+     */
+    public String getUserName() {
+        return userName;
+    }
+
+    /**
+     * Getter for the userId of the deleted user. Internal to the purge and not
+     * serialized.
+     * 
+     * @return The userId (primary key) of the deleted user.
+     */
+    @JsonIgnore
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Getter for the journalId of the deleted user's journal. Internal to the
+     * purge and not serialized.
+     * 
+     * @return The journalId (primary key) of the deleted user's journal.
+     */
+    @JsonIgnore
+    public Long getJournalId() {
+        return journalId;
+    }
+
+    /**
+     * Getter for the state of the deletion job.
+     * 
+     * @return The state of the deletion job.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Getter for the number of journal entries purged so far.
+     * 
+     * @return The number of journal entries purged so far.
+     */
+    public long getDeletedEntries() {
+        return deletedEntries;
+    }
+
+    /**
+     * Getter for the point in time the deletion was requested.
+     * 
+     * @return The point in time the deletion was requested.
+     */
+    public Instant getRequestedAt() {
+        return requestedAt;
+    }
+
+    /**
+     * Getter for the point in time the deletion was completed.
+     * 
+     * @return The point in time the deletion was completed, null while the job is
+     *         pending.
+     */
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    /**
+     * Compares two deletion jobs based on their primary keys.
+     * 
+     * @param o The object to compare the deletion job to.
+     * @return true if objects are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof UserDeletionJob))
+            return false;
+        UserDeletionJob job = (UserDeletionJob) o;
+        return Objects.equals(this.jobId, job.jobId);
+    }
+
+    /**
+     * Generates the hash code of a deletion job based on its primary key.
+     * 
+     * @return The hash code of this object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.jobId);
+    }
+
+    /**
+     * Provides a basic String representation of this object.
+     * 
+     * @return String representation of this object.
+     */
+    @Override
+    public String toString() {
+        return "UserDeletionJob{" + "jobId=" + this.jobId + ", userName='" + this.userName + '\'' + ", status="
+                + this.status + ", deletedEntries=" + this.deletedEntries + '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package io.github.neiroukh.gratitudejournal.user.deletion;
+
+import io.github.neiroukh.gratitudejournal.hal.LinkStrategy;
+import io.github.neiroukh.gratitudejournal.hal.LinkTemplate;
+import io.github.neiroukh.gratitudejournal.user.UserController;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Component to create an EntityModel for a {@link UserDeletionJob}
+ * object. Used to add HAL-Support to {@link UserDeletionJob} responses.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Component
+public class UserDeletionJobModelAssembler
+        implements RepresentationModelAssembler<UserDeletionJob, EntityModel<UserDeletionJob>> {
+
+    /**
+     * Template of the GET-Request of a deletion job.
+     */
+    private static final LinkTemplate GET_DELETION_JOB = LinkTemplate.of(UserController.class, "getDeletionJob",
+            Long.class);
+
+    /**
+     * The strategy used to create links.
+     */
+    private final LinkStrategy linkStrategy;
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param linkStrategy The strategy used to create links. Configured by the
+     *                     property "gratitudejournal.hal.link-strategy".
+     */
+    UserDeletionJobModelAssembler(
+            @Value("${gratitudejournal.hal.link-strategy:TEMPLATE}") LinkStrategy linkStrategy) {
+        this.linkStrategy = linkStrategy;
+    }
+
+    /**
+     * Returns the {@link UserDeletionJob} object and the following links in the
+     * "_links" property:
+     * <ul>
+     * <li>"self", points to the GET-Request of the deletion job</li>
+     * </ul>
+     * 
+     * @param job The {@link UserDeletionJob} object to wrap in an EntityModel
+     *            object and add links to.
+     * @return An {@code EntityModel<UserDeletionJob>} object containing the
+     *         {@link UserDeletionJob} object with links to possible operations on
+     *         it.
+     */
+    @Override
+    public EntityModel<UserDeletionJob> toModel(UserDeletionJob job) {
+        if (linkStrategy == LinkStrategy.TEMPLATE)
+            return EntityModel.of(job, GET_DELETION_JOB.toLink(IanaLinkRelations.SELF, job.getJobId()));
+
+        return EntityModel.of(job,
+                linkTo(methodOn(UserController.class).getDeletionJob(job.getJobId())).withSelfRel());
+    }
+}
\ No newline at end of file
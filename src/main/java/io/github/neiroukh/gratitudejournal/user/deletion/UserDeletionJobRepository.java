@@ -0,0 +1,60 @@
+package io.github.neiroukh.gratitudejournal.user.deletion;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * JpaRepository for the UserDeletionJob Entity. Part of the persistence layer
+ * of the User-API.
+ * 
+ * @author Afeef Neiroukh
+ */
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, Long> {
+    /**
+     * Retrieves the ids of all deletion jobs in a certain state.
+     * 
+     * @param status The state of the deletion jobs.
+     * @return A list containing the id of every deletion job in the state.
+     */
+    @Query("SELECT job.jobId FROM UserDeletionJob job WHERE job.status = ?1")
+    List<Long> findIdsByStatus(UserDeletionJob.Status status);
+
+    /**
+     * Retrieves the ids of all deletion jobs in a certain state that were
+     * requested before a point in time.
+     * 
+     * @param status          The state of the deletion jobs.
+     * @param requestedBefore The point in time the deletion jobs were requested
+     *                        before.
+     * @return A list containing the id of every matching deletion job.
+     */
+    @Query("SELECT job.jobId FROM UserDeletionJob job WHERE job.status = ?1 AND job.requestedAt < ?2")
+    List<Long> findIdsByStatusRequestedBefore(UserDeletionJob.Status status, Instant requestedBefore);
+
+    /**
+     * Adds a number of purged journal entries to the progress of a deletion job.
+     * 
+     * @param jobId          The id of the deletion job.
+     * @param deletedEntries The number of journal entries purged.
+     * @return The number of updated deletion jobs.
+     */
+    @Modifying
+    @Query("UPDATE UserDeletionJob job SET job.deletedEntries = job.deletedEntries + ?2 WHERE job.jobId = ?1")
+    int addDeletedEntries(Long jobId, long deletedEntries);
+
+    /**
+     * Changes the state of a deletion job.
+     * 
+     * @param jobId       The id of the deletion job.
+     * @param status      The new state of the deletion job.
+     * @param completedAt The point in time the deletion was completed, or null.
+     * @return The number of updated deletion jobs.
+     */
+    @Modifying
+    @Query("UPDATE UserDeletionJob job SET job.status = ?2, job.completedAt = ?3 WHERE job.jobId = ?1")
+    int updateStatus(Long jobId, UserDeletionJob.Status status, Instant completedAt);
+}
\ No newline at end of file
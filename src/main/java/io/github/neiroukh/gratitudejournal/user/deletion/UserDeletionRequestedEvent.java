@@ -0,0 +1,14 @@
+package io.github.neiroukh.gratitudejournal.user.deletion;
+
+/**
+ * Event published when a user is tombstoned and its deletion job is created.
+ * The purge starts once the publishing transaction is committed.
+ * 
+ * @param jobId The id of the created
+ *              {@link io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob}.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record UserDeletionRequestedEvent(
+        Long jobId) {
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package io.github.neiroukh.gratitudejournal.user.deletion;
+
+import io.github.neiroukh.gratitudejournal.cache.CacheInvalidationPublisher;
+import io.github.neiroukh.gratitudejournal.journal.JournalRepository;
+import io.github.neiroukh.gratitudejournal.journal.calendar.JournalCalendarRepository;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryRepository;
+import io.github.neiroukh.gratitudejournal.journal.stats.WellBeingRollupRepository;
+import io.github.neiroukh.gratitudejournal.lease.Lease;
+import io.github.neiroukh.gratitudejournal.lease.LeaseJobRunner;
+import io.github.neiroukh.gratitudejournal.shard.ShardContext;
+import io.github.neiroukh.gratitudejournal.shard.ShardRing;
+import io.github.neiroukh.gratitudejournal.user.User;
+import io.github.neiroukh.gratitudejournal.user.UserRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Spring Component purging the data of deleted users in the background. Part
+ * of the service layer of the User-API.
+ * 
+ * The entries of the user's journal are deleted in batches of a configurable
+ * size, each in its own short transaction, so no long-running transaction
+ * holds locks on the journal. Once the journal is empty, the journal's
+ * well-being rollups and calendars, the journal and the tombstoned user are
+ * deleted and the job is completed. Every step is idempotent, so an
+ * interrupted purge is simply started again. A purge runs on the shard the
+ * job was created on, which is embedded in the job id. As the entries are
+ * deleted in bulk, the other nodes are told to evict all cached entries, the
+ * cached listings and, as the user name may be taken again, all cached users.
+ * 
+ * Jobs whose purge failed or was interrupted by a shutdown are retried by a
+ * periodic sweep, which one node per shard runs under a lease.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Component
+public class UserDeletionWorker {
+    /**
+     * Logger to log the progress of purges.
+     */
+    private static final Logger log = LoggerFactory.getLogger(UserDeletionWorker.class);
+
+    private final UserDeletionJobRepository jobRepository;
+
+    private final UserRepository userRepository;
+
+    private final JournalRepository journalRepository;
+
+    private final JournalEntryRepository entryRepository;
+
+    private final WellBeingRollupRepository rollupRepository;
+
+    private final JournalCalendarRepository calendarRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ShardRing shardRing;
+
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final LeaseJobRunner jobRunner;
+
+    /**
+     * The maximum number of journal entries deleted per transaction.
+     */
+    private final int batchSize;
+
+    /**
+     * The interval of the sweeps and the age of the jobs they retry.
+     */
+    private final Duration retryInterval;
+
+    /**
+     * Constructor of the UserDeletionWorker class.
+     * 
+     * @param jobRepository         UserDeletionJobRepository injected by Spring.
+     * @param userRepository        UserRepository injected by Spring.
+     * @param journalRepository     JournalRepository injected by Spring.
+     * @param entryRepository       JournalEntryRepository injected by Spring.
+     * @param rollupRepository      WellBeingRollupRepository injected by Spring.
+     * @param calendarRepository    JournalCalendarRepository injected by Spring.
+     * @param transactionTemplate   TransactionTemplate injected by Spring. Used to
+     *                              run every batch in its own transaction.
+     * @param shardRing             ShardRing injected by Spring. Used to find the
+     *                              shard of a job.
+     * @param invalidationPublisher CacheInvalidationPublisher injected by Spring.
+     * @param jobRunner             LeaseJobRunner injected by Spring. Used to
+     *                              sweep the pending jobs on one node per shard.
+     * @param batchSize             The maximum number of journal entries deleted
+     *                              per transaction. Configured by the property
+     *                              "gratitudejournal.user-deletion.batch-size".
+     * @param retryInterval         The interval of the sweeps and the age of the
+     *                              pending jobs they retry. Configured by the
+     *                              property
+     *                              "gratitudejournal.user-deletion.retry-interval".
+     */
+    public UserDeletionWorker(UserDeletionJobRepository jobRepository, UserRepository userRepository,
+            JournalRepository journalRepository, JournalEntryRepository entryRepository,
+            WellBeingRollupRepository rollupRepository, JournalCalendarRepository calendarRepository,
+            TransactionTemplate transactionTemplate, ShardRing shardRing,
+            CacheInvalidationPublisher invalidationPublisher, LeaseJobRunner jobRunner,
+            @Value("${gratitudejournal.user-deletion.batch-size:1000}") int batchSize,
+            @Value("${gratitudejournal.user-deletion.retry-interval:1m}") Duration retryInterval) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.journalRepository = journalRepository;
+        this.entryRepository = entryRepository;
+        this.rollupRepository = rollupRepository;
+        this.calendarRepository = calendarRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRing = shardRing;
+        this.invalidationPublisher = invalidationPublisher;
+        this.jobRunner = jobRunner;
+        this.batchSize = batchSize;
+        this.retryInterval = retryInterval;
+    }
+
+    /**
+     * Starts the purge of a deleted user once the transaction tombstoning the user
+     * is committed.
+     * 
+     * @param event The event published on the deletion of the user.
+     */
+    @Async
+    @TransactionalEventListener
+    public void onUserDeletionRequested(UserDeletionRequestedEvent event) {
+        purge(event.jobId());
+    }
+
+    /**
+     * Retries the purges of the deletion jobs that are pending for longer than
+     * the retry interval, because their purge failed or was interrupted by a
+     * shutdown. Runs on one node per shard at a time, under the lease of the
+     * sweep, and starts on every node right after its startup.
+     */
+    @Async
+    @Scheduled(fixedDelayString = "${gratitudejournal.user-deletion.retry-interval:1m}")
+    public void retryPendingJobs() {
+        jobRunner.runExclusively("user-deletion-sweep", retryInterval, lease -> {
+            Instant requestedBefore = Instant.now().minus(retryInterval);
+            for (Long jobId : transactionTemplate.execute(status -> jobRepository
+                    .findIdsByStatusRequestedBefore(UserDeletionJob.Status.PENDING, requestedBefore)))
+                if (!lease.isLost())
+                    purgeOnShard(jobId, lease);
+        });
+    }
+
+    /**
+     * Purges the journal entries, the well-being rollups, the calendars, the
+     * journal and the user of a deletion job and completes the job. Failures are
+     * logged and leave the job pending, to be retried by the next sweep after the
+     * retry interval.
+     * 
+     * @param jobId The id of the deletion job.
+     */
+    public void purge(Long jobId) {
+        ShardContext.runOn(shardRing.shardOfId(jobId), () -> purgeOnShard(jobId, null));
+    }
+
+    /**
+     * Purges a deletion job on the shard bound to the current thread.
+     * 
+     * @param jobId The id of the deletion job.
+     * @param lease The lease of the sweep, checked by every transaction, or null
+     *              if the purge was started by the deletion of the user.
+     */
+    private void purgeOnShard(Long jobId, Lease lease) {
+        try {
+            UserDeletionJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || job.getStatus() == UserDeletionJob.Status.COMPLETED)
+                return;
+
+            int deletedEntries;
+            do {
+                deletedEntries = transactionTemplate.execute(status -> {
+                    if (lease != null)
+                        lease.fence();
+                    int deleted = entryRepository.deleteEntriesByJournalId(job.getJournalId(), batchSize);
+                    jobRepository.addDeletedEntries(jobId, deleted);
+                    return deleted;
+                });
+            } while (deletedEntries == batchSize);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (lease != null)
+                    lease.fence();
+                rollupRepository.deleteByJournalId(job.getJournalId());
+                calendarRepository.deleteByJournalId(job.getJournalId());
+                userRepository.deleteUserById(job.getUserId());
+                journalRepository.deleteJournalById(job.getJournalId());
+                jobRepository.updateStatus(jobId, UserDeletionJob.Status.COMPLETED, Instant.now());
+                invalidationPublisher.evictEntities(JournalEntry.class);
+                invalidationPublisher.evictQueries(JournalEntryRepository.ENTRIES_QUERY_REGION);
+                invalidationPublisher.evictEntities(User.class);
+            });
+            log.info("Completed deletion job " + jobId + " of the user \"" + job.getUserName() + "\"");
+        } catch (RuntimeException ex) {
+            log.error("Deletion job " + jobId + " failed and is retried after " + retryInterval, ex);
+        }
+    }
+}
\ No newline at end of file
@@ -2,13 +2,21 @@ package io.github.neiroukh.gratitudejournal.user.dto;
 
 import io.github.neiroukh.gratitudejournal.user.UserController;
 
+import io.github.neiroukh.gratitudejournal.hal.LinkStrategy;
+import io.github.neiroukh.gratitudejournal.hal.LinkTemplate;
 import io.github.neiroukh.gratitudejournal.journal.JournalController;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Spring Component to create an EntityModel for a {@link ReturnUserDTO} object.
@@ -21,9 +29,42 @@ public class ReturnUserDTOModelAssembler
         implements RepresentationModelAssembler<ReturnUserDTO, EntityModel<ReturnUserDTO>> {
 
     /**
-     * Default constructor.
+     * Template of the GET-Request of a user.
+     */
+    private static final LinkTemplate GET_USER = LinkTemplate.of(UserController.class, "getUser", String.class);
+
+    /**
+     * Template of the PUT-Request of a user.
+     */
+    private static final LinkTemplate UPDATE_USER = LinkTemplate.of(UserController.class, "updateUser",
+            String.class, SimpleUserDTO.class);
+
+    /**
+     * Template of the DELETE-Request of a user.
+     */
+    private static final LinkTemplate DELETE_USER = LinkTemplate.of(UserController.class, "deleteUser",
+            String.class);
+
+    /**
+     * Template of the GET-Request of a user's journal.
      */
-    ReturnUserDTOModelAssembler() {
+    private static final LinkTemplate GET_JOURNAL = LinkTemplate.of(JournalController.class, "getEntries",
+            String.class, String.class, String.class, Integer.class, LocalDate.class, LocalDate.class,
+            JournalEntry.WellBeing.class, WebRequest.class);
+
+    /**
+     * The strategy used to create links.
+     */
+    private final LinkStrategy linkStrategy;
+
+    /**
+     * Constructor of the class.
+     * 
+     * @param linkStrategy The strategy used to create links. Configured by the
+     *                     property "gratitudejournal.hal.link-strategy".
+     */
+    ReturnUserDTOModelAssembler(@Value("${gratitudejournal.hal.link-strategy:TEMPLATE}") LinkStrategy linkStrategy) {
+        this.linkStrategy = linkStrategy;
     }
 
     /**
@@ -44,10 +85,18 @@ public class ReturnUserDTOModelAssembler
      */
     @Override
     public EntityModel<ReturnUserDTO> toModel(ReturnUserDTO returnUserDTO) {
+        if (linkStrategy == LinkStrategy.TEMPLATE)
+            return EntityModel.of(returnUserDTO,
+                    GET_USER.toLink(IanaLinkRelations.SELF, returnUserDTO.userName()),
+                    UPDATE_USER.toLink("update", returnUserDTO.userName()),
+                    DELETE_USER.toLink("delete", returnUserDTO.userName()),
+                    GET_JOURNAL.toLink("journal", returnUserDTO.userName()));
+
         return EntityModel.of(returnUserDTO,
                 linkTo(methodOn(UserController.class).getUser(returnUserDTO.userName())).withSelfRel(),
                 linkTo(methodOn(UserController.class).updateUser(returnUserDTO.userName(), null)).withRel("update"),
                 linkTo(methodOn(UserController.class).deleteUser(returnUserDTO.userName())).withRel("delete"),
-                linkTo(methodOn(JournalController.class).getEntries(returnUserDTO.userName())).withRel("journal"));
+                linkTo(methodOn(JournalController.class).getEntries(returnUserDTO.userName(), null, null, null, null,
+                        null, null, null)).withRel("journal"));
     }
 }
\ No newline at end of file
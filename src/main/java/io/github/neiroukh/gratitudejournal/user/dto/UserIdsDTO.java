@@ -0,0 +1,15 @@
+package io.github.neiroukh.gratitudejournal.user.dto;
+
+/**
+ * DTO holding the ids of a user and its journal. Most operations only need the
+ * ids, which can be retrieved and cached without loading the User entity.
+ * 
+ * @param userId    The userId (primary key) of the user.
+ * @param journalId The journalId (primary key) of the user's journal.
+ * 
+ * @author Afeef Neiroukh
+ */
+public record UserIdsDTO(
+        Long userId,
+        Long journalId) {
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package io.github.neiroukh.gratitudejournal.user.exception;
+
+/**
+ * Exception thrown when the requested user deletion job is not found.
+ * 
+ * @author Afeef Neiroukh
+ */
+public class DeletionJobNotFoundException extends RuntimeException {
+
+    /**
+     * Public constructor of the DeletionJobNotFoundException class.
+     * 
+     * @param jobId The id of the missing deletion job to mention in the Exception
+     *              message.
+     */
+    public DeletionJobNotFoundException(Long jobId) {
+        super("Could not find the deletion job " + jobId);
+    }
+}
\ No newline at end of file
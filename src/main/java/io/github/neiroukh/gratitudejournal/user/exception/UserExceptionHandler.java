@@ -55,4 +55,16 @@ public class UserExceptionHandler {
     String userNotFoundHandler(UserNotFoundException ex) {
         return ex.getMessage();
     }
+
+    /**
+     * Handler for the {@link DeletionJobNotFoundException} Exception
+     * 
+     * @param ex The {@link DeletionJobNotFoundException} object.
+     * @return The exception message and HTTP-Code 404 Not Found.
+     */
+    @ExceptionHandler(DeletionJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    String deletionJobNotFoundHandler(DeletionJobNotFoundException ex) {
+        return ex.getMessage();
+    }
 }
\ No newline at end of file
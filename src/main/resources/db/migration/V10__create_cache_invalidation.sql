@@ -0,0 +1,10 @@
+-- Read in the order of the ids, purged by their age
+CREATE TABLE IF NOT EXISTS cache_invalidation (
+    invalidation_id BIGINT NOT NULL AUTO_INCREMENT,
+    kind ENUM('CACHE','ENTITY','QUERY') NOT NULL,
+    region VARCHAR(64) NOT NULL,
+    cache_key VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (invalidation_id),
+    INDEX idx_cache_invalidation_created_at (created_at)
+) ENGINE=InnoDB;
\ No newline at end of file
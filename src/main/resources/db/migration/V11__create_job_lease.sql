@@ -0,0 +1,9 @@
+-- Leases of the background jobs, taken over by incrementing the fencing token
+CREATE TABLE IF NOT EXISTS job_lease (
+    name VARCHAR(128) NOT NULL,
+    owner VARCHAR(64),
+    fencing_token BIGINT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6),
+    PRIMARY KEY (name)
+) ENGINE=InnoDB;
\ No newline at end of file
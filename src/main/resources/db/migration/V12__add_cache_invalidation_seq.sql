@@ -0,0 +1,11 @@
+-- Counter the ids of the invalidations are taken from within the writing
+-- transactions. A transaction locks the row until it commits or rolls back, so
+-- the ids of the committed invalidations follow each other without gaps.
+CREATE TABLE cache_invalidation_seq (
+    last_id BIGINT NOT NULL
+) ENGINE=InnoDB;
+
+INSERT INTO cache_invalidation_seq (last_id)
+SELECT COALESCE(MAX(invalidation_id), 0) FROM cache_invalidation;
+
+ALTER TABLE cache_invalidation MODIFY invalidation_id BIGINT NOT NULL;
\ No newline at end of file
@@ -0,0 +1,9 @@
+-- The search reads the entries of a single journal through the index on
+-- journal, date and id, so the FULLTEXT index is no longer read and only slows
+-- down the writes of entries.
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'journal_entry' AND index_name = 'ft_journal_entry_gratitude'),
+    'ALTER TABLE journal_entry DROP INDEX ft_journal_entry_gratitude',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
\ No newline at end of file
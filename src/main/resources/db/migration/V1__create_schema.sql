@@ -0,0 +1,54 @@
+-- Schema of the GratitudeJournal service before the migrations were
+-- introduced, as Hibernate created it. Databases created by Hibernate are
+-- baselined at this version, so every later change has to be a migration of its
+-- own. Applied to every shard.
+
+-- Sequences of the ids, allocated in blocks by every node
+CREATE TABLE user_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO user_seq (next_val) VALUES (1);
+
+CREATE TABLE journal_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO journal_seq (next_val) VALUES (1);
+
+CREATE TABLE journal_entry_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO journal_entry_seq (next_val) VALUES (1);
+
+CREATE TABLE journal (
+    journal_id BIGINT NOT NULL,
+    PRIMARY KEY (journal_id)
+) ENGINE=InnoDB;
+
+-- Users are looked up by user name, the journal is unique per user
+CREATE TABLE user (
+    user_id BIGINT NOT NULL,
+    user_name VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    journal_id BIGINT,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_user_name UNIQUE (user_name),
+    CONSTRAINT uk_user_journal UNIQUE (journal_id),
+    CONSTRAINT fk_user_journal FOREIGN KEY (journal_id) REFERENCES journal (journal_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE journal_entry (
+    journal_entry_id BIGINT NOT NULL,
+    journal_id BIGINT,
+    date DATE,
+    well_being ENUM('AWFUL','BAD','FANTASTIC','GOOD','MILDLY_BAD','MILDLY_GOOD','NEUTRAL'),
+    grateful_for_today VARCHAR(255),
+    grateful_for_today_description VARCHAR(255),
+    grateful_for_in_life VARCHAR(255),
+    grateful_for_in_life_description VARCHAR(255),
+    PRIMARY KEY (journal_entry_id),
+    CONSTRAINT fk_journal_entry_journal FOREIGN KEY (journal_id) REFERENCES journal (journal_id)
+) ENGINE=InnoDB;
\ No newline at end of file
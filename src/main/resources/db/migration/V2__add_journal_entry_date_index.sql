@@ -0,0 +1,9 @@
+-- One entry per journal and day, enforced by the database. The unique key also
+-- serves the lookups by journal and date range. Databases of builds that
+-- created the schema with Hibernate may have it already.
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'journal_entry' AND index_name = 'uk_journal_entry_journal_date'),
+    'DO 0',
+    'ALTER TABLE journal_entry ADD CONSTRAINT uk_journal_entry_journal_date UNIQUE (journal_id, date)');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
\ No newline at end of file
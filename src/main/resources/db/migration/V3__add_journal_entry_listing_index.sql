@@ -0,0 +1,9 @@
+-- The listing filters by journal and sorts by date and id, which the composite
+-- index answers without a filesort. Databases of builds that created the schema
+-- with Hibernate may have it already.
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'journal_entry' AND index_name = 'idx_journal_entry_journal_date_id'),
+    'DO 0',
+    'CREATE INDEX idx_journal_entry_journal_date_id ON journal_entry (journal_id, date, journal_entry_id)');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
\ No newline at end of file
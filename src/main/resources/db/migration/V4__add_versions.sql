@@ -0,0 +1,16 @@
+-- Versions of the entries and of the listing of every journal, which the ETags
+-- are derived from. Databases of builds that created the schema with Hibernate
+-- may have them already.
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'journal' AND column_name = 'entries_version'),
+    'DO 0',
+    'ALTER TABLE journal ADD COLUMN entries_version BIGINT DEFAULT 0 NOT NULL');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'journal_entry' AND column_name = 'version'),
+    'DO 0',
+    'ALTER TABLE journal_entry ADD COLUMN version BIGINT DEFAULT 0 NOT NULL');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
\ No newline at end of file
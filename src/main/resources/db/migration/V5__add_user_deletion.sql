@@ -0,0 +1,29 @@
+-- Users are tombstoned and purged by deletion jobs. Databases of builds that
+-- created the schema with Hibernate may have the column and the tables already.
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'user' AND column_name = 'deleted'),
+    'DO 0',
+    'ALTER TABLE user ADD COLUMN deleted BIT(1) DEFAULT FALSE NOT NULL');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+CREATE TABLE IF NOT EXISTS user_deletion_job_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO user_deletion_job_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM user_deletion_job_seq);
+
+-- Pending jobs are looked up by their status
+CREATE TABLE IF NOT EXISTS user_deletion_job (
+    job_id BIGINT NOT NULL,
+    user_id BIGINT,
+    journal_id BIGINT,
+    user_name VARCHAR(255),
+    status ENUM('COMPLETED','PENDING') NOT NULL,
+    deleted_entries BIGINT NOT NULL,
+    requested_at DATETIME(6),
+    completed_at DATETIME(6),
+    PRIMARY KEY (job_id),
+    INDEX idx_user_deletion_job_status (status)
+) ENGINE=InnoDB;
\ No newline at end of file
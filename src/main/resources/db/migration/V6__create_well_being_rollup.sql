@@ -0,0 +1,21 @@
+-- The primary key starts with the journal, so the statistics of a journal are
+-- read by a range scan of the primary key. Builds that created the schema with
+-- Hibernate ordered the key by column name, so it is recreated in this order.
+CREATE TABLE IF NOT EXISTS well_being_rollup (
+    journal_id BIGINT NOT NULL,
+    granularity ENUM('MONTH','WEEK') NOT NULL,
+    bucket_start DATE NOT NULL,
+    well_being ENUM('AWFUL','BAD','FANTASTIC','GOOD','MILDLY_BAD','MILDLY_GOOD','NEUTRAL') NOT NULL,
+    entries BIGINT NOT NULL,
+    PRIMARY KEY (journal_id, granularity, bucket_start, well_being)
+) ENGINE=InnoDB;
+
+ALTER TABLE well_being_rollup DROP PRIMARY KEY, ADD PRIMARY KEY (journal_id, granularity, bucket_start, well_being);
+
+-- The secondary index those builds declared duplicates the primary key
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'well_being_rollup' AND index_name = 'idx_well_being_rollup_journal_bucket'),
+    'DROP INDEX idx_well_being_rollup_journal_bucket ON well_being_rollup',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
\ No newline at end of file
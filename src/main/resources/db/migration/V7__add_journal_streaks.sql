@@ -0,0 +1,8 @@
+-- Current and longest streak of every journal. Databases of builds that
+-- created the schema with Hibernate may have the columns already.
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'journal' AND column_name = 'streak_end'),
+    'DO 0',
+    'ALTER TABLE journal ADD COLUMN streak_end DATE, ADD COLUMN streak_length INTEGER DEFAULT 0 NOT NULL, ADD COLUMN longest_streak INTEGER DEFAULT 0 NOT NULL, ADD COLUMN longest_streak_end DATE');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
\ No newline at end of file
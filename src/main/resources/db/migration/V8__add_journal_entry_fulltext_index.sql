@@ -0,0 +1,8 @@
+-- The FULLTEXT index answers the search over the gratitude fields. Builds
+-- before the migrations created it on startup.
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'journal_entry' AND index_name = 'ft_journal_entry_gratitude'),
+    'DO 0',
+    'ALTER TABLE journal_entry ADD FULLTEXT INDEX ft_journal_entry_gratitude (grateful_for_today, grateful_for_today_description, grateful_for_in_life, grateful_for_in_life_description)');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
\ No newline at end of file
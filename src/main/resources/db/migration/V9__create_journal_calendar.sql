@@ -0,0 +1,20 @@
+-- Bitsets of the days with entries and of their well-being per journal and
+-- year. Builds that created the schema with Hibernate ordered the primary key by
+-- column name, so it is recreated to start with the journal.
+CREATE TABLE IF NOT EXISTS journal_calendar (
+    journal_id BIGINT NOT NULL,
+    calendar_year INTEGER NOT NULL,
+    days VARBINARY(46) NOT NULL,
+    well_being VARBINARY(138) NOT NULL,
+    PRIMARY KEY (journal_id, calendar_year)
+) ENGINE=InnoDB;
+
+ALTER TABLE journal_calendar DROP PRIMARY KEY, ADD PRIMARY KEY (journal_id, calendar_year);
+
+-- The secondary index those builds declared duplicates the primary key
+SET @statement = IF(EXISTS (SELECT * FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'journal_calendar' AND index_name = 'idx_journal_calendar_journal_year'),
+    'DROP INDEX idx_journal_calendar_journal_year ON journal_calendar',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
\ No newline at end of file
@@ -52,7 +52,7 @@ public class TestcontainersConfiguration {
 	 * @return {@link CommandLineRunner} to set up the database state for testing.
 	 */
 	@Bean
-	CommandLineRunner testcontainersConfiguration(UserRepository repository) {
+	CommandLineRunner preloadUsers(UserRepository repository) {
 		return args -> {
 			log.info("Preloading " + repository.save(new User("test1UserName", "test1FirstName", "test1LastName")));
 			log.info("Preloading " + repository.save(new User("test2UserName", "test2FirstName", "test2LastName")));
@@ -65,6 +65,30 @@ public class TestcontainersConfiguration {
 					.save(new User("test3UserNameJournal", "test3FirstNameJournal", "test3LastNameJournal")));
 			log.info("Preloading " + repository
 					.save(new User("test4UserNameJournal", "test4FirstNameJournal", "test4LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test5UserNameJournal", "test5FirstNameJournal", "test5LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test6UserNameJournal", "test6FirstNameJournal", "test6LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test7UserNameJournal", "test7FirstNameJournal", "test7LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test8UserNameJournal", "test8FirstNameJournal", "test8LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test9UserNameJournal", "test9FirstNameJournal", "test9LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test10UserNameJournal", "test10FirstNameJournal", "test10LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test11UserNameJournal", "test11FirstNameJournal", "test11LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test12UserNameJournal", "test12FirstNameJournal", "test12LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test13UserNameJournal", "test13FirstNameJournal", "test13LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test14UserNameJournal", "test14FirstNameJournal", "test14LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test15UserNameJournal", "test15FirstNameJournal", "test15LastNameJournal")));
+			log.info("Preloading " + repository
+					.save(new User("test16UserNameJournal", "test16FirstNameJournal", "test16LastNameJournal")));
 		};
 	}
 }
\ No newline at end of file
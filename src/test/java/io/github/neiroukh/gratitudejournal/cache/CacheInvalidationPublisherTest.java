@@ -0,0 +1,104 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import io.github.neiroukh.gratitudejournal.TestcontainersConfiguration;
+import io.github.neiroukh.gratitudejournal.user.User;
+import io.github.neiroukh.gratitudejournal.user.UserRepository;
+import io.github.neiroukh.gratitudejournal.user.UserService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureRestTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit-Tests for {@link CacheInvalidationPublisher}, publishing invalidations
+ * into the database. The context is the one of the API tests, so the database
+ * container is shared.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureRestTestClient
+@ActiveProfiles("test")
+class CacheInvalidationPublisherTest {
+	@Autowired
+	private CacheInvalidationRepository repository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	/**
+	 * Helper method to create a publisher that publishes although the
+	 * invalidations are disabled in the context of the tests.
+	 * 
+	 * @return The publisher under test.
+	 */
+	CacheInvalidationPublisher createPublisher() {
+		return new CacheInvalidationPublisher(repository, true);
+	}
+
+	/**
+	 * Unit-Test checking that the invalidations of a committed transaction get
+	 * the ids following the last allocated one.
+	 */
+	@Test
+	void committedInvalidationsAreContiguous() {
+		CacheInvalidationPublisher publisher = createPublisher();
+		long lastId = repository.getLastAllocatedInvalidationId();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			publisher.evictCache(UserService.USER_IDS_CACHE, "publisherUserName");
+			publisher.evictEntity(User.class, 1L);
+		});
+
+		List<CacheInvalidation> invalidations = repository.getInvalidationsAfter(lastId, Limit.of(10));
+		assertEquals(2, invalidations.size());
+		assertEquals(lastId + 1, invalidations.get(0).getInvalidationId());
+		assertEquals(CacheInvalidation.Kind.CACHE, invalidations.get(0).getKind());
+		assertEquals("publisherUserName", invalidations.get(0).getCacheKey());
+		assertEquals(lastId + 2, invalidations.get(1).getInvalidationId());
+		assertEquals(CacheInvalidation.Kind.ENTITY, invalidations.get(1).getKind());
+		assertEquals("1", invalidations.get(1).getCacheKey());
+	}
+
+	/**
+	 * Unit-Test checking that rolled back transactions and transactions whose
+	 * writes fail publish nothing and leave no gap in the ids.
+	 */
+	@Test
+	void failedTransactionsLeaveNoGap() {
+		CacheInvalidationPublisher publisher = createPublisher();
+		long lastId = repository.getLastAllocatedInvalidationId();
+
+		transactionTemplate.executeWithoutResult(status -> {
+			publisher.evictCache(UserService.USER_IDS_CACHE, "rolledBackUserName");
+			status.setRollbackOnly();
+		});
+		assertThrows(RuntimeException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+			userRepository.save(new User("test1UserName", "duplicateFirstName", "duplicateLastName"));
+			publisher.evictCache(UserService.USER_IDS_CACHE, "test1UserName");
+		}));
+		assertEquals(lastId, repository.getLastAllocatedInvalidationId());
+		assertTrue(repository.getInvalidationsAfter(lastId, Limit.of(10)).isEmpty());
+
+		transactionTemplate.executeWithoutResult(status -> publisher.evictQueries("publisherRegion"));
+		List<CacheInvalidation> invalidations = repository.getInvalidationsAfter(lastId, Limit.of(10));
+		assertEquals(1, invalidations.size());
+		assertEquals(lastId + 1, invalidations.get(0).getInvalidationId());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit-Tests for {@link InvalidationCursor}, checking which invalidations are
+ * applied and when gaps flush the caches.
+ * 
+ * @author Afeef Neiroukh
+ */
+class InvalidationCursorTest {
+	/**
+	 * The gap timeout used by the tests.
+	 */
+	private static final Duration GAP_TIMEOUT = Duration.ofSeconds(30);
+
+	/**
+	 * Unit-Test applying contiguous invalidations once and ignoring the ones
+	 * before the start.
+	 */
+	@Test
+	void contiguous() {
+		InvalidationCursor cursor = new InvalidationCursor(10);
+		Instant now = Instant.now();
+
+		assertFalse(cursor.accept(9));
+		assertTrue(cursor.accept(11));
+		assertTrue(cursor.accept(12));
+		assertFalse(cursor.accept(12));
+		assertEquals(12, cursor.getPosition());
+		assertFalse(cursor.skipExpiredGap(now.plus(GAP_TIMEOUT), GAP_TIMEOUT));
+	}
+
+	/**
+	 * Unit-Test applying invalidations committed out of order without flushing.
+	 */
+	@Test
+	void outOfOrder() {
+		InvalidationCursor cursor = new InvalidationCursor(10);
+		Instant now = Instant.now();
+
+		assertTrue(cursor.accept(12));
+		assertTrue(cursor.accept(13));
+		assertEquals(10, cursor.getPosition());
+		assertFalse(cursor.skipExpiredGap(now, GAP_TIMEOUT));
+
+		assertFalse(cursor.accept(12));
+		assertTrue(cursor.accept(11));
+		assertEquals(13, cursor.getPosition());
+		assertFalse(cursor.skipExpiredGap(now.plus(GAP_TIMEOUT), GAP_TIMEOUT));
+	}
+
+	/**
+	 * Unit-Test skipping a gap that is not filled within the gap timeout, which
+	 * flushes the caches.
+	 */
+	@Test
+	void expiredGap() {
+		InvalidationCursor cursor = new InvalidationCursor(10);
+		Instant now = Instant.now();
+
+		assertTrue(cursor.accept(12));
+		assertFalse(cursor.skipExpiredGap(now, GAP_TIMEOUT));
+		assertFalse(cursor.skipExpiredGap(now.plus(GAP_TIMEOUT).minusMillis(1), GAP_TIMEOUT));
+		assertTrue(cursor.skipExpiredGap(now.plus(GAP_TIMEOUT), GAP_TIMEOUT));
+		assertEquals(12, cursor.getPosition());
+
+		assertFalse(cursor.accept(11));
+		assertTrue(cursor.accept(14));
+		assertFalse(cursor.skipExpiredGap(now.plus(GAP_TIMEOUT), GAP_TIMEOUT));
+		assertFalse(cursor.skipExpiredGap(now.plus(GAP_TIMEOUT.multipliedBy(2)).minusMillis(1), GAP_TIMEOUT));
+		assertTrue(cursor.skipExpiredGap(now.plus(GAP_TIMEOUT.multipliedBy(2)), GAP_TIMEOUT));
+	}
+}
\ No newline at end of file
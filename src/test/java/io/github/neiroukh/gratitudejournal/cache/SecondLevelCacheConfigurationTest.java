@@ -0,0 +1,84 @@
+package io.github.neiroukh.gratitudejournal.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+import io.github.neiroukh.gratitudejournal.user.User;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.spi.RegionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+/**
+ * Unit-Tests for {@link SecondLevelCacheConfiguration}, checking the bounds of
+ * the created regions.
+ * 
+ * @author Afeef Neiroukh
+ */
+class SecondLevelCacheConfigurationTest {
+	/**
+	 * Unit-Test bounding every region by the defaults unless overridden for the
+	 * region, and never evicting the update timestamps.
+	 */
+	@Test
+	void regionBounds() {
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("gratitudejournal.cache.second-level.journal-entry.maximum-size", "500")
+				.withProperty("gratitudejournal.cache.second-level.journal-entry.time-to-live", "1m");
+
+		try (CacheManager cacheManager = new SecondLevelCacheConfiguration().secondLevelCacheManager(environment,
+				1000, Duration.ofMinutes(10))) {
+			for (String region : SecondLevelCacheConfiguration.REGIONS)
+				assertTrue(cacheManager.getCache(region) != null, region);
+
+			CaffeineConfiguration<?, ?> user = configuration(cacheManager, User.CACHE_REGION);
+			assertEquals(OptionalLong.of(1000), user.getMaximumSize());
+			assertEquals(OptionalLong.of(Duration.ofMinutes(10).toNanos()), user.getExpireAfterWrite());
+
+			CaffeineConfiguration<?, ?> entry = configuration(cacheManager, JournalEntry.CACHE_REGION);
+			assertEquals(OptionalLong.of(500), entry.getMaximumSize());
+			assertEquals(OptionalLong.of(Duration.ofMinutes(1).toNanos()), entry.getExpireAfterWrite());
+
+			CaffeineConfiguration<?, ?> timestamps = configuration(cacheManager,
+					RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+			assertEquals(OptionalLong.empty(), timestamps.getMaximumSize());
+			assertEquals(OptionalLong.empty(), timestamps.getExpireAfterWrite());
+		}
+	}
+
+	/**
+	 * Unit-Test creating a separate CacheManager for every application context.
+	 */
+	@Test
+	void separateCacheManagers() {
+		SecondLevelCacheConfiguration configuration = new SecondLevelCacheConfiguration();
+		try (CacheManager first = configuration.secondLevelCacheManager(new MockEnvironment(), 1000,
+				Duration.ofMinutes(10));
+				CacheManager second = configuration.secondLevelCacheManager(new MockEnvironment(), 1000,
+						Duration.ofMinutes(10))) {
+			assertNotSame(first.getCache(User.CACHE_REGION), second.getCache(User.CACHE_REGION));
+		}
+	}
+
+	/**
+	 * Helper method to read the configuration of a region.
+	 * 
+	 * @param cacheManager The CacheManager holding the region.
+	 * @param region       The name of the region.
+	 * @return The Caffeine configuration of the region.
+	 */
+	private static CaffeineConfiguration<?, ?> configuration(CacheManager cacheManager, String region) {
+		Cache<Object, Object> cache = cacheManager.getCache(region);
+		return cache.getConfiguration(CaffeineConfiguration.class);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package io.github.neiroukh.gratitudejournal.datasource;
+
+import io.github.neiroukh.gratitudejournal.datasource.ReplicaRoutingDataSource.Target;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.hibernate.CacheMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Unit-Tests for {@link ReplicaRoutingDataSource}, {@link ReadYourWritesFilter}
+ * and {@link ReplicaCacheModeJpaDialect}, checking which requests and
+ * transactions are routed to the replica and kept out of the second-level
+ * cache.
+ * 
+ * @author Afeef Neiroukh
+ */
+class ReplicaRoutingDataSourceTest {
+	/**
+	 * The DataSource under test.
+	 */
+	private final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+			new SimpleDriverDataSource(), new SimpleDriverDataSource());
+
+	/**
+	 * The filter under test, pinning clients for a minute after a write.
+	 */
+	private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+
+	/**
+	 * Removes the request and the transaction state bound to the test thread.
+	 */
+	@AfterEach
+	void reset() {
+		RequestContextHolder.resetRequestAttributes();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	/**
+	 * Helper method to pass a request through the filter and bind it to the test
+	 * thread, like the DispatcherServlet does.
+	 * 
+	 * @param request The request to pass through the filter.
+	 * @return The response of the request.
+	 */
+	MockHttpServletResponse filter(MockHttpServletRequest request) {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, new MockFilterChain());
+		} catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		return response;
+	}
+
+	/**
+	 * Unit-Test routing read-only transactions to the replica and all other
+	 * connections to the primary.
+	 */
+	@Test
+	void routeByTransaction() {
+		assertSame(Target.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertSame(Target.REPLICA, routingDataSource.determineCurrentLookupKey());
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		assertSame(Target.PRIMARY, routingDataSource.determineCurrentLookupKey());
+	}
+
+	/**
+	 * Unit-Test routing the read-only transactions of reading requests to the
+	 * replica, unless the client has written within the window.
+	 */
+	@Test
+	void routeByRequest() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		MockHttpServletResponse response = filter(new MockHttpServletRequest("GET", "/journal/test1UserName"));
+		assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+		assertFalse(ReadYourWritesFilter.isPinnedToPrimary());
+		assertSame(Target.REPLICA, routingDataSource.determineCurrentLookupKey());
+
+		response = filter(new MockHttpServletRequest("POST", "/journal/test1UserName"));
+		Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+		assertNotNull(cookie);
+		assertEquals(60, cookie.getMaxAge());
+		assertTrue(ReadYourWritesFilter.isPinnedToPrimary());
+		assertSame(Target.PRIMARY, routingDataSource.determineCurrentLookupKey());
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/journal/test1UserName");
+		request.setCookies(cookie);
+		filter(request);
+		assertTrue(ReadYourWritesFilter.isPinnedToPrimary());
+		assertSame(Target.PRIMARY, routingDataSource.determineCurrentLookupKey());
+	}
+
+	/**
+	 * Unit-Test keeping the transactions routed to the replica from putting values
+	 * into the second-level cache, while the transactions of pinned requests and
+	 * writing transactions do.
+	 */
+	@Test
+	void cacheModeByRouting() {
+		DefaultTransactionDefinition readOnly = new DefaultTransactionDefinition();
+		readOnly.setReadOnly(true);
+		DefaultTransactionDefinition readWrite = new DefaultTransactionDefinition();
+
+		filter(new MockHttpServletRequest("GET", "/journal/test1UserName"));
+		assertSame(CacheMode.GET, ReplicaCacheModeJpaDialect.cacheModeOf(readOnly));
+		assertSame(CacheMode.NORMAL, ReplicaCacheModeJpaDialect.cacheModeOf(readWrite));
+
+		MockHttpServletResponse response = filter(new MockHttpServletRequest("POST", "/journal/test1UserName"));
+		assertSame(CacheMode.NORMAL, ReplicaCacheModeJpaDialect.cacheModeOf(readOnly));
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/journal/test1UserName");
+		request.setCookies(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+		filter(request);
+		assertSame(CacheMode.NORMAL, ReplicaCacheModeJpaDialect.cacheModeOf(readOnly));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package io.github.neiroukh.gratitudejournal.hal;
+
+import io.github.neiroukh.gratitudejournal.journal.JournalController;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.user.UserController;
+import io.github.neiroukh.gratitudejournal.user.dto.SimpleUserDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Unit-Tests for {@link LinkTemplate}, checking that the links expanded from
+ * templates render to the same HAL links as the links created by
+ * {@code linkTo(methodOn(...))}.
+ * 
+ * @author Afeef Neiroukh
+ */
+class LinkTemplateTest {
+	/**
+	 * Binds a request to the test thread, as links are created from the current
+	 * request.
+	 */
+	@BeforeEach
+	void bindRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/journal/entry/1");
+		request.setServerName("journal.example.com");
+		request.setServerPort(8080);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	/**
+	 * Removes the request bound to the test thread.
+	 */
+	@AfterEach
+	void unbindRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	/**
+	 * Helper method to assert that two links are rendered identically in HAL. The
+	 * affordances of links created by {@code linkTo(methodOn(...))} are not part of
+	 * the HAL representation and therefore not compared.
+	 * 
+	 * @param expected The link created by {@code linkTo(methodOn(...))}.
+	 * @param actual   The link expanded from a template.
+	 */
+	void assertSameHalLink(Link expected, Link actual) {
+		assertEquals(expected.getHref(), actual.getHref());
+		assertEquals(expected.getRel(), actual.getRel());
+		assertEquals(expected.isTemplated(), actual.isTemplated());
+		assertEquals(expected.getType(), actual.getType());
+		assertEquals(expected.getTitle(), actual.getTitle());
+		assertEquals(expected.getName(), actual.getName());
+		assertEquals(expected.getProfile(), actual.getProfile());
+		assertEquals(expected.getDeprecation(), actual.getDeprecation());
+		assertEquals(expected.getHreflang(), actual.getHreflang());
+		assertEquals(expected.getMedia(), actual.getMedia());
+	}
+
+	/**
+	 * Unit-Test for the links to a journal entry.
+	 */
+	@Test
+	void entryLinks() {
+		assertSameHalLink(linkTo(methodOn(JournalController.class).getEntry(42L, null)).withSelfRel(),
+				LinkTemplate.of(JournalController.class, "getEntry", Long.class, WebRequest.class)
+						.toLink("self", 42L));
+		assertSameHalLink(linkTo(methodOn(JournalController.class).updateEntry(42L, null)).withRel("update"),
+				LinkTemplate.of(JournalController.class, "updateEntry", Long.class, JournalEntryDTO.class)
+						.toLink("update", 42L));
+		assertSameHalLink(linkTo(methodOn(JournalController.class).deleteEntry(42L)).withRel("delete"),
+				LinkTemplate.of(JournalController.class, "deleteEntry", Long.class).toLink("delete", 42L));
+	}
+
+	/**
+	 * Unit-Test for the links to a user and its journal, including user names
+	 * that need to be encoded.
+	 */
+	@Test
+	void userLinks() {
+		for (String userName : new String[] { "test1UserName", "Jürgen", "a%b", "semi;colon", "at@sign", "plus+sign",
+				"space name" }) {
+			assertSameHalLink(linkTo(methodOn(UserController.class).getUser(userName)).withSelfRel(),
+					LinkTemplate.of(UserController.class, "getUser", String.class).toLink("self", userName));
+			assertSameHalLink(linkTo(methodOn(UserController.class).updateUser(userName, null)).withRel("update"),
+					LinkTemplate.of(UserController.class, "updateUser", String.class, SimpleUserDTO.class)
+							.toLink("update", userName));
+			assertSameHalLink(linkTo(methodOn(JournalController.class).getEntries(userName, null, null, null, null, null,
+					null, null)).withRel("journal"),
+					LinkTemplate.of(JournalController.class, "getEntries", String.class, String.class,
+							String.class, Integer.class, LocalDate.class, LocalDate.class, JournalEntry.WellBeing.class,
+							WebRequest.class).toLink("journal", userName));
+		}
+	}
+
+	/**
+	 * Unit-Test for links created without a current request.
+	 */
+	@Test
+	void linksWithoutRequest() {
+		RequestContextHolder.resetRequestAttributes();
+
+		assertSameHalLink(linkTo(methodOn(JournalController.class).getEntry(42L, null)).withSelfRel(),
+				LinkTemplate.of(JournalController.class, "getEntry", Long.class, WebRequest.class)
+						.toLink("self", 42L));
+	}
+}
\ No newline at end of file
@@ -1,8 +1,11 @@
 package io.github.neiroukh.gratitudejournal.journal;
 
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
 import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntryDTO;
 import io.github.neiroukh.gratitudejournal.journal.id_date_pair.IdDatePairDTO;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob;
+import io.github.neiroukh.gratitudejournal.user.dto.SimpleUserDTO;
 
 import io.github.neiroukh.gratitudejournal.TestcontainersConfiguration;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonNode;
@@ -13,12 +16,20 @@ import org.junit.jupiter.api.TestMethodOrder;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureRestTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -27,12 +38,17 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.client.RestTestClient;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.client.RestTestClient.ResponseSpec;
 import org.testcontainers.shaded.com.fasterxml.jackson.core.JsonProcessingException;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.JsonMappingException;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
 /**
  * Unit-Tests for the endpoints in
  * {@link io.github.neiroukh.gratitudejournal.journal.JournalController}, testing the
@@ -58,6 +74,13 @@ class JournalApiTest {
 	@Autowired
 	private RestTestClient restTestClient;
 
+	/**
+	 * EntityManagerFactory of the testing service. Used to read the Hibernate
+	 * statistics.
+	 */
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	/**
 	 * Helper method to perform a POST-Request to add a new entry to a user's
 	 * journal.
@@ -116,6 +139,54 @@ class JournalApiTest {
 		return new IdDatePairDTO[0];
 	}
 
+	/**
+	 * Helper method to perform a GET-Request and parse the JSON response.
+	 * 
+	 * @param uri The URI to request.
+	 * @return The root node of the response.
+	 */
+	JsonNode requestGetJson(String uri) {
+		String jsonResult = restTestClient.get().uri(uri).exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).returnResult().getResponseBody();
+
+		try {
+			return new ObjectMapper().readTree(jsonResult);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Helper method to perform a POST-Request importing entries as a JSON array.
+	 * 
+	 * @param userName The user name of the user to import the entries into.
+	 * @param entries  The entries to import.
+	 * @return {@link ResponseSpec} of the request.
+	 */
+	ResponseSpec requestImportEntries(String userName, List<DatedJournalEntryDTO> entries) {
+		return restTestClient.post()
+				.uri("http://localhost:%d/journal/%s/import".formatted(port, userName))
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(entries)
+				.exchange();
+	}
+
+	/**
+	 * Helper method to perform a POST-Request importing entries as NDJSON.
+	 * 
+	 * @param userName The user name of the user to import the entries into.
+	 * @param ndjson   The entries to import, one JSON object per line.
+	 * @return {@link ResponseSpec} of the request.
+	 */
+	ResponseSpec requestImportEntriesNdjson(String userName, String ndjson) {
+		return restTestClient.post()
+				.uri("http://localhost:%d/journal/%s/import".formatted(port, userName))
+				.contentType(MediaType.parseMediaType(JournalController.APPLICATION_NDJSON_VALUE))
+				.body(ndjson)
+				.exchange();
+	}
+
 	/**
 	 * Helper method to perform a GET-Request on a specific journal entry.
 	 * 
@@ -143,6 +214,26 @@ class JournalApiTest {
 				.exchange();
 	}
 
+	/**
+	 * Helper method to perform a PATCH-Request on a specific journal entry.
+	 * 
+	 * @param journalEntryId The id of the journal entry to update.
+	 * @param ifMatch        The ETag the changes are based on. Omitted if null.
+	 * @param patch          The JSON Merge Patch document to send.
+	 * @return {@link ResponseSpec} of the request.
+	 */
+	ResponseSpec requestPatchEntry(Long journalEntryId, String ifMatch, String patch) {
+		return restTestClient.patch()
+				.uri("http://localhost:%d/journal/entry/%d".formatted(port, journalEntryId))
+				.contentType(MediaType.parseMediaType("application/merge-patch+json"))
+				.headers(headers -> {
+					if (ifMatch != null)
+						headers.setIfMatch(ifMatch);
+				})
+				.body(patch)
+				.exchange();
+	}
+
 	/**
 	 * Helper method to perform a DELETE-Request on a specific journal entry.
 	 * 
@@ -190,6 +281,26 @@ class JournalApiTest {
 		requestAddEntry("test1UserNameJournal", journalEntryDTO).expectStatus().isEqualTo(HttpStatusCode.valueOf(409));
 	}
 
+	/**
+	 * Unit-Test checking that a POST-Request adding a new entry costs a single
+	 * lookup and a single INSERT, without loading the user, its journal or its
+	 * entries.
+	 */
+	@Test
+	void addEntryQueryCount() {
+		JournalEntryDTO journalEntryDTO = new JournalEntryDTO(JournalEntry.WellBeing.GOOD, "A", "AAA", "B",
+				"BBB");
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		statistics.clear();
+		requestAddEntry("test5UserNameJournal", journalEntryDTO).expectStatus().isCreated();
+
+		assertEquals(1, statistics.getQueryExecutionCount());
+		assertEquals(1, statistics.getEntityInsertCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+		assertEquals(0, statistics.getCollectionLoadCount());
+	}
+
 	/**
 	 * Unit-Test for POST-Request adding a new entry for a non-existing user.
 	 */
@@ -241,6 +352,278 @@ class JournalApiTest {
 		requestGetEntries("thisUserDoesNotExist").expectStatus().isNotFound();
 	}
 
+	/**
+	 * Unit-Test for GET-Requests on the journal of a user that is deleted and
+	 * created again once the deletion job is completed. The cached ids of the
+	 * deleted user must not be used.
+	 * 
+	 * @throws InterruptedException The test thread was interrupted while waiting
+	 *                              for the deletion job.
+	 */
+	@Test
+	void getEntriesOfRecreatedUser() throws InterruptedException {
+		String userName = "recreatedUserNameJournal";
+		SimpleUserDTO simpleUserDTO = new SimpleUserDTO("recreatedFirstName", "recreatedLastName");
+		String userUri = "http://localhost:%d/user/%s".formatted(port, userName);
+
+		restTestClient.post().uri(userUri).body(simpleUserDTO).exchange().expectStatus().isCreated();
+		requestAddEntry(userName, new JournalEntryDTO(JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB"))
+				.expectStatus().isCreated();
+		assertEquals(1, requestGetEntriesWithResult(userName).length);
+
+		URI location = restTestClient.delete().uri(userUri).exchange().expectStatus().isAccepted()
+				.returnResult().getResponseHeaders().getLocation();
+		assertNotNull(location);
+		requestGetEntries(userName).expectStatus().isNotFound();
+
+		UserDeletionJob.Status status = null;
+		for (int attempt = 0; attempt < 100 && status != UserDeletionJob.Status.COMPLETED; attempt++) {
+			if (attempt > 0)
+				Thread.sleep(100);
+			status = restTestClient.get().uri(location).exchange().expectStatus().isOk()
+					.expectBody(UserDeletionJob.class).returnResult().getResponseBody().getStatus();
+		}
+		assertEquals(UserDeletionJob.Status.COMPLETED, status);
+
+		restTestClient.post().uri(userUri).body(simpleUserDTO).exchange().expectStatus().isCreated();
+		assertEquals(0, requestGetEntriesWithResult(userName).length);
+	}
+
+	/**
+	 * Unit-Test for GET-Requests on a user's journal with invalid pagination
+	 * parameters.
+	 */
+	@Test
+	void getEntriesWithInvalidPageRequest() {
+		restTestClient.get()
+				.uri("http://localhost:%d/journal/%s?before=%s".formatted(port, "test1UserNameJournal", "invalid"))
+				.exchange().expectStatus().isBadRequest();
+		restTestClient.get()
+				.uri("http://localhost:%d/journal/%s?size=%d".formatted(port, "test1UserNameJournal", 0))
+				.exchange().expectStatus().isBadRequest();
+		restTestClient.get()
+				.uri("http://localhost:%d/journal/%s?before=%s&after=%s".formatted(port, "test1UserNameJournal",
+						"MjAyNi0wMS0wMToy", "MjAyNi0wMS0wMToy"))
+				.exchange().expectStatus().isBadRequest();
+	}
+
+	/**
+	 * Unit-Test for POST-Requests importing entries as JSON array and NDJSON,
+	 * followed by paging through the imported journal in both directions.
+	 */
+	@Test
+	void importEntries() {
+		String userName = "test6UserNameJournal";
+		LocalDate today = LocalDate.now();
+
+		List<DatedJournalEntryDTO> entries = new ArrayList<>();
+		for (int i = 1; i <= 60; i++)
+			entries.add(new DatedJournalEntryDTO(today.minusDays(i), JournalEntry.WellBeing.GOOD, "A", "AAA", "B",
+					"BBB"));
+		requestImportEntries(userName, entries).expectStatus().isCreated()
+				.expectBody().jsonPath("$.importedEntries").isEqualTo(60);
+
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 61; i <= 120; i++)
+			ndjson.append("{\"date\":\"%s\",\"wellBeing\":\"BAD\",\"gratefulForToday\":\"C\"}\n"
+					.formatted(today.minusDays(i)));
+		requestImportEntriesNdjson(userName, ndjson.toString()).expectStatus().isCreated()
+				.expectBody().jsonPath("$.importedEntries").isEqualTo(60);
+
+		List<LocalDate> dates = new ArrayList<>();
+		String uri = "http://localhost:%d/journal/%s?size=50".formatted(port, userName);
+		int pages = 0;
+		JsonNode page;
+		do {
+			page = requestGetJson(uri);
+			for (JsonNode node : page.path("_embedded").path("idDatePairDTOList"))
+				dates.add(LocalDate.parse(node.get("date").asText()));
+			uri = page.path("_links").path("next").path("href").asText(null);
+			pages++;
+		} while (uri != null);
+
+		assertEquals(3, pages);
+		assertEquals(120, dates.size());
+		for (int i = 0; i < dates.size(); i++)
+			assertEquals(today.minusDays(i + 1), dates.get(i));
+
+		JsonNode previousPage = requestGetJson(page.path("_links").path("prev").path("href").asText());
+		JsonNode previousEntries = previousPage.path("_embedded").path("idDatePairDTOList");
+		assertEquals(50, previousEntries.size());
+		assertEquals(today.minusDays(51), LocalDate.parse(previousEntries.get(0).get("date").asText()));
+
+		requestImportEntries(userName, List.of(new DatedJournalEntryDTO(today.minusDays(200),
+				JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB"),
+				new DatedJournalEntryDTO(today.minusDays(30), JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB")))
+				.expectStatus().isEqualTo(HttpStatusCode.valueOf(409));
+		assertEquals(120, requestGetJson("http://localhost:%d/journal/%s?size=200".formatted(port, userName))
+				.path("_embedded").path("idDatePairDTOList").size());
+	}
+
+	/**
+	 * Unit-Test for POST-Requests importing invalid entries.
+	 */
+	@Test
+	void importInvalidEntries() {
+		LocalDate today = LocalDate.now();
+		DatedJournalEntryDTO entry = new DatedJournalEntryDTO(today.minusDays(300), JournalEntry.WellBeing.GOOD, "A",
+				"AAA", "B", "BBB");
+
+		requestImportEntries("test6UserNameJournal", List.of(new DatedJournalEntryDTO(today.plusDays(1),
+				JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB"))).expectStatus().isBadRequest();
+		requestImportEntries("test6UserNameJournal", List.of(entry, entry)).expectStatus().isBadRequest();
+		requestImportEntriesNdjson("test6UserNameJournal", "{\"date\":").expectStatus().isBadRequest();
+		requestImportEntries("test6UserNameJournal", Arrays.asList(entry, null)).expectStatus().isBadRequest();
+		String line = "{\"date\":\"%s\",\"wellBeing\":\"GOOD\"}\n".formatted(today.minusDays(300));
+		requestImportEntriesNdjson("test6UserNameJournal", line + "null\n").expectStatus().isBadRequest();
+		requestImportEntriesNdjson("test6UserNameJournal", line + "{\"date\":").expectStatus().isBadRequest();
+		assertTrue(requestGetJson("http://localhost:%d/journal/test6UserNameJournal?from=%s&to=%s".formatted(port,
+				today.minusDays(300), today.minusDays(300))).path("_embedded").isMissingNode());
+		requestImportEntries("thisUserDoesNotExist", List.of(entry)).expectStatus().isNotFound();
+	}
+
+	/**
+	 * Unit-Test for GET-Requests on a user's journal filtered by a range of dates
+	 * and a well-being, followed by paging through the filtered journal.
+	 */
+	@Test
+	void getEntriesFiltered() {
+		String userName = "test15UserNameJournal";
+		LocalDate today = LocalDate.now();
+
+		List<DatedJournalEntryDTO> entries = new ArrayList<>();
+		for (int i = 1; i <= 30; i++)
+			entries.add(new DatedJournalEntryDTO(today.minusDays(i),
+					i % 2 == 0 ? JournalEntry.WellBeing.GOOD : JournalEntry.WellBeing.BAD, "A", "AAA", "B", "BBB"));
+		requestImportEntries(userName, entries).expectStatus().isCreated();
+
+		JsonNode page = requestGetJson("http://localhost:%d/journal/%s?from=%s&to=%s".formatted(port, userName,
+				today.minusDays(10), today.minusDays(6)));
+		JsonNode pairs = page.path("_embedded").path("idDatePairDTOList");
+		assertEquals(5, pairs.size());
+		assertEquals(today.minusDays(6), LocalDate.parse(pairs.get(0).get("date").asText()));
+		assertEquals(today.minusDays(10), LocalDate.parse(pairs.get(4).get("date").asText()));
+
+		List<LocalDate> dates = new ArrayList<>();
+		String uri = "http://localhost:%d/journal/%s?size=4&from=%s&wellBeing=GOOD".formatted(port, userName,
+				today.minusDays(20));
+		int pages = 0;
+		do {
+			page = requestGetJson(uri);
+			for (JsonNode node : page.path("_embedded").path("idDatePairDTOList"))
+				dates.add(LocalDate.parse(node.get("date").asText()));
+			uri = page.path("_links").path("next").path("href").asText(null);
+			pages++;
+		} while (uri != null);
+
+		assertEquals(3, pages);
+		assertEquals(10, dates.size());
+		for (int i = 0; i < dates.size(); i++)
+			assertEquals(today.minusDays(2 * (i + 1)), dates.get(i));
+
+		JsonNode previousPage = requestGetJson(page.path("_links").path("prev").path("href").asText());
+		JsonNode previousEntries = previousPage.path("_embedded").path("idDatePairDTOList");
+		assertEquals(4, previousEntries.size());
+		assertEquals(today.minusDays(10), LocalDate.parse(previousEntries.get(0).get("date").asText()));
+
+		assertEquals(0, requestGetJson("http://localhost:%d/journal/%s?wellBeing=FANTASTIC".formatted(port,
+				userName)).path("_embedded").path("idDatePairDTOList").size());
+		restTestClient.get().uri("http://localhost:%d/journal/%s?from=%s&to=%s".formatted(port, userName,
+				today.minusDays(5), today.minusDays(6))).exchange().expectStatus().isBadRequest();
+		restTestClient.get().uri("http://localhost:%d/journal/%s?wellBeing=%s".formatted(port, userName, "invalid"))
+				.exchange().expectStatus().isBadRequest();
+	}
+
+	/**
+	 * Unit-Test for GET-Requests exporting a user's journal as NDJSON and CSV.
+	 */
+	@Test
+	void exportEntries() throws JsonProcessingException {
+		String userName = "test7UserNameJournal";
+		LocalDate today = LocalDate.now();
+		requestImportEntries(userName, List.of(
+				new DatedJournalEntryDTO(today.minusDays(2), JournalEntry.WellBeing.BAD, "A", "AAA", "B", "BBB"),
+				new DatedJournalEntryDTO(today.minusDays(1), JournalEntry.WellBeing.GOOD, "Tea, hot",
+						"It is \"warm\"", "Friends", "Line\nbreak")))
+				.expectStatus().isCreated();
+
+		String ndjson = restTestClient.get()
+				.uri("http://localhost:%d/journal/%s/export".formatted(port, userName))
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(JournalController.APPLICATION_NDJSON_VALUE)
+				.expectBody(String.class).returnResult().getResponseBody();
+		String[] lines = ndjson.split("\n");
+		ObjectMapper mapper = new ObjectMapper();
+		assertEquals(2, lines.length);
+		assertEquals(today.minusDays(1).toString(), mapper.readTree(lines[0]).get("date").asText());
+		assertEquals("Tea, hot", mapper.readTree(lines[0]).get("gratefulForToday").asText());
+		assertEquals(today.minusDays(2).toString(), mapper.readTree(lines[1]).get("date").asText());
+
+		String csv = restTestClient.get()
+				.uri("http://localhost:%d/journal/%s/export?format=CSV".formatted(port, userName))
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith("text/csv")
+				.expectBody(String.class).returnResult().getResponseBody();
+		assertEquals("date,wellBeing,gratefulForToday,gratefulForTodayDescription,gratefulForInLife,"
+				+ "gratefulForInLifeDescription\r\n"
+				+ today.minusDays(1) + ",GOOD,\"Tea, hot\",\"It is \"\"warm\"\"\",Friends,\"Line\nbreak\"\r\n"
+				+ today.minusDays(2) + ",BAD,A,AAA,B,BBB\r\n", csv);
+
+		restTestClient.get()
+				.uri("http://localhost:%d/journal/%s/export".formatted(port, "thisUserDoesNotExist"))
+				.exchange().expectStatus().isNotFound();
+		restTestClient.get()
+				.uri("http://localhost:%d/journal/%s/export?format=XML".formatted(port, userName))
+				.exchange().expectStatus().isBadRequest();
+	}
+
+	/**
+	 * Unit-Test for conditional GET-Requests on a user's journal and a journal
+	 * entry. Unchanged resources are answered with 304, changed resources with a
+	 * new ETag.
+	 */
+	@Test
+	void getEntriesAndEntryNotModified() {
+		String userName = "test8UserNameJournal";
+		String journalUri = "http://localhost:%d/journal/%s".formatted(port, userName);
+
+		String journalETag = restTestClient.get().uri(journalUri).exchange()
+				.expectStatus().isOk()
+				.returnResult().getResponseHeaders().getETag();
+		assertNotNull(journalETag);
+		restTestClient.get().uri(journalUri).header(HttpHeaders.IF_NONE_MATCH, journalETag).exchange()
+				.expectStatus().isNotModified();
+
+		JournalEntryDTO journalEntryDTO = new JournalEntryDTO(JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB");
+		requestAddEntry(userName, journalEntryDTO).expectStatus().isCreated();
+
+		String changedJournalETag = restTestClient.get().uri(journalUri)
+				.header(HttpHeaders.IF_NONE_MATCH, journalETag).exchange()
+				.expectStatus().isOk()
+				.returnResult().getResponseHeaders().getETag();
+		assertNotEquals(journalETag, changedJournalETag);
+
+		Long entryId = requestGetEntriesWithResult(userName)[0].id();
+		String entryETag = requestGetEntry(entryId)
+				.expectStatus().isOk()
+				.returnResult().getResponseHeaders().getETag();
+		assertNotNull(entryETag);
+		restTestClient.get().uri("http://localhost:%d/journal/entry/%d".formatted(port, entryId))
+				.header(HttpHeaders.IF_NONE_MATCH, entryETag).exchange()
+				.expectStatus().isNotModified();
+
+		requestPutEntry(entryId, new JournalEntryDTO(JournalEntry.WellBeing.BAD, "C", "CCC", "D", "DDD"))
+				.expectStatus().isOk();
+		restTestClient.get().uri("http://localhost:%d/journal/entry/%d".formatted(port, entryId))
+				.header(HttpHeaders.IF_NONE_MATCH, entryETag).exchange()
+				.expectStatus().isOk()
+				.expectHeader().value(HttpHeaders.ETAG, eTag -> assertNotEquals(entryETag, eTag));
+		restTestClient.get().uri(journalUri).header(HttpHeaders.IF_NONE_MATCH, changedJournalETag).exchange()
+				.expectStatus().isNotModified();
+	}
+
 	/**
 	 * Unit-Test for PUT-Request on a journal entry.
 	 */
@@ -266,7 +649,11 @@ class JournalApiTest {
 
 		JournalEntryDTO updatedEntryDTO = new JournalEntryDTO(JournalEntry.WellBeing.GOOD, "C", "CCC", "DDD",
 				"DDD");
-		requestPutEntry(journalEntryId, updatedEntryDTO).expectStatus().isOk();
+		requestPutEntry(journalEntryId, updatedEntryDTO).expectStatus().isOk().expectBody()
+				.jsonPath("$.journalEntryId").isEqualTo(journalEntryId)
+				.jsonPath("$.date").isEqualTo(entries[0].date().toString())
+				.jsonPath("$.gratefulForInLife").isEqualTo("DDD")
+				.jsonPath("$._links.self.href").exists();
 
 		requestGetEntry(entries[0].id()).expectStatus().isOk().expectBody(JournalEntry.class)
 				.value(entry -> {
@@ -274,6 +661,481 @@ class JournalApiTest {
 				});
 	}
 
+	/**
+	 * Unit-Test for PATCH-Requests on a journal entry, changing only the sent
+	 * fields of the expected version. The If-Match header may list several ETags
+	 * or be "*", weak ETags never match.
+	 */
+	@Test
+	void patchEntry() {
+		String userName = "test9UserNameJournal";
+		JournalEntryDTO journalEntryDTO = new JournalEntryDTO(JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB");
+		requestAddEntry(userName, journalEntryDTO).expectStatus().isCreated();
+		Long entryId = requestGetEntriesWithResult(userName)[0].id();
+		String eTag = requestGetEntry(entryId).returnResult().getResponseHeaders().getETag();
+
+		requestPatchEntry(entryId, null, "{\"gratefulForToday\":\"C\"}")
+				.expectStatus().isEqualTo(HttpStatusCode.valueOf(428));
+		requestPatchEntry(entryId, "\"-1\"", "{\"gratefulForToday\":\"C\"}")
+				.expectStatus().isEqualTo(HttpStatusCode.valueOf(412));
+		requestPatchEntry(entryId, "W/" + eTag, "{\"gratefulForToday\":\"C\"}")
+				.expectStatus().isEqualTo(HttpStatusCode.valueOf(412));
+
+		String patchedETag = requestPatchEntry(entryId, "\"-1\", " + eTag,
+				"{\"wellBeing\":\"BAD\",\"gratefulForToday\":\"C\",\"gratefulForInLifeDescription\":null}")
+				.expectStatus().isOk()
+				.returnResult().getResponseHeaders().getETag();
+		assertNotEquals(eTag, patchedETag);
+
+		requestGetEntry(entryId).expectStatus().isOk().expectBody(JournalEntry.class)
+				.value(entry -> {
+					assertEquals(JournalEntry.WellBeing.BAD, entry.getWellBeing());
+					assertEquals("C", entry.getGratefulForToday());
+					assertEquals("AAA", entry.getGratefulForTodayDescription());
+					assertEquals("B", entry.getGratefulForInLife());
+					assertNull(entry.getGratefulForInLifeDescription());
+				});
+
+		requestPatchEntry(entryId, eTag, "{\"gratefulForToday\":\"D\"}")
+				.expectStatus().isEqualTo(HttpStatusCode.valueOf(412));
+		requestPatchEntry(Long.MIN_VALUE, eTag, "{\"gratefulForToday\":\"D\"}").expectStatus().isNotFound();
+
+		requestPatchEntry(entryId, "*", "{\"gratefulForToday\":\"D\"}").expectStatus().isOk()
+				.expectBody().jsonPath("$.gratefulForToday").isEqualTo("D");
+		requestPatchEntry(Long.MIN_VALUE, "*", "{\"gratefulForToday\":\"D\"}").expectStatus().isNotFound();
+	}
+
+	/**
+	 * Unit-Test for cross-origin requests: PATCH-Requests with an If-Match header
+	 * pass the preflight, and the ETag of a response is exposed to the client.
+	 */
+	@Test
+	void crossOriginRequests() {
+		String origin = "http://localhost:3000";
+		restTestClient.options().uri("http://localhost:%d/journal/entry/1".formatted(port))
+				.header(HttpHeaders.ORIGIN, origin)
+				.header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH")
+				.header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, HttpHeaders.IF_MATCH)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().value(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+						methods -> assertTrue(methods.contains("PATCH")));
+
+		restTestClient.get().uri("http://localhost:%d/journal/%s".formatted(port, "test9UserNameJournal"))
+				.header(HttpHeaders.ORIGIN, origin)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().valueEquals(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, HttpHeaders.ETAG);
+	}
+
+	/**
+	 * Unit-Test checking that PUT- and DELETE-Requests on a journal entry are
+	 * executed without loading the entry. The PUT-Request costs a locking read of
+	 * the entry's well-being and a single UPDATE, plus an upsert of the well-being
+	 * rollups and an UPDATE of the calendar if the well-being changed. The
+	 * DELETE-Request costs the locking read, a single DELETE, a locking read of
+	 * the journal's streak state, a recomputation of the streaks, as the entry was
+	 * the only day of the longest streak, an UPDATE of the journal's streak state
+	 * and version, the upsert and the UPDATE of the calendar.
+	 */
+	@Test
+	void putAndDeleteEntryStatementCount() {
+		String userName = "test10UserNameJournal";
+		JournalEntryDTO journalEntryDTO = new JournalEntryDTO(JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB");
+		requestAddEntry(userName, journalEntryDTO).expectStatus().isCreated();
+		Long entryId = requestGetEntriesWithResult(userName)[0].id();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		statistics.clear();
+		requestPutEntry(entryId, new JournalEntryDTO(JournalEntry.WellBeing.BAD, "C", "CCC", "D", "DDD"))
+				.expectStatus().isOk();
+
+		assertEquals(4, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+
+		statistics.clear();
+		requestPutEntry(entryId, new JournalEntryDTO(JournalEntry.WellBeing.BAD, "E", "EEE", "F", "FFF"))
+				.expectStatus().isOk();
+
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+
+		statistics.clear();
+		requestDeleteEntry(entryId).expectStatus().isNoContent();
+
+		assertEquals(7, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+
+		requestGetEntry(entryId).expectStatus().isNotFound();
+	}
+
+	/**
+	 * Unit-Test checking that PUT- and DELETE-Requests on a journal entry only
+	 * evict that entry from the second-level cache, while the other cached entries
+	 * stay cached.
+	 */
+	@Test
+	void putAndDeleteEntryEvictOnlyTheEntry() {
+		String userName = "test16UserNameJournal";
+		LocalDate today = LocalDate.now();
+		requestImportEntries(userName, List.of(
+				new DatedJournalEntryDTO(today.minusDays(1), JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB"),
+				new DatedJournalEntryDTO(today.minusDays(2), JournalEntry.WellBeing.GOOD, "A", "AAA", "B", "BBB")))
+				.expectStatus().isCreated();
+		IdDatePairDTO[] entries = requestGetEntriesWithResult(userName);
+		Long writtenId = entries[0].id();
+		Long otherId = entries[1].id();
+		Cache cache = entityManagerFactory.getCache();
+
+		requestGetEntry(writtenId).expectStatus().isOk();
+		requestGetEntry(otherId).expectStatus().isOk();
+		assertTrue(cache.contains(JournalEntry.class, writtenId));
+		assertTrue(cache.contains(JournalEntry.class, otherId));
+
+		requestPutEntry(writtenId, new JournalEntryDTO(JournalEntry.WellBeing.BAD, "C", "CCC", "D", "DDD"))
+				.expectStatus().isOk();
+		assertFalse(cache.contains(JournalEntry.class, writtenId));
+		assertTrue(cache.contains(JournalEntry.class, otherId));
+		requestGetEntry(writtenId).expectStatus().isOk()
+				.expectBody().jsonPath("$.gratefulForToday").isEqualTo("C");
+
+		requestDeleteEntry(writtenId).expectStatus().isNoContent();
+		assertFalse(cache.contains(JournalEntry.class, writtenId));
+		assertTrue(cache.contains(JournalEntry.class, otherId));
+		requestGetEntry(writtenId).expectStatus().isNotFound();
+	}
+
+	/**
+	 * Unit-Test for GET-Requests on the well-being statistics of a journal, which
+	 * follow the entries as they are imported, updated, patched and deleted.
+	 */
+	@Test
+	void getWellBeingStats() {
+		String userName = "test11UserNameJournal";
+		String weekUri = "http://localhost:%d/journal/%s/stats/wellbeing?granularity=week".formatted(port, userName);
+		String monthUri = "http://localhost:%d/journal/%s/stats/wellbeing?granularity=MONTH".formatted(port,
+				userName);
+
+		restTestClient.get().uri(weekUri).exchange().expectStatus().isOk()
+				.expectBody().jsonPath("$.buckets").isEmpty();
+
+		requestImportEntries(userName, List.of(
+				new DatedJournalEntryDTO(LocalDate.of(2024, 1, 1), JournalEntry.WellBeing.GOOD, "A", null, null, null),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 1, 3), JournalEntry.WellBeing.BAD, "A", null, null, null),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 1, 8), JournalEntry.WellBeing.FANTASTIC, "A", null, null,
+						null),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 2, 4), JournalEntry.WellBeing.AWFUL, "A", null, null,
+						null)))
+				.expectStatus().isCreated();
+
+		restTestClient.get().uri(weekUri).exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$.granularity").isEqualTo("WEEK")
+				.jsonPath("$.buckets.length()").isEqualTo(3)
+				.jsonPath("$.buckets[0].start").isEqualTo("2024-01-29")
+				.jsonPath("$.buckets[0].meanScore").isEqualTo(1.0)
+				.jsonPath("$.buckets[1].start").isEqualTo("2024-01-08")
+				.jsonPath("$.buckets[1].distribution.FANTASTIC").isEqualTo(1)
+				.jsonPath("$.buckets[2].start").isEqualTo("2024-01-01")
+				.jsonPath("$.buckets[2].entries").isEqualTo(2)
+				.jsonPath("$.buckets[2].meanScore").isEqualTo(4.0)
+				.jsonPath("$.buckets[2].distribution.GOOD").isEqualTo(1)
+				.jsonPath("$.buckets[2].distribution.BAD").isEqualTo(1)
+				.jsonPath("$.buckets[2].distribution.NEUTRAL").isEqualTo(0);
+		restTestClient.get().uri(monthUri).exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$.buckets.length()").isEqualTo(2)
+				.jsonPath("$.buckets[0].start").isEqualTo("2024-02-01")
+				.jsonPath("$.buckets[1].start").isEqualTo("2024-01-01")
+				.jsonPath("$.buckets[1].entries").isEqualTo(3)
+				.jsonPath("$.buckets[1].meanScore").isEqualTo(5.0);
+
+		IdDatePairDTO[] entries = requestGetEntriesWithResult(userName);
+		assertEquals(4, entries.length);
+		requestPutEntry(entries[2].id(), new JournalEntryDTO(JournalEntry.WellBeing.FANTASTIC, "A", null, null, null))
+				.expectStatus().isOk();
+		requestDeleteEntry(entries[0].id()).expectStatus().isNoContent();
+		String eTag = requestGetEntry(entries[3].id()).returnResult().getResponseHeaders().getETag();
+		requestPatchEntry(entries[3].id(), eTag, "{\"wellBeing\":null}").expectStatus().isOk();
+
+		restTestClient.get().uri(weekUri).exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$.buckets.length()").isEqualTo(2)
+				.jsonPath("$.buckets[1].start").isEqualTo("2024-01-01")
+				.jsonPath("$.buckets[1].entries").isEqualTo(1)
+				.jsonPath("$.buckets[1].meanScore").isEqualTo(7.0);
+		restTestClient.get().uri(monthUri).exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$.buckets.length()").isEqualTo(1)
+				.jsonPath("$.buckets[0].entries").isEqualTo(2)
+				.jsonPath("$.buckets[0].distribution.FANTASTIC").isEqualTo(2);
+
+		restTestClient.get().uri(weekUri.replace("week", "day")).exchange().expectStatus().isBadRequest();
+		restTestClient.get().uri("http://localhost:%d/journal/thisUserDoesNotExist/stats/wellbeing".formatted(port))
+				.exchange().expectStatus().isNotFound();
+	}
+
+	/**
+	 * Helper method to assert the streaks of a journal, both of the streak
+	 * resource and the listing of the journal.
+	 * 
+	 * @param userName     The user name of the user owning the journal.
+	 * @param current      The expected length of the current streak.
+	 * @param currentStart The expected first day of the current streak.
+	 * @param longest      The expected length of the longest streak.
+	 * @param longestEnd   The expected last day of the longest streak.
+	 */
+	void assertStreak(String userName, int current, LocalDate currentStart, int longest, LocalDate longestEnd) {
+		restTestClient.get().uri("http://localhost:%d/journal/%s/streak".formatted(port, userName)).exchange()
+				.expectStatus().isOk().expectBody()
+				.jsonPath("$.currentStreak").isEqualTo(current)
+				.jsonPath("$.currentStreakStart").isEqualTo(currentStart.toString())
+				.jsonPath("$.longestStreak").isEqualTo(longest)
+				.jsonPath("$.longestStreakStart").isEqualTo(longestEnd.minusDays(longest - 1).toString())
+				.jsonPath("$.longestStreakEnd").isEqualTo(longestEnd.toString());
+		restTestClient.get().uri("http://localhost:%d/journal/%s".formatted(port, userName)).exchange()
+				.expectStatus().isOk().expectBody()
+				.jsonPath("$.streak.currentStreak").isEqualTo(current)
+				.jsonPath("$.streak.currentStreakStart").isEqualTo(currentStart.toString())
+				.jsonPath("$.streak.longestStreak").isEqualTo(longest)
+				.jsonPath("$.streak.longestStreakEnd").isEqualTo(longestEnd.toString());
+	}
+
+	/**
+	 * Helper method to delete the entry of a date from a journal.
+	 * 
+	 * @param userName The user name of the user owning the journal.
+	 * @param date     The date of the entry to delete.
+	 */
+	void deleteEntryOfDate(String userName, LocalDate date) {
+		for (IdDatePairDTO entry : requestGetEntriesWithResult(userName))
+			if (entry.date().equals(date))
+				requestDeleteEntry(entry.id()).expectStatus().isNoContent();
+	}
+
+	/**
+	 * Unit-Test for GET-Requests on the streaks of a journal, which follow the
+	 * entries as they are added, imported and deleted, including deletions that
+	 * split the current streak or shorten the longest streak. The streaks are
+	 * also part of the journal's listing.
+	 */
+	@Test
+	void getStreak() {
+		String userName = "test12UserNameJournal";
+		LocalDate today = LocalDate.now();
+
+		restTestClient.get().uri("http://localhost:%d/journal/%s/streak".formatted(port, userName)).exchange()
+				.expectStatus().isOk().expectBody()
+				.jsonPath("$.currentStreak").isEqualTo(0)
+				.jsonPath("$.longestStreak").isEqualTo(0)
+				.jsonPath("$._links.journal.href").exists();
+		restTestClient.get().uri("http://localhost:%d/journal/%s".formatted(port, userName)).exchange()
+				.expectStatus().isOk().expectBody()
+				.jsonPath("$.streak.currentStreak").isEqualTo(0)
+				.jsonPath("$.streak.longestStreak").isEqualTo(0)
+				.jsonPath("$._links.streak.href")
+				.isEqualTo("http://localhost:%d/journal/%s/streak".formatted(port, userName));
+
+		requestImportEntries(userName, List.of(
+				new DatedJournalEntryDTO(today.minusDays(5), null, "A", null, null, null),
+				new DatedJournalEntryDTO(today.minusDays(4), null, "A", null, null, null),
+				new DatedJournalEntryDTO(today.minusDays(3), null, "A", null, null, null),
+				new DatedJournalEntryDTO(today.minusDays(1), null, "A", null, null, null)))
+				.expectStatus().isCreated();
+		assertStreak(userName, 1, today.minusDays(1), 3, today.minusDays(3));
+
+		requestAddEntry(userName, new JournalEntryDTO(JournalEntry.WellBeing.GOOD, "A", null, null, null))
+				.expectStatus().isCreated();
+		assertStreak(userName, 2, today.minusDays(1), 3, today.minusDays(3));
+
+		// Splits the current streak.
+		deleteEntryOfDate(userName, today.minusDays(1));
+		assertStreak(userName, 1, today, 3, today.minusDays(3));
+
+		// Joins all entries to a single streak.
+		requestImportEntries(userName, List.of(
+				new DatedJournalEntryDTO(today.minusDays(2), null, "A", null, null, null),
+				new DatedJournalEntryDTO(today.minusDays(1), null, "A", null, null, null)))
+				.expectStatus().isCreated();
+		assertStreak(userName, 6, today.minusDays(5), 6, today);
+
+		// Splits the current and the longest streak.
+		deleteEntryOfDate(userName, today.minusDays(3));
+		assertStreak(userName, 3, today.minusDays(2), 3, today);
+
+		// Shortens the current and the longest streak, leaving two streaks of equal
+		// length, of which the earlier one is the longest.
+		deleteEntryOfDate(userName, today);
+		assertStreak(userName, 2, today.minusDays(2), 2, today.minusDays(4));
+
+		// Shortens the longest streak, which leaves the current streak as longest.
+		deleteEntryOfDate(userName, today.minusDays(5));
+		assertStreak(userName, 2, today.minusDays(2), 2, today.minusDays(1));
+	}
+
+	/**
+	 * Unit-Test for GET-Requests searching the gratitude fields of a journal,
+	 * checking the ranking, the pagination and that updates are searchable.
+	 */
+	@Test
+	void searchEntries() {
+		String userName = "test13UserNameJournal";
+		String searchUri = "http://localhost:%d/journal/%s/search?q={q}&size={size}".formatted(port, userName);
+
+		requestImportEntries(userName, List.of(
+				new DatedJournalEntryDTO(LocalDate.of(2024, 3, 1), null, "My sister",
+						"My sister called and my sister made me laugh.", null, null),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 3, 2), null, "Cake", null, "My family",
+						"Including my sister."),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 3, 3), null, "Sunshine", "A walk in the park.", null,
+						null),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 3, 4), null, "Music", null, "Friends", null)))
+				.expectStatus().isCreated();
+
+		restTestClient.get().uri(searchUri, "sister", 10).exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$._embedded.idDatePairDTOList.length()").isEqualTo(2)
+				.jsonPath("$._embedded.idDatePairDTOList[0].date").isEqualTo("2024-03-01")
+				.jsonPath("$._embedded.idDatePairDTOList[1].date").isEqualTo("2024-03-02")
+				.jsonPath("$._links.journal.href").exists()
+				.jsonPath("$._links.next").doesNotExist();
+
+		JsonNode page = requestGetJson(
+				"http://localhost:%d/journal/%s/search?q=sister&size=1".formatted(port, userName));
+		assertEquals(1, page.path("_embedded").path("idDatePairDTOList").size());
+		assertEquals("2024-03-01", page.path("_embedded").path("idDatePairDTOList").get(0).get("date").asText());
+		assertTrue(page.path("_links").path("prev").isMissingNode());
+
+		page = requestGetJson(page.path("_links").path("next").path("href").asText());
+		assertEquals(1, page.path("_embedded").path("idDatePairDTOList").size());
+		assertEquals("2024-03-02", page.path("_embedded").path("idDatePairDTOList").get(0).get("date").asText());
+		assertTrue(page.path("_links").path("next").isMissingNode());
+		assertNotNull(page.path("_links").path("prev").path("href").asText(null));
+
+		restTestClient.get().uri(searchUri, "brother", 10).exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$._embedded").doesNotExist();
+
+		Long entryId = null;
+		for (IdDatePairDTO entry : requestGetEntriesWithResult(userName))
+			if (entry.date().equals(LocalDate.of(2024, 3, 3)))
+				entryId = entry.id();
+		requestPutEntry(entryId, new JournalEntryDTO(null, "My brother", null, null, null)).expectStatus()
+				.isOk();
+		restTestClient.get().uri(searchUri, "brother", 10).exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$._embedded.idDatePairDTOList.length()").isEqualTo(1)
+				.jsonPath("$._embedded.idDatePairDTOList[0].id").isEqualTo(entryId);
+
+		restTestClient.get().uri(searchUri, " ", 10).exchange().expectStatus().isBadRequest();
+		restTestClient.get().uri(searchUri, "sister", 0).exchange().expectStatus().isBadRequest();
+		restTestClient.get().uri("http://localhost:%d/journal/%s/search?q=sister".formatted(port, "missingUserName"))
+				.exchange().expectStatus().isNotFound();
+	}
+
+	/**
+	 * Unit-Test for GET-Requests searching the gratitude fields of a journal while
+	 * the journal of another user contains the searched words. The entries of the
+	 * other journal are neither found nor change the ranking, so two entries
+	 * matching one word each rank equally and are ordered by date.
+	 */
+	@Test
+	void searchEntriesOfOneJournal() {
+		String userName = "searchUserNameJournal";
+		String otherUserName = "searchOtherUserNameJournal";
+		for (String name : List.of(userName, otherUserName))
+			restTestClient.post().uri("http://localhost:%d/user/%s".formatted(port, name))
+					.body(new SimpleUserDTO("searchFirstName", "searchLastName")).exchange().expectStatus()
+					.isCreated();
+
+		requestImportEntries(userName, List.of(
+				new DatedJournalEntryDTO(LocalDate.of(2024, 3, 1), null, "My sister", null, null, null),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 3, 2), null, "My cake", null, null, null)))
+				.expectStatus().isCreated();
+		List<DatedJournalEntryDTO> otherEntries = new ArrayList<>();
+		for (int day = 1; day <= 5; day++)
+			otherEntries.add(new DatedJournalEntryDTO(LocalDate.of(2024, 3, day), null, "Cake", null, null, null));
+		requestImportEntries(otherUserName, otherEntries).expectStatus().isCreated();
+
+		restTestClient.get().uri("http://localhost:%d/journal/%s/search?q={q}".formatted(port, userName), "sister cake")
+				.exchange().expectStatus().isOk().expectBody()
+				.jsonPath("$._embedded.idDatePairDTOList.length()").isEqualTo(2)
+				.jsonPath("$._embedded.idDatePairDTOList[0].date").isEqualTo("2024-03-02")
+				.jsonPath("$._embedded.idDatePairDTOList[1].date").isEqualTo("2024-03-01");
+	}
+
+	/**
+	 * Helper method to read a bit of a calendar bitset, counting from the most
+	 * significant bit of the first byte.
+	 * 
+	 * @param bits  The bitset.
+	 * @param index The index of the bit.
+	 * @return 1 if the bit is set, 0 otherwise.
+	 */
+	int bit(byte[] bits, int index) {
+		return (bits[index / 8] >> (7 - index % 8)) & 1;
+	}
+
+	/**
+	 * Unit-Test for GET-Requests on the calendar of a journal, which follows the
+	 * entries as they are added, imported, updated and deleted.
+	 */
+	@Test
+	void getCalendar() {
+		String userName = "test14UserNameJournal";
+		String calendarUri = "http://localhost:" + port + "/journal/" + userName + "/calendar/%d?wellBeing=%b";
+
+		requestImportEntries(userName, List.of(
+				new DatedJournalEntryDTO(LocalDate.of(2024, 1, 1), JournalEntry.WellBeing.GOOD, "A", null, null, null),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 1, 2), null, "A", null, null, null),
+				new DatedJournalEntryDTO(LocalDate.of(2024, 12, 31), JournalEntry.WellBeing.FANTASTIC, "A", null,
+						null, null),
+				new DatedJournalEntryDTO(LocalDate.of(2023, 6, 1), JournalEntry.WellBeing.AWFUL, "A", null, null,
+						null)))
+				.expectStatus().isCreated();
+
+		JsonNode calendar = requestGetJson(calendarUri.formatted(2024, false));
+		assertEquals(2024, calendar.get("year").asInt());
+		assertTrue(calendar.path("wellBeing").isMissingNode());
+		byte[] days = Base64.getDecoder().decode(calendar.get("days").asText());
+		assertEquals(46, days.length);
+		int set = 0;
+		for (int i = 0; i < 366; i++)
+			set += bit(days, i);
+		assertEquals(3, set);
+		assertEquals(1, bit(days, 0));
+		assertEquals(1, bit(days, 1));
+		assertEquals(1, bit(days, 365));
+
+		calendar = requestGetJson(calendarUri.formatted(2024, true));
+		byte[] wellBeing = Base64.getDecoder().decode(calendar.get("wellBeing").asText());
+		assertEquals(138, wellBeing.length);
+		assertEquals(JournalEntry.WellBeing.GOOD.getScore(),
+				bit(wellBeing, 0) << 2 | bit(wellBeing, 1) << 1 | bit(wellBeing, 2));
+		assertEquals(0, bit(wellBeing, 3) << 2 | bit(wellBeing, 4) << 1 | bit(wellBeing, 5));
+		assertEquals(JournalEntry.WellBeing.FANTASTIC.getScore(),
+				bit(wellBeing, 1095) << 2 | bit(wellBeing, 1096) << 1 | bit(wellBeing, 1097));
+
+		Long entryId = null;
+		for (IdDatePairDTO entry : requestGetEntriesWithResult(userName))
+			if (entry.date().equals(LocalDate.of(2024, 1, 1)))
+				entryId = entry.id();
+		requestPutEntry(entryId, new JournalEntryDTO(JournalEntry.WellBeing.AWFUL, "A", null, null, null))
+				.expectStatus().isOk();
+		calendar = requestGetJson(calendarUri.formatted(2024, true));
+		wellBeing = Base64.getDecoder().decode(calendar.get("wellBeing").asText());
+		assertEquals(JournalEntry.WellBeing.AWFUL.getScore(),
+				bit(wellBeing, 0) << 2 | bit(wellBeing, 1) << 1 | bit(wellBeing, 2));
+
+		requestDeleteEntry(entryId).expectStatus().isNoContent();
+		calendar = requestGetJson(calendarUri.formatted(2024, true));
+		days = Base64.getDecoder().decode(calendar.get("days").asText());
+		wellBeing = Base64.getDecoder().decode(calendar.get("wellBeing").asText());
+		assertEquals(0, bit(days, 0));
+		assertEquals(1, bit(days, 1));
+		assertEquals(0, bit(wellBeing, 0) << 2 | bit(wellBeing, 1) << 1 | bit(wellBeing, 2));
+
+		days = Base64.getDecoder().decode(requestGetJson(calendarUri.formatted(2023, false)).get("days").asText());
+		assertEquals(1, bit(days, LocalDate.of(2023, 6, 1).getDayOfYear() - 1));
+
+		days = Base64.getDecoder().decode(requestGetJson(calendarUri.formatted(2022, false)).get("days").asText());
+		for (byte b : days)
+			assertEquals(0, b);
+	}
+
 	/**
 	 * Unit-Test for PUT-Request on a non-existing journal entry.
 	 */
@@ -0,0 +1,202 @@
+package io.github.neiroukh.gratitudejournal.lease;
+
+import io.github.neiroukh.gratitudejournal.TestcontainersConfiguration;
+import io.github.neiroukh.gratitudejournal.shard.ShardRing;
+import io.github.neiroukh.gratitudejournal.user.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureRestTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit-Tests for {@link LeaseJobRunner}, {@link Lease} and
+ * {@link JobLeaseRepository}, running jobs of two nodes against the leases
+ * stored in the database. The context is the one of the API tests, so the
+ * database container is shared.
+ * 
+ * @author Afeef Neiroukh
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureRestTestClient
+@ActiveProfiles("test")
+class LeaseJobRunnerTest {
+	/**
+	 * The duration of the leases of the test nodes.
+	 */
+	private static final Duration LEASE_DURATION = Duration.ofSeconds(30);
+
+	@Autowired
+	private JobLeaseRepository repository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ShardRing shardRing;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * The first test node.
+	 */
+	private LeaseJobRunner nodeA;
+
+	/**
+	 * The second test node.
+	 */
+	private LeaseJobRunner nodeB;
+
+	/**
+	 * Creates two nodes sharing the leases of the database.
+	 */
+	@BeforeEach
+	void createNodes() {
+		nodeA = createNode("nodeA");
+		nodeB = createNode("nodeB");
+	}
+
+	/**
+	 * Stops the lease renewals of both nodes.
+	 */
+	@AfterEach
+	void destroyNodes() {
+		nodeA.destroy();
+		nodeB.destroy();
+	}
+
+	/**
+	 * Helper method to create a node.
+	 * 
+	 * @param nodeId The id of the node.
+	 * @return The {@link LeaseJobRunner} of the node.
+	 */
+	LeaseJobRunner createNode(String nodeId) {
+		return new LeaseJobRunner(repository, userRepository, transactionTemplate, shardRing, nodeId,
+				LEASE_DURATION, 10000);
+	}
+
+	/**
+	 * Helper method to let a lease expire, as if its owner died.
+	 * 
+	 * @param name The name of the lease.
+	 */
+	void expire(String name) {
+		jdbcTemplate.update("UPDATE job_lease SET expires_at = UTC_TIMESTAMP(6) - INTERVAL 1 SECOND WHERE name = ?",
+				name);
+	}
+
+	/**
+	 * Unit-Test checking that a lease held by one node is not acquired by another
+	 * node, so the job runs once.
+	 */
+	@Test
+	void liveLeaseIsNotAcquiredBySecondOwner() {
+		List<String> runs = new ArrayList<>();
+
+		nodeA.runExclusively("liveLease", Duration.ZERO, lease -> {
+			runs.add("nodeA");
+			nodeB.runExclusively("liveLease", Duration.ZERO, otherLease -> runs.add("nodeB"));
+		});
+
+		assertEquals(List.of("nodeA"), runs);
+	}
+
+	/**
+	 * Unit-Test checking that an expired lease is taken over by another node with
+	 * a greater fencing token.
+	 */
+	@Test
+	void expiredLeaseIsTakenOverWithGreaterFencingToken() {
+		AtomicReference<Long> fencingTokenA = new AtomicReference<>();
+		AtomicReference<Long> fencingTokenB = new AtomicReference<>();
+
+		nodeA.runExclusively("expiredLease", Duration.ZERO, lease -> {
+			fencingTokenA.set(lease.getFencingToken());
+			expire("expiredLease");
+			nodeB.runExclusively("expiredLease", Duration.ZERO,
+					otherLease -> fencingTokenB.set(otherLease.getFencingToken()));
+		});
+
+		assertNotNull(fencingTokenA.get());
+		assertNotNull(fencingTokenB.get());
+		assertTrue(fencingTokenB.get() > fencingTokenA.get());
+	}
+
+	/**
+	 * Unit-Test checking that a node whose lease was taken over cannot fence its
+	 * writes any more, while the new owner can.
+	 */
+	@Test
+	void fenceFailsAfterTakeover() {
+		AtomicReference<Lease> leaseA = new AtomicReference<>();
+		AtomicReference<Lease> leaseB = new AtomicReference<>();
+
+		nodeA.runExclusively("fencedLease", Duration.ZERO, lease -> {
+			leaseA.set(lease);
+			transactionTemplate.executeWithoutResult(status -> lease.fence());
+			expire("fencedLease");
+			nodeB.runExclusively("fencedLease", Duration.ZERO, otherLease -> {
+				leaseB.set(otherLease);
+				transactionTemplate.executeWithoutResult(status -> otherLease.fence());
+			});
+		});
+
+		assertNotNull(leaseB.get());
+		assertThrows(LeaseLostException.class,
+				() -> transactionTemplate.executeWithoutResult(status -> leaseA.get().fence()));
+		assertTrue(leaseA.get().isLost());
+		assertFalse(leaseB.get().isLost());
+		assertEquals(0, (int) transactionTemplate.execute(status -> repository.lockIfHeld("fencedLease", "nodeA",
+				leaseA.get().getFencingToken())));
+	}
+
+	/**
+	 * Unit-Test checking that a job completed within its interval is skipped by
+	 * every node, while a failed job is run again on the next trigger.
+	 */
+	@Test
+	void completedJobIsSkippedWithinInterval() {
+		AtomicInteger runs = new AtomicInteger();
+
+		nodeA.runExclusively("completedJob", Duration.ofHours(1), lease -> runs.incrementAndGet());
+		nodeA.runExclusively("completedJob", Duration.ofHours(1), lease -> runs.incrementAndGet());
+		nodeB.runExclusively("completedJob", Duration.ofHours(1), lease -> runs.incrementAndGet());
+		assertEquals(1, runs.get());
+
+		AtomicInteger failedRuns = new AtomicInteger();
+		nodeA.runExclusively("failedJob", Duration.ofHours(1), lease -> {
+			failedRuns.incrementAndGet();
+			throw new IllegalStateException("Job failed");
+		});
+		nodeB.runExclusively("failedJob", Duration.ofHours(1), lease -> failedRuns.incrementAndGet());
+		assertEquals(2, failedRuns.get());
+		assertNull(jdbcTemplate.queryForObject("SELECT owner FROM job_lease WHERE name = ?", String.class,
+				"failedJob"));
+	}
+}
\ No newline at end of file
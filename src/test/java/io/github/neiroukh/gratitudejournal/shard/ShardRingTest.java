@@ -0,0 +1,96 @@
+package io.github.neiroukh.gratitudejournal.shard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit-Tests for {@link ShardRing} and {@link ShardIds}, checking how user names
+ * and ids are mapped to shards.
+ * 
+ * @author Afeef Neiroukh
+ */
+class ShardRingTest {
+	/**
+	 * Number of user names mapped by the tests.
+	 */
+	private static final int USERS = 20000;
+
+	/**
+	 * Helper method to create a user name for every user.
+	 * 
+	 * @param user The number of the user.
+	 * @return The user name of the user.
+	 */
+	static String userName(int user) {
+		return "test" + user + "UserName";
+	}
+
+	/**
+	 * Unit-Test mapping user names evenly and deterministically to shards.
+	 */
+	@Test
+	void distribution() {
+		ShardRing ring = new ShardRing(4, 160);
+		ShardRing sameRing = new ShardRing(4, 160);
+		int[] users = new int[4];
+		for (int user = 0; user < USERS; user++) {
+			int shard = ring.shardOf(userName(user));
+			assertEquals(shard, sameRing.shardOf(userName(user)));
+			users[shard]++;
+		}
+
+		for (int shard = 0; shard < 4; shard++)
+			assertTrue(Math.abs(users[shard] - USERS / 4) < USERS / 20,
+					"Shard " + shard + " holds " + users[shard] + " users");
+	}
+
+	/**
+	 * Unit-Test moving only the user names mapped to an added shard.
+	 */
+	@Test
+	void addShard() {
+		ShardRing ring = new ShardRing(3, 160);
+		ShardRing grownRing = new ShardRing(4, 160);
+		int moved = 0;
+		for (int user = 0; user < USERS; user++) {
+			int shard = ring.shardOf(userName(user));
+			int newShard = grownRing.shardOf(userName(user));
+			if (shard != newShard) {
+				assertEquals(3, newShard);
+				moved++;
+			}
+		}
+
+		assertTrue(Math.abs(moved - USERS / 4) < USERS / 20, moved + " users moved");
+		assertEquals(0, new ShardRing(1, 160).shardOf(userName(0)));
+	}
+
+	/**
+	 * Unit-Test embedding the shard in ids and reading it back.
+	 */
+	@Test
+	void ids() {
+		ShardRing ring = new ShardRing(3, 160);
+		List<Long> ids = new ArrayList<>();
+		for (int shard = 0; shard < 3; shard++) {
+			long id = ShardIds.embed(shard, 42);
+			assertEquals(shard, ShardIds.shardOf(id));
+			assertEquals(shard, ring.shardOfId(id));
+			assertFalse(ids.contains(id));
+			ids.add(id);
+		}
+
+		assertEquals(42, ShardIds.embed(0, 42));
+		assertEquals(0, ring.shardOfId(ShardIds.embed(7, 42)));
+		assertEquals(0, ring.shardOfId(-1));
+		assertThrows(IllegalStateException.class, () -> ShardIds.embed(1, 1L << ShardIds.SHARD_SHIFT));
+		assertThrows(IllegalArgumentException.class, () -> new ShardRing(0, 160));
+	}
+}
\ No newline at end of file
@@ -2,21 +2,38 @@ package io.github.neiroukh.gratitudejournal.user;
 
 import io.github.neiroukh.gratitudejournal.user.dto.SimpleUserDTO;
 import io.github.neiroukh.gratitudejournal.user.dto.ReturnUserDTO;
+import io.github.neiroukh.gratitudejournal.user.dto.UserIdsDTO;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJob;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionJobRepository;
+import io.github.neiroukh.gratitudejournal.user.deletion.UserDeletionWorker;
+import io.github.neiroukh.gratitudejournal.journal.entry.DatedJournalEntryDTO;
+import io.github.neiroukh.gratitudejournal.journal.entry.JournalEntry;
 import io.github.neiroukh.gratitudejournal.TestcontainersConfiguration;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureRestTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.client.RestTestClient;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.web.servlet.client.RestTestClient.ResponseSpec;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Unit-Tests for the endpoints in
@@ -42,6 +59,30 @@ class UserApiTest {
 	@Autowired
 	private RestTestClient restTestClient;
 
+	/**
+	 * The Spring CacheManager holding the ids of users by user name.
+	 */
+	@Autowired
+	private CacheManager cacheManager;
+
+	/**
+	 * Template to run code in a transaction.
+	 */
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserDeletionJobRepository deletionJobRepository;
+
+	@Autowired
+	private UserDeletionWorker deletionWorker;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	/**
 	 * Helper method to perform a GET-Request for a user.
 	 * 
@@ -86,6 +127,28 @@ class UserApiTest {
 				.exchange();
 	}
 
+	/**
+	 * Helper method to poll the status URL of a user deletion until the deletion
+	 * job is completed.
+	 * 
+	 * @param location The status URL returned by the DELETE-Request.
+	 * @return The completed {@link UserDeletionJob} object.
+	 * @throws InterruptedException The test thread was interrupted while waiting.
+	 */
+	UserDeletionJob awaitDeletionJob(URI location) throws InterruptedException {
+		for (int attempt = 0; attempt < 100; attempt++) {
+			UserDeletionJob job = restTestClient.get().uri(location).exchange()
+					.expectStatus().isOk()
+					.expectBody(UserDeletionJob.class)
+					.returnResult().getResponseBody();
+			assertNotNull(job);
+			if (job.getStatus() == UserDeletionJob.Status.COMPLETED)
+				return job;
+			Thread.sleep(100);
+		}
+		return fail("Deletion job at " + location + " was not completed");
+	}
+
 	/**
 	 * Helper method to perform a PUT-Request for a user.
 	 * 
@@ -187,12 +250,119 @@ class UserApiTest {
 	 * Unit-Test for DELETE-Request on a user that exists.
 	 */
 	@Test
-	void deleteUserThatDoesExist() {
-		requestDeleteUser("test3UserName")
-				.expectStatus().isNoContent();
+	void deleteUserThatDoesExist() throws InterruptedException {
+		URI location = requestDeleteUser("test3UserName")
+				.expectStatus().isAccepted()
+				.returnResult().getResponseHeaders().getLocation();
+		assertNotNull(location);
 
 		requestGetUser("test3UserName")
 				.expectStatus().isNotFound();
+
+		UserDeletionJob job = awaitDeletionJob(location);
+		assertEquals("test3UserName", job.getUserName());
+		assertEquals(0, job.getDeletedEntries());
+		assertNotNull(job.getCompletedAt());
+	}
+
+	/**
+	 * Unit-Test for DELETE-Request on a user with more journal entries than are
+	 * purged per batch. The user is tombstoned immediately and its user name is
+	 * released once the deletion job is completed.
+	 */
+	@Test
+	void deleteUserWithJournalEntries() throws InterruptedException {
+		String userName = "deletionUserName";
+		requestAndValidatePostUser(userName, "deletionFirstName", "deletionLastName");
+
+		List<DatedJournalEntryDTO> entries = new ArrayList<>();
+		for (int i = 0; i < 120; i++)
+			entries.add(new DatedJournalEntryDTO(LocalDate.now().minusDays(i), JournalEntry.WellBeing.GOOD, "A",
+					"AAA", "B", "BBB"));
+		restTestClient.post().uri("http://localhost:%d/journal/%s/import".formatted(port, userName))
+				.body(entries)
+				.exchange()
+				.expectStatus().isCreated();
+
+		URI location = requestDeleteUser(userName)
+				.expectStatus().isAccepted()
+				.returnResult().getResponseHeaders().getLocation();
+		assertNotNull(location);
+
+		requestGetUser(userName).expectStatus().isNotFound();
+		restTestClient.get().uri("http://localhost:%d/journal/%s".formatted(port, userName)).exchange()
+				.expectStatus().isNotFound();
+		requestDeleteUser(userName).expectStatus().isNotFound();
+
+		assertEquals(120, awaitDeletionJob(location).getDeletedEntries());
+
+		requestAndValidatePostUser(userName, "deletionFirstName", "deletionLastName");
+	}
+
+	/**
+	 * Unit-Test for reading a user's journal right after deleting the user. The
+	 * cached ids of the user are evicted when the deletion is committed, not
+	 * before, so a concurrent read cannot cache them again.
+	 */
+	@Test
+	void deleteUserThenGetJournal() throws InterruptedException {
+		String userName = "cachedIdsUserName";
+		String journalUri = "http://localhost:%d/journal/%s".formatted(port, userName);
+		requestAndValidatePostUser(userName, "cachedIdsFirstName", "cachedIdsLastName");
+		restTestClient.get().uri(journalUri).exchange().expectStatus().isOk();
+
+		Cache userIds = cacheManager.getCache(UserService.USER_IDS_CACHE);
+		assertNotNull(userIds);
+		assertNotNull(userIds.get(userName));
+		transactionTemplate.executeWithoutResult(status -> {
+			userIds.evict(userName);
+			assertNotNull(userIds.get(userName));
+		});
+		assertNull(userIds.get(userName));
+
+		restTestClient.get().uri(journalUri).exchange().expectStatus().isOk();
+		URI location = requestDeleteUser(userName)
+				.expectStatus().isAccepted()
+				.returnResult().getResponseHeaders().getLocation();
+		assertNotNull(location);
+		assertNull(userIds.get(userName));
+		restTestClient.get().uri(journalUri).exchange().expectStatus().isNotFound();
+
+		awaitDeletionJob(location);
+	}
+
+	/**
+	 * Unit-Test for the sweep retrying the deletion jobs whose purge was never
+	 * completed, here a job left pending by a purge that never started.
+	 */
+	@Test
+	void retryPendingDeletionJob() throws InterruptedException {
+		String userName = "pendingDeletionUserName";
+		requestAndValidatePostUser(userName, "pendingDeletionFirstName", "pendingDeletionLastName");
+		UserDeletionJob pendingJob = transactionTemplate.execute(status -> {
+			UserIdsDTO userIds = userRepository.findIdsByUserName(userName).orElseThrow();
+			userRepository.tombstoneById(userIds.userId());
+			return deletionJobRepository
+					.save(new UserDeletionJob(userName, userIds.userId(), userIds.journalId()));
+		});
+		jdbcTemplate.update("UPDATE user_deletion_job SET requested_at = requested_at - INTERVAL 1 HOUR WHERE job_id = ?",
+				pendingJob.getJobId());
+		jdbcTemplate.update("UPDATE job_lease SET completed_at = NULL WHERE name = 'user-deletion-sweep'");
+
+		deletionWorker.retryPendingJobs();
+
+		URI location = URI.create("http://localhost:%d/user/deletion/%d".formatted(port, pendingJob.getJobId()));
+		assertNotNull(awaitDeletionJob(location).getCompletedAt());
+		requestAndValidatePostUser(userName, "pendingDeletionFirstName", "pendingDeletionLastName");
+	}
+
+	/**
+	 * Unit-Test for GET-Request on the status of a non-existing user deletion.
+	 */
+	@Test
+	void getDeletionJobThatDoesNotExist() {
+		restTestClient.get().uri("http://localhost:%d/user/deletion/%d".formatted(port, Long.MIN_VALUE)).exchange()
+				.expectStatus().isNotFound();
 	}
 
 	/**